@@ -0,0 +1,54 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 정규화 요청당 비용 비교
+ *
+ * - regex: 같은 규칙을 JDK 기본 기능으로 처리 (NFC, 소문자, 매번 컴파일되는 정규식으로 공백 정리)
+ *   이전 자동완성/태그 정규화가 사용하던 방식
+ * - singlePass: {@link SearchTokenizer#normalize}
+ * - parse: 정규화를 포함한 검색어 파싱 전체 ({@link SearchQuery#parse})
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchNormalizeBenchmark {
+
+    @Param({
+            "백엔드",                            // 이미 정규화된 짧은 검색어
+            "신입 백엔드 개발자 java spring",       // 이미 정규화된 긴 검색어
+            "  Java  Spring\t백엔드 ",            // 대문자, 연속 공백
+            "\u1107\u1162\u11A8\u110B\u1166\u11AB\u1103\u1173" // 조합형(NFD) "백엔드"
+    })
+    private String query;
+
+    @Benchmark
+    public String regex() {
+        String composed = Normalizer.normalize(query, Normalizer.Form.NFC);
+        return composed.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return SearchTokenizer.normalize(query);
+    }
+
+    @Benchmark
+    public SearchQuery parse() {
+        return SearchQuery.parse(query);
+    }
+}
@@ -0,0 +1,314 @@
+package com.wanted.recruit.apply.batch;
+
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.repository.ApplyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 지원 내역 일괄 저장 (write-behind), 선택 기능: apply.write-behind.enabled=true
+ *
+ * 지원 요청을 제한된 큐에 넣고, 저장 스레드 하나가 모아서 한 트랜잭션에서 JDBC 배치 INSERT로 저장
+ * 요청마다 트랜잭션/INSERT를 하나씩 쓰지 않으므로 몰리는 시간대의 저장 처리량이 크게 늘고, 요청당 최대 max-delay-millis만큼 지연
+ *
+ * 요청한 스레드는 결과가 나올 때까지 기다리므로 응답(성공/중복 지원/없는 공고)은 단건 저장과 같음
+ * - 일괄 저장 성공: 저장된 지원 응답
+ * - 큐가 가득 참, 제약 조건 위반, 일괄 저장 실패, 같은 일괄 안의 중복 요청, 대기 시간 초과: null
+ *   요청한 스레드에서 단건 저장으로 처리하여 유니크/외래 키 제약 조건으로 원인 판별
+ *
+ * 일괄 저장은 한 건이라도 위반하면 전체가 롤백되므로, 위반한 일괄은 절반씩 나눠 각각의 트랜잭션에서 다시 저장
+ * 위반한 요청 하나만 남을 때까지 나누므로 나머지 요청은 일괄 저장되고 위반한 요청만 단건 저장으로 넘어감
+ * (위반 k건이면 추가 트랜잭션은 약 2k * log2(batch-size)개)
+ *
+ * 요청한 스레드는 최대 wait-timeout-millis까지 기다리고, 그때까지 저장 스레드가 가져가지 않은 요청은 취소 후 단건 저장
+ * 이미 저장 중인 요청은 그 결과를 기다리며, 일괄 저장 트랜잭션에도 같은 제한 시간(초 단위 올림)을 두어 대기 시간을 제한
+ * 트랜잭션 제한 시간에 여유를 더한 시간까지 결과가 없거나 종료로 대기가 끝나면 단건 저장
+ * (일괄 저장이 커밋된 경우 단건 저장은 중복 지원으로 판별)
+ */
+@Component
+@Slf4j
+public class ApplyBatchWriter {
+    // 이미 저장 중인 요청의 결과를 트랜잭션 제한 시간보다 더 기다리는 시간 (커밋/롤백 후 응답 전달)
+    private static final int JOIN_MARGIN_SECONDS = 1;
+
+    private final ApplyRepository applyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long waitTimeoutMillis;
+    private final BlockingQueue<PendingApply> queue;
+    private final Set<PendingApply> outstanding = ConcurrentHashMap.newKeySet(); // 결과를 기다리는 요청, 종료 시 완료
+    private final ExecutorService writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "apply-batch-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    /**
+     * @param enabled        일괄 저장 사용 여부, false면 저장 스레드를 시작하지 않고 모든 지원을 단건 저장
+     * @param queueCapacity  대기 가능한 요청 수, 넘으면 단건 저장
+     * @param batchSize      INSERT 한 번에 저장할 최대 요청 수
+     * @param maxDelayMillis 첫 요청 이후 다음 요청을 모으며 기다리는 최대 시간
+     * @param waitTimeoutMillis 요청한 스레드가 일괄 저장 결과를 기다리는 최대 시간, 넘으면 단건 저장
+     */
+    public ApplyBatchWriter(ApplyRepository applyRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${apply.write-behind.enabled:false}") boolean enabled,
+                            @Value("${apply.write-behind.queue-capacity:10000}") int queueCapacity,
+                            @Value("${apply.write-behind.batch-size:500}") int batchSize,
+                            @Value("${apply.write-behind.max-delay-millis:5}") long maxDelayMillis,
+                            @Value("${apply.write-behind.wait-timeout-millis:1000}") long waitTimeoutMillis) {
+        this.applyRepository = applyRepository;
+        // 공유 TransactionTemplate은 그대로 두고 제한 시간만 다른 복사본 사용
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitTimeoutMillis + 999)));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        if (enabled) {
+            running = true;
+            writerExecutor.execute(this::run);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 일괄 저장 요청 후 결과 대기
+     *
+     * @param request 지원 요청 (지원 내역 필터 확인을 마친 요청)
+     * @return 저장된 지원 응답, 일괄 저장하지 못했으면 null (호출한 쪽에서 단건 저장)
+     */
+    public ApplyResponse write(ApplyRequest request) {
+        PendingApply pending = new PendingApply(request);
+        outstanding.add(pending);
+
+        try {
+            if (!running || !queue.offer(pending)) {
+                return null;
+            }
+
+            // 저장 스레드가 남은 요청을 정리한 뒤에 넣은 경우
+            if (!running) {
+                pending.result.complete(null);
+            }
+
+            return pending.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return cancelOrJoin(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelOrJoin(pending);
+        } catch (ExecutionException e) {
+            log.debug("지원 내역 일괄 저장 종료, 단건 저장으로 처리");
+            return null;
+        } finally {
+            outstanding.remove(pending);
+        }
+    }
+
+    /**
+     * 저장 스레드가 아직 가져가지 않은 요청은 취소하고 null (단건 저장),
+     * 이미 저장 중이면 일괄 저장 트랜잭션 제한 시간 안에 나오는 결과를 기다림 (취소하면 같은 지원이 두 번 INSERT 됨)
+     * 그 시간이 지나도 결과가 없거나, 대기 중 인터럽트/종료되면 null (단건 저장)
+     */
+    private ApplyResponse cancelOrJoin(PendingApply pending) {
+        if (pending.claim()) {
+            log.debug("지원 내역 일괄 저장 대기 시간 초과, 단건 저장으로 처리");
+            return null;
+        }
+
+        try {
+            return pending.result.get(transactionTemplate.getTimeout() + JOIN_MARGIN_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("지원 내역 일괄 저장 결과 대기 시간 초과, 단건 저장으로 처리: userId={}, jobPostId={}",
+                    pending.request.getUserId(), pending.request.getJobPostId());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("지원 내역 일괄 저장 종료, 단건 저장으로 처리");
+            return null;
+        }
+    }
+
+    /**
+     * 저장 스레드를 중단하고 결과를 기다리는 요청을 모두 예외로 완료 (요청한 스레드에서 단건 저장)
+     * 인터럽트에 응답하지 않는 JDBC 호출 중이면 저장 스레드가 바로 끝나지 않으므로 직접 완료하고,
+     * 아직 가져가지 않은 요청은 먼저 가져가서 저장 스레드가 저장하지 않게 함
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writerExecutor.shutdownNow();
+
+        IllegalStateException stopped = new IllegalStateException("지원 내역 일괄 저장 종료");
+        outstanding.forEach(pending -> {
+            pending.claim();
+            pending.result.completeExceptionally(stopped);
+        });
+    }
+
+    /**
+     * 저장 스레드: 첫 요청을 기다린 뒤 batchSize 또는 maxDelay까지 모아서 저장
+     */
+    private void run() {
+        List<PendingApply> batch = new ArrayList<>(batchSize);
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+
+                    PendingApply next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 종료 시 남은 요청은 요청한 스레드에서 단건 저장
+            running = false;
+            batch.forEach(pending -> pending.result.complete(null));
+            queue.forEach(pending -> pending.result.complete(null));
+        }
+    }
+
+    /**
+     * 모은 요청 중 취소되지 않은 요청을 저장
+     */
+    private void flush(List<PendingApply> batch) {
+        // 같은 일괄 안의 중복 요청은 첫 요청만 저장, 나머지는 저장 후 단건 저장으로 중복 판별
+        Map<Key, PendingApply> unique = new LinkedHashMap<>();
+        List<PendingApply> duplicated = new ArrayList<>();
+
+        for (PendingApply pending : batch) {
+            // 대기 시간이 지나 요청한 스레드가 단건 저장으로 가져간 요청
+            if (!pending.claim()) {
+                continue;
+            }
+
+            if (unique.putIfAbsent(new Key(pending.request), pending) != null) {
+                duplicated.add(pending);
+            }
+        }
+
+        if (!unique.isEmpty()) {
+            save(new ArrayList<>(unique.values()));
+        }
+
+        duplicated.forEach(pending -> pending.result.complete(null));
+    }
+
+    /**
+     * 한 트랜잭션에서 배치 INSERT 후 저장한 지원 id로 응답을 한 번에 조회
+     * 제약 조건을 위반하면 절반씩 나눠 각각의 트랜잭션에서 다시 저장하고, 한 건만 남아도 위반하면 그 요청만 null
+     */
+    private void save(List<PendingApply> pendings) {
+        Map<Key, ApplyResponse> responses = new HashMap<>();
+
+        try {
+            List<ApplyRequest> requests = pendings.stream()
+                    .map(pending -> pending.request)
+                    .collect(Collectors.toList());
+
+            List<ApplyResponse> saved = transactionTemplate.execute(status ->
+                    applyRepository.findResponses(applyRepository.insertAll(requests)));
+
+            for (ApplyResponse response : saved) {
+                responses.put(new Key(response.getUserId(), response.getJobPostId()), response);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 지원 또는 없는 사용자/채용 공고: 위반한 요청을 찾을 때까지 나눠서 저장
+            if (pendings.size() > 1) {
+                int half = pendings.size() / 2;
+                save(pendings.subList(0, half));
+                save(pendings.subList(half, pendings.size()));
+                return;
+            }
+
+            log.debug("지원 내역 일괄 저장 제약 조건 위반, 단건 저장으로 처리: userId={}, jobPostId={}",
+                    pendings.get(0).request.getUserId(), pendings.get(0).request.getJobPostId());
+        } catch (RuntimeException e) {
+            log.warn("지원 내역 일괄 저장 실패, 단건 저장으로 처리: {}건", pendings.size(), e);
+        }
+
+        // 조회된 응답이 없으면(제약 조건 위반, 일괄 저장 실패, 저장 직후 채용 공고 삭제) 단건 저장에서 원인 판별
+        pendings.forEach(pending -> pending.result.complete(responses.get(new Key(pending.request))));
+    }
+
+    private static class PendingApply {
+        private final ApplyRequest request;
+        private final CompletableFuture<ApplyResponse> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean(); // 저장 스레드(저장) 또는 요청한 스레드(취소) 중 먼저 가져간 쪽이 처리
+
+        private PendingApply(ApplyRequest request) {
+            this.request = request;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final long userId;
+        private final long jobPostId;
+
+        private Key(ApplyRequest request) {
+            this(request.getUserId(), request.getJobPostId());
+        }
+    }
+}
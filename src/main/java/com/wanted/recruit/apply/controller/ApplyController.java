@@ -2,6 +2,7 @@ package com.wanted.recruit.apply.controller;
 
 import com.wanted.recruit.apply.dto.ApplyRequest;
 import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.filter.AppliedFilterStats;
 import com.wanted.recruit.apply.service.ApplyService;
 import com.wanted.recruit.common.exception.exception.AlreadyAppliedException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -36,4 +38,14 @@ public class ApplyController {
     public ResponseEntity<ApplyResponse> apply(@RequestBody @Valid ApplyRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(applyService.apply(request));
     }
+
+    /**
+     * 지원 내역 필터 통계 (운영 모니터링용)
+     *
+     * @return 필터 크기, 중복 확인 조회 생략/수행 건수, 예상/실제 오탐률
+     */
+    @GetMapping("/apply/filter-stats")
+    public ResponseEntity<AppliedFilterStats> appliedFilterStats() {
+        return ResponseEntity.ok().body(applyService.appliedFilterStats());
+    }
 }
@@ -18,11 +18,15 @@ import org.hibernate.annotations.OnDeleteAction;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 // 유일성 제약 조건: 유저와 채용공고 조합
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "job_post_id"}))
+@Table(uniqueConstraints = @UniqueConstraint(name = Apply.UNIQUE_USER_JOB_POST, columnNames = {"user_id", "job_post_id"}))
 @Getter
 public class Apply extends BaseEntity {
+    // 유저-채용공고 유일성 제약 조건 이름, 중복 지원 판별용
+    public static final String UNIQUE_USER_JOB_POST = "uk_apply_user_job_post";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apply_seq")
+    @SequenceGenerator(name = "apply_seq", sequenceName = "apply_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @Column(name = "apply_id")
     private Long id;
 
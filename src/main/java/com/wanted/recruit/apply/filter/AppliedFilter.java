@@ -0,0 +1,156 @@
+package com.wanted.recruit.apply.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지원 내역 (userId, jobPostId) 쌍의 Bloom filter
+ *
+ * 지원 시 "지원한 적 없음"이 확실하면 중복 확인 조회 없이 바로 INSERT 하고,
+ * "지원했을 수 있음"일 때만 DB에서 확인하여 실패할 INSERT(잠금, 롤백)를 피함
+ * - 기동 시 apply 테이블 전체로 채우고({@link AppliedFilterLoader}), 이후 지원이 저장될 때마다 추가
+ * - 삭제는 지원하지 않음: 채용 공고 삭제로 지워진 지원 내역은 오탐(false positive)으로만 남아 DB 확인 한 번이 더 생김
+ * - 다른 서버에서 저장된 지원 내역은 없을 수 있으나, 유니크 제약 조건이 최종적으로 중복을 막으므로 결과는 같음
+ *
+ * 비트 배열은 AtomicLongArray의 CAS로 갱신하므로 락 없이 동시 조회/추가 가능
+ * 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 수 k = m / n ln 2 (n: 예상 지원 수, p: 목표 오탐률)
+ */
+@Component
+public class AppliedFilter {
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLongArray bits;
+
+    private volatile boolean ready;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong positives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 지원 수, 넘어서면 오탐률이 목표보다 커짐
+     * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+     */
+    public AppliedFilter(@Value("${apply.filter.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${apply.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1");
+        }
+
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        long words = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / 64);
+        this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, words)));
+        this.bitSize = bits.length() * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 지원했을 가능성 여부
+     * 기동 시 채우기가 끝나기 전에는 판단할 수 없으므로 false (중복 확인 없이 INSERT, 유니크 제약 조건으로 판별)
+     *
+     * @return false면 지원한 적 없음이 확실, true면 DB 확인 필요
+     */
+    public boolean mightContain(long userId, long jobPostId) {
+        if (!ready) {
+            return false;
+        }
+
+        long hash1 = hash1(userId, jobPostId);
+        long hash2 = hash2(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                negatives.incrementAndGet();
+                return false;
+            }
+        }
+
+        positives.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 지원 내역 추가 (저장 커밋 후, 기동 시 채우는 중에도 호출 가능)
+     */
+    public void put(long userId, long jobPostId) {
+        long hash1 = hash1(userId, jobPostId);
+        long hash2 = hash2(hash1);
+        boolean changed = false;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            changed |= setBit((int) (bit >>> 6), 1L << bit);
+        }
+
+        // 모든 비트가 이미 켜져 있으면 같은 쌍(또는 오탐)이므로 세지 않음
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    /**
+     * mightContain이 true였으나 DB에 지원 내역이 없었던 경우 기록
+     */
+    public void recordFalsePositive() {
+        falsePositives.incrementAndGet();
+    }
+
+    /**
+     * 기동 시 채우기 완료, 이후 mightContain 판단 시작
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public AppliedFilterStats stats() {
+        return new AppliedFilterStats(ready, expectedInsertions, falsePositiveRate, bitSize, hashFunctions,
+                insertions.get(), negatives.get(), positives.get(), falsePositives.get());
+    }
+
+    private boolean setBit(int index, long mask) {
+        long word;
+
+        do {
+            word = bits.get(index);
+
+            if ((word & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(index, word, word | mask));
+
+        return true;
+    }
+
+    // 두 해시로 k개 위치 생성 (Kirsch-Mitzenmacher)
+    private static long hash1(long userId, long jobPostId) {
+        return mix(userId * 0x9E3779B97F4A7C15L ^ mix(jobPostId));
+    }
+
+    private static long hash2(long hash1) {
+        return mix(hash1 ^ 0xC2B2AE3D27D4EB4FL) | 1; // 0이면 k개 위치가 모두 같아지므로 홀수로
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB93F05B6F0EBL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
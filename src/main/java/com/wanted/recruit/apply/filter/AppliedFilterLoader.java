@@ -0,0 +1,40 @@
+package com.wanted.recruit.apply.filter;
+
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.repository.ApplyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 기동 시 apply 테이블 전체를 {@link AppliedFilter}에 추가
+ * 채우는 동안 저장된 지원도 저장 즉시 추가되므로 누락 없음, 완료 전까지 지원은 중복 확인 없이 INSERT
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppliedFilterLoader {
+    private final ApplyRepository applyRepository;
+    private final AppliedFilter appliedFilter;
+
+    /**
+     * 지원 내역의 (userId, jobPostId)만 DB 커서로 읽으며 추가
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        try (Stream<ApplyRequest> applies = applyRepository.streamUserJobPostIds()) {
+            applies.forEach(apply -> appliedFilter.put(apply.getUserId(), apply.getJobPostId()));
+        }
+
+        appliedFilter.markReady();
+        log.info("지원 내역 필터 로딩 완료: {}, {}ms", appliedFilter.stats(), System.currentTimeMillis() - start);
+    }
+}
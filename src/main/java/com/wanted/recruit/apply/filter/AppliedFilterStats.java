@@ -0,0 +1,38 @@
+package com.wanted.recruit.apply.filter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 지원 내역 Bloom filter 설정 및 통계 (기동 후 누적)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class AppliedFilterStats {
+    private final boolean ready; // 기동 시 채우기 완료 여부, 완료 전에는 모든 지원이 바로 INSERT
+    private final long expectedInsertions; // 설정된 예상 지원 수
+    private final double falsePositiveRate; // 설정된 목표 오탐률
+    private final long bitSize; // 비트 수
+    private final int hashFunctions; // 해시 함수 수
+    private final long insertions; // 추가된 (userId, jobPostId) 쌍 수 (근사값)
+    private final long negatives; // 중복 확인 조회 없이 INSERT 한 요청 수
+    private final long positives; // DB에서 중복 여부를 확인한 요청 수
+    private final long falsePositives; // DB 확인 결과 지원 내역이 없었던 요청 수
+
+    /**
+     * 현재 추가된 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+     */
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions / bitSize), hashFunctions);
+    }
+
+    /**
+     * 실제 오탐률: 지원한 적 없는 요청 중 DB 확인을 거친 비율, 요청이 없으면 0
+     */
+    public double getObservedFalsePositiveRate() {
+        long firstApplies = negatives + falsePositives;
+        return firstApplies == 0 ? 0 : (double) falsePositives / firstApplies;
+    }
+}
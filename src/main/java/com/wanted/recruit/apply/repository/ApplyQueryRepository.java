@@ -1,5 +1,13 @@
 package com.wanted.recruit.apply.repository;
 
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.dto.ApplyResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Apply 엔티티에 대한 QueryDsl 리파지토리 인터페이스
  */
@@ -13,4 +21,37 @@ public interface ApplyQueryRepository {
      * @return 이미 지원했을 시 true, 아니면 false
      */
     boolean existsByUserIdAndJobPostId(Long userId, Long jobPostId);
+
+    /**
+     * 지원 내역 응답 조회 (사용자, 채용 공고 조인)
+     *
+     * @param applyId 지원 ID
+     * @return 지원 응답, 없으면 empty
+     */
+    Optional<ApplyResponse> findResponse(Long applyId);
+
+    /**
+     * 전체 지원 내역의 (사용자 ID, 채용 공고 ID)를 한 건씩 조회 (지원 내역 필터 채우기용)
+     * 트랜잭션 안에서 사용 후 닫아야 함
+     *
+     * @return 지원 내역 id 오름차순 스트림
+     */
+    Stream<ApplyRequest> streamUserJobPostIds();
+
+    /**
+     * 지원 내역 여러 건을 JDBC 배치 INSERT로 저장 (트랜잭션 안에서 호출)
+     * 한 건이라도 제약 조건을 위반하면 트랜잭션 롤백으로 전체가 저장되지 않음
+     *
+     * @param requests 저장할 (사용자 ID, 채용 공고 ID), 서로 중복 없음
+     * @return 저장된 지원 ID, requests 순서
+     */
+    List<Long> insertAll(List<ApplyRequest> requests);
+
+    /**
+     * 지원 ID 목록에 해당하는 지원 응답 조회 (사용자, 채용 공고 조인)
+     *
+     * @param applyIds 지원 ID 목록
+     * @return 지원 응답 목록, 순서 보장 X
+     */
+    List<ApplyResponse> findResponses(Collection<Long> applyIds);
 }
@@ -1,9 +1,26 @@
 package com.wanted.recruit.apply.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.entity.Apply;
+import com.wanted.recruit.jobpost.entity.JobPost;
+import com.wanted.recruit.user.entity.User;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.wanted.recruit.apply.entity.QApply.apply;
+import static com.wanted.recruit.jobpost.entity.QJobPost.jobPost;
+import static com.wanted.recruit.user.entity.QUser.user;
 
 
 /**
@@ -12,23 +29,118 @@ import static com.wanted.recruit.apply.entity.QApply.apply;
  */
 @RequiredArgsConstructor
 public class ApplyQueryRepositoryImpl implements ApplyQueryRepository {
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     public final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     /**
      * 채용공고 지원 여부 확인
+     * 엔티티를 읽지 않고 (user_id, job_post_id) 유니크 인덱스에서 한 행만 확인
      *
      * @param userId  사용자 ID
      * @param jobPostId  채용 공고 ID
      * @return 이미 지원했을 시 true, 아니면 false
      */
     public boolean existsByUserIdAndJobPostId(Long userId, Long jobPostId) {
-        long count = queryFactory
-                .selectFrom(apply)
+        Integer found = queryFactory
+                .selectOne()
+                .from(apply)
                 .where(apply.user.id.eq(userId)
                         .and(apply.jobPost.id.eq(jobPostId)))
-                .fetch()
-                .size();
+                .fetchFirst();
+
+        return found != null;
+    }
 
-        return count > 0;
+    /**
+     * 지원 내역 응답 조회
+     * 사용자, 채용 공고를 조인해 응답에 필요한 컬럼만 한 번에 조회 (지연 로딩 없음)
+     *
+     * @param applyId 지원 ID
+     * @return 지원 응답, 없으면 empty
+     */
+    @Override
+    public Optional<ApplyResponse> findResponse(Long applyId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(ApplyResponse.class,
+                        user.id,
+                        user.name,
+                        jobPost.id,
+                        jobPost.position,
+                        apply.createdDate))
+                .from(apply)
+                .join(apply.user, user)
+                .join(apply.jobPost, jobPost)
+                .where(apply.id.eq(applyId))
+                .fetchOne());
+    }
+
+    /**
+     * 전체 지원 내역의 (사용자 ID, 채용 공고 ID)를 한 건씩 조회
+     * 외래 키 컬럼만 읽으므로 사용자/채용 공고 조인 없음
+     *
+     * @return 지원 내역 id 오름차순 스트림
+     */
+    @Override
+    public Stream<ApplyRequest> streamUserJobPostIds() {
+        return queryFactory
+                .select(Projections.constructor(ApplyRequest.class, apply.user.id, apply.jobPost.id))
+                .from(apply)
+                .orderBy(apply.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 지원 내역 여러 건을 JDBC 배치 INSERT로 저장
+     * 시퀀스 id라 INSERT가 flush 시점까지 모이므로 batch_size건씩 배치 하나로 전송
+     * 사용자/채용 공고는 조회 없이 id만 가진 프록시로 연결
+     *
+     * @param requests 저장할 (사용자 ID, 채용 공고 ID), 서로 중복 없음
+     * @return 저장된 지원 ID, requests 순서
+     */
+    @Override
+    public List<Long> insertAll(List<ApplyRequest> requests) {
+        List<Apply> applies = new ArrayList<>(requests.size());
+
+        for (ApplyRequest request : requests) {
+            Apply saved = new Apply(
+                    entityManager.getReference(JobPost.class, request.getJobPostId()),
+                    entityManager.getReference(User.class, request.getUserId()));
+            entityManager.persist(saved);
+            applies.add(saved);
+        }
+
+        // 배치 INSERT 실행, 저장한 엔티티는 더 사용하지 않으므로 영속성 컨텍스트에서 제거
+        // id는 시퀀스에서 persist 시점에 발급되므로 flush 전에도 확정
+        entityManager.flush();
+        entityManager.clear();
+
+        return applies.stream().map(Apply::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * 지원 ID 목록에 해당하는 지원 응답을 한 번에 조회
+     * 방금 저장한 지원만 PK로 조회 (사용자 ID, 채용 공고 ID 목록으로 조회하면 기존 지원 내역과의 조합까지 읽게 됨)
+     *
+     * @param applyIds 지원 ID 목록
+     * @return 지원 응답 목록, 순서 보장 X
+     */
+    @Override
+    public List<ApplyResponse> findResponses(Collection<Long> applyIds) {
+        return queryFactory
+                .select(Projections.constructor(ApplyResponse.class,
+                        user.id,
+                        user.name,
+                        jobPost.id,
+                        jobPost.position,
+                        apply.createdDate))
+                .from(apply)
+                .join(apply.user, user)
+                .join(apply.jobPost, jobPost)
+                .where(apply.id.in(applyIds))
+                .fetch();
     }
 }
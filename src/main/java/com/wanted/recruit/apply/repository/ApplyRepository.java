@@ -8,4 +8,7 @@ import org.springframework.data.repository.Repository;
  */
 public interface ApplyRepository extends Repository<Apply, Long>, ApplyQueryRepository {
     Apply save(Apply apply);
+
+    // 시퀀스 id는 INSERT가 flush 시점에 실행되므로, 제약 조건 위반을 바로 확인해야 할 때 사용
+    Apply saveAndFlush(Apply apply);
 }
@@ -2,7 +2,7 @@ package com.wanted.recruit.apply.service;
 
 import com.wanted.recruit.apply.dto.ApplyRequest;
 import com.wanted.recruit.apply.dto.ApplyResponse;
-import org.springframework.transaction.annotation.Transactional;
+import com.wanted.recruit.apply.filter.AppliedFilterStats;
 
 /**
  * 채용 지원 서비스 인터페이스
@@ -15,6 +15,11 @@ public interface ApplyService {
      * @param request 지원 요청 정보
      * @return 지원 결과 및 응답 객체
      */
-    @Transactional
     ApplyResponse apply(ApplyRequest request);
+
+    /**
+     * 지원 내역 필터 설정 및 통계
+     * @return 비트 수, 해시 함수 수, 중복 확인 조회 생략/수행 건수, 예상/실제 오탐률
+     */
+    AppliedFilterStats appliedFilterStats();
 }
@@ -1,19 +1,26 @@
 package com.wanted.recruit.apply.service;
 
+import com.wanted.recruit.apply.batch.ApplyBatchWriter;
 import com.wanted.recruit.apply.entity.Apply;
 import com.wanted.recruit.apply.dto.ApplyRequest;
 import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.filter.AppliedFilter;
+import com.wanted.recruit.apply.filter.AppliedFilterStats;
 import com.wanted.recruit.apply.repository.ApplyRepository;
-import com.wanted.recruit.jobpost.entity.JobPost;
-import com.wanted.recruit.user.entity.User;
 import com.wanted.recruit.common.exception.exception.AlreadyAppliedException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.common.exception.exception.UserNotFoundException;
 import com.wanted.recruit.jobpost.repository.JobPostRepository;
 import com.wanted.recruit.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Optional;
 
 /**
  * ApplyService 구현체
@@ -21,13 +28,35 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class ApplyServiceImpl implements ApplyService {
+    // MariaDB 중복 키 오류 코드(ER_DUP_ENTRY), SQLState는 무결성 제약 위반 공통값(23000)이라 외래 키 위반과 오류 코드로 구분
+    private static final int DUPLICATE_KEY_ERROR_CODE = 1062;
+    private static final String INTEGRITY_CONSTRAINT_SQL_STATE = "23000";
+    // 표준 SQLState 유니크 제약 위반 (H2 등)
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final ApplyRepository applyRepository;
     private final JobPostRepository jobPostRepository;
     private final UserRepository userRepository;
+    private final AppliedFilter appliedFilter;
+    private final ApplyBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자(userId)가 특정 채용 공고(jobPostId)에 지원
-     * 지원 여부를 확인, 채용 공고/사용자 정보 조회, 지원 결과 저장
+     *
+     * 사전 조회 없이 바로 INSERT 하고, 실패 시 제약 조건으로 원인을 판별
+     * - (user_id, job_post_id) 유니크 제약 위반: 이미 지원
+     * - 외래 키 위반: 채용 공고/사용자 존재 여부를 그때만 조회
+     * 중복 확인과 INSERT 사이의 경쟁 상태가 없고, 정상 지원은 INSERT 1회 + 응답 조회 1회
+     *
+     * 지원 내역 필터({@link AppliedFilter})가 "지원했을 수 있음"으로 판단한 경우에만 먼저 중복 여부를 조회하여
+     * 중복 지원이 실패할 INSERT(유니크 인덱스 잠금, 롤백)까지 가지 않도록 함
+     *
+     * 일괄 저장({@link ApplyBatchWriter})을 사용하면 다른 요청과 모아서 다중 행 INSERT로 저장하고,
+     * 일괄 저장하지 못한 요청(큐 가득 참, 제약 조건 위반 등)만 아래 단건 저장으로 처리
+     *
+     * 프록시 생성, INSERT, 응답 조회는 한 트랜잭션에서 실행
+     * 제약 조건 위반으로 롤백된 뒤의 원인 판별 조회는 트랜잭션 밖에서 실행 (롤백 전용이 된 트랜잭션에서 조회하지 않음)
      *
      * @param request 지원 요청 정보
      * @return 지원 결과 및 응답 객체
@@ -36,22 +65,102 @@ public class ApplyServiceImpl implements ApplyService {
      * @throws UserNotFoundException 사용자가 존재하지 않는 경우
      */
     @Override
-    @Transactional
     public ApplyResponse apply(ApplyRequest request) {
-        // 지원 여부 확인
-        if (applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId())) {
-            throw new AlreadyAppliedException();
+        // 지원했을 가능성이 있을 때만 중복 확인 조회
+        if (appliedFilter.mightContain(request.getUserId(), request.getJobPostId())) {
+            if (applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId())) {
+                throw new AlreadyAppliedException();
+            }
+
+            appliedFilter.recordFalsePositive();
+        }
+
+        if (batchWriter.isEnabled()) {
+            ApplyResponse response = batchWriter.write(request);
+
+            if (response != null) {
+                appliedFilter.put(request.getUserId(), request.getJobPostId());
+                return response;
+            }
         }
 
-        // 채용 공고 조회
-        JobPost jobPost = jobPostRepository.findById(request.getJobPostId()).orElseThrow(JobPostNotFoundException::new);
+        Optional<ApplyResponse> response;
 
-        // 사용자 조회
-        User user = userRepository.findById(request.getUserId()).orElseThrow(UserNotFoundException::new);
+        try {
+            response = transactionTemplate.execute(status -> {
+                // 조회 없이 id만 가진 프록시로 지원 내역 저장, 제약 조건 위반을 여기서 받도록 즉시 flush
+                Apply apply = applyRepository.saveAndFlush(new Apply(
+                        jobPostRepository.getReferenceById(request.getJobPostId()),
+                        userRepository.getReferenceById(request.getUserId())));
 
-        // 지원 내역 저장
-        Apply apply = applyRepository.save(new Apply(jobPost, user));
+                // 응답에 필요한 사용자 이름, 채용 공고 포지션을 조인해 한 번에 조회
+                return applyRepository.findResponse(apply.getId());
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, request);
+        }
+
+        appliedFilter.put(request.getUserId(), request.getJobPostId());
+
+        // 응답 조회 전에 채용 공고가 삭제된 경우 (지원 내역도 함께 삭제됨)
+        return response.orElseThrow(JobPostNotFoundException::new);
+    }
+
+    /**
+     * 지원 내역 필터 설정 및 통계
+     *
+     * @return 비트 수, 해시 함수 수, 중복 확인 조회 생략/수행 건수, 예상/실제 오탐률
+     */
+    @Override
+    public AppliedFilterStats appliedFilterStats() {
+        return appliedFilter.stats();
+    }
+
+    /**
+     * INSERT 실패 원인을 도메인 예외로 변환
+     */
+    private RuntimeException translate(DataIntegrityViolationException e, ApplyRequest request) {
+        if (isDuplicateApply(e)) {
+            // 동시 요청이나 다른 서버에서 저장된 지원: 다음 요청부터는 INSERT 전에 걸러지도록 추가
+            appliedFilter.put(request.getUserId(), request.getJobPostId());
+            return new AlreadyAppliedException();
+        }
+
+        // 외래 키 위반: 실패한 경우에만 존재 여부 확인
+        if (!jobPostRepository.existsById(request.getJobPostId())) {
+            return new JobPostNotFoundException();
+        }
+
+        if (!userRepository.existsById(request.getUserId())) {
+            return new UserNotFoundException();
+        }
+
+        return e;
+    }
+
+    /**
+     * (user_id, job_post_id) 유니크 제약 위반 여부
+     * DB에 따라 제약 조건 이름의 대소문자가 다르므로 대소문자 무시
+     * 드라이버가 제약 조건 이름을 주지 않으면 SQLException의 SQLState/오류 코드로 중복 키 여부 판별
+     * (지원 테이블의 유니크 제약은 (user_id, job_post_id) 하나뿐, id는 시퀀스로 발급)
+     */
+    private static boolean isDuplicateApply(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT)
+                        .contains(Apply.UNIQUE_USER_JOB_POST);
+            }
+
+            if (cause instanceof SQLException sqlException && isDuplicateKey(sqlException)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 
-        return new ApplyResponse(apply);
+    private static boolean isDuplicateKey(SQLException e) {
+        return (INTEGRITY_CONSTRAINT_SQL_STATE.equals(e.getSQLState()) && e.getErrorCode() == DUPLICATE_KEY_ERROR_CODE)
+                || UNIQUE_VIOLATION_SQL_STATE.equals(e.getSQLState());
     }
 }
@@ -1,5 +1,9 @@
 package com.wanted.recruit.common.config;
 
+import com.wanted.recruit.common.entity.BaseEntity;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
@@ -9,4 +13,18 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @Configuration
 @EnableJpaAuditing // Auditing 활성화 -> createdDate, updatedDate 자동 관리
 public class JpaConfig {
+
+    /**
+     * JDBC 배치 설정 (spring.jpa.properties.hibernate.*로 지정한 값이 있으면 그 값 사용)
+     * - 같은 테이블의 INSERT/UPDATE를 모아 배치 하나로 전송, 시퀀스 id({@link BaseEntity#ID_ALLOCATION_SIZE})와 함께 사용
+     * - 여러 엔티티를 섞어 저장해도 테이블별로 정렬하여 배치가 끊기지 않도록 함
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BaseEntity.ID_ALLOCATION_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
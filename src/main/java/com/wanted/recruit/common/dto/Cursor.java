@@ -0,0 +1,64 @@
+package com.wanted.recruit.common.dto;
+
+import com.wanted.recruit.common.exception.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서
+ * (생성일, PK) 조합으로 마지막으로 조회한 행의 위치를 나타내며, 클라이언트에는 불투명한 문자열로 전달
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class Cursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdDate; // 마지막으로 조회한 행의 생성일
+    private final Long id; // 마지막으로 조회한 행의 PK
+
+    /**
+     * 커서를 URL-safe Base64 문자열로 인코딩
+     *
+     * @return 클라이언트에 전달할 커서 토큰
+     */
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰 디코딩
+     *
+     * @param token 커서 토큰
+     * @return 디코딩된 커서, 토큰이 없으면 null(첫 페이지)
+     * @throws InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+
+            if (idx < 0) {
+                throw new InvalidCursorException();
+            }
+
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException은 IllegalArgumentException의 하위 타입
+            throw new InvalidCursorException();
+        }
+    }
+}
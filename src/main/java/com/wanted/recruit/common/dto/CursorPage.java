@@ -0,0 +1,44 @@
+package com.wanted.recruit.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답용 DTO
+ *
+ * @param <T> 페이지 항목 타입
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content; // 현재 페이지 항목
+    private String nextCursor; // 다음 페이지 조회용 커서, 마지막 페이지면 null
+
+    /**
+     * limit + 1개까지 조회된 행으로 페이지 생성
+     * 한 행을 더 조회해 다음 페이지 존재 여부를 판단하고, 다음 페이지가 있으면 현재 페이지 마지막 항목으로 커서 생성
+     *
+     * @param rows            limit + 1개까지 조회된 행
+     * @param limit           페이지 크기
+     * @param cursorExtractor 항목에서 커서를 추출하는 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Cursor> cursorExtractor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> content = new ArrayList<>(rows.subList(0, limit));
+        String nextCursor = cursorExtractor.apply(content.get(limit - 1)).encode();
+
+        return new CursorPage<>(content, nextCursor);
+    }
+}
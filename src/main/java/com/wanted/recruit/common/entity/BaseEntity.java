@@ -18,6 +18,14 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 public class BaseEntity {
+    /**
+     * 시퀀스 id 할당 크기 (pooled optimizer)
+     * 시퀀스를 한 번 조회할 때마다 이만큼의 id를 메모리에서 배정하므로 INSERT마다 id를 조회하지 않고,
+     * IDENTITY와 달리 INSERT를 flush 시점까지 미룰 수 있어 JDBC 배치가 적용됨
+     * 시퀀스의 INCREMENT BY와 같아야 함
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @CreatedDate
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdDate; // 생성 일자
@@ -0,0 +1,10 @@
+package com.wanted.recruit.common.exception.exception;
+
+/**
+ * 페이지네이션 커서 형식이 올바르지 않은 경우
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("페이지 커서가 올바르지 않아요.");
+    }
+}
@@ -41,6 +41,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
     }
 
+    /**
+     * 페이지네이션 커서를 해석할 수 없는 경우
+     * @param e InvalidCursorException
+     * @return 400 BAD_REQUEST
+     * {
+     *     title: InvalidCursorException,
+     *     message: 페이지 커서가 올바르지 않아요.
+     * }
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public HttpEntity<ErrorResponse> handleException(InvalidCursorException e) {
+        ErrorResponse er = new ErrorResponse(e.getClass().getSimpleName(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
+    }
+
     /**
      * 이미 지원한 공고에 다시 지원하려는 경우에 발생
      * @param e AlreadyAppliedException
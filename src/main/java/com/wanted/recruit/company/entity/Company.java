@@ -9,12 +9,14 @@ import lombok.*;
  */
 @Entity
 @Table(name = "company")
+@EntityListeners(CompanyEventListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 @Getter
 public class Company extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "company_seq")
+    @SequenceGenerator(name = "company_seq", sequenceName = "company_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @Column(name = "company_id")
     private Long id;
 
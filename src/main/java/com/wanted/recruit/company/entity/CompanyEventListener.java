@@ -0,0 +1,27 @@
+package com.wanted.recruit.company.entity;
+
+import com.wanted.recruit.company.event.CompanyChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회사 엔티티 리스너
+ * 서비스를 거치지 않는 변경(변경 감지로 인한 UPDATE 등)도 놓치지 않도록 flush 시점에 {@link CompanyChangedEvent} 발행
+ * 구독자는 @TransactionalEventListener로 커밋 후에 처리
+ *
+ * Hibernate가 스프링 빈 컨테이너로 생성하므로 의존성 주입 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyEventListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Company company) {
+        eventPublisher.publishEvent(new CompanyChangedEvent(company.getId()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.wanted.recruit.company.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 회사 저장/수정 이벤트
+ * 회사명/국가/지역은 채용 공고 목록과 검색 결과에 함께 노출되므로, 구독자는 해당 회사의 채용 공고를 다시 반영
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class CompanyChangedEvent {
+    private final Long companyId; // 저장/수정된 회사 id
+}
@@ -13,4 +13,6 @@ public interface CompanyRepository extends Repository<Company, Long> {
     Company save(Company company);
 
     Optional<Company> findById(Long id);
+
+    boolean existsById(Long id);
 }
@@ -1,20 +1,31 @@
 package com.wanted.recruit.jobpost.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.recruit.common.dto.CursorPage;
 import com.wanted.recruit.common.exception.exception.CompanyNotFoundException;
+import com.wanted.recruit.common.exception.exception.InvalidCursorException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostRequest;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
 import com.wanted.recruit.jobpost.dto.JobPostUpdateRequest;
+import com.wanted.recruit.jobpost.dto.SearchSort;
+import com.wanted.recruit.jobpost.search.SearchCacheStats;
+import com.wanted.recruit.jobpost.search.Suggestion;
 import com.wanted.recruit.jobpost.service.JobPostService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -25,34 +36,123 @@ import java.util.List;
 @Slf4j
 public class JobPostController {
     private final JobPostService jobPostService;
+    private final ObjectMapper objectMapper;
+
+    // 상세 조회 expand 값: 회사의 다른 채용 공고 요약
+    private static final String EXPAND_OTHERS = "others";
 
     /**
      * 채용 공고 목록 조회
+     * 최신순(생성일, id 내림차순) 커서 기반 페이지네이션
+     *
+     * 검색어가 있고 sort=relevance면 관련도 점수(score) 상위 limit개만 반환 (다음 페이지 없음)
      *
      * @param searchQuery (optional) 채용 공고 필터링 조건
-     * @return 채용 공고 목록
+     * @param cursor      (optional) 이전 페이지 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit       (optional) 페이지 크기, 기본 20
+     * @param sort        (optional) 검색 결과 정렬 기준(latest, relevance), 기본 latest
+     * @param fuzzy       (optional) 오타 허용 검색 여부 ("sprng" -> "spring"), 기본 false
+     * @return 채용 공고 목록 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우(BAD_REQUEST)
      */
     @GetMapping("/job")
-    public ResponseEntity<List<JobPostResponse>> getAll(@RequestParam(value = "search", required = false) String searchQuery) {
+    public ResponseEntity<CursorPage<JobPostResponse>> getAll(@RequestParam(value = "search", required = false) String searchQuery,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                              @RequestParam(value = "sort", defaultValue = "latest") String sort,
+                                                              @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
         // 검색어가 있으면
         if(searchQuery != null && !searchQuery.trim().isEmpty()) {
-            return ResponseEntity.ok().body(jobPostService.search(searchQuery));
+            if (SearchSort.from(sort) == SearchSort.RELEVANCE) {
+                return ResponseEntity.ok().body(jobPostService.searchByRelevance(searchQuery, limit, fuzzy));
+            }
+
+            return ResponseEntity.ok().body(jobPostService.search(searchQuery, cursor, limit, fuzzy));
         }
 
         // 검색어 없으면 전체 목록 반환
-        return ResponseEntity.ok().body(jobPostService.getAll());
+        return ResponseEntity.ok().body(jobPostService.getAll(cursor, limit));
+    }
+
+    /**
+     * 검색창 자동완성
+     * 입력할 때마다 호출해도 DB를 조회하지 않음
+     *
+     * @param prefix 입력 중인 검색어, 한글 자모 입력 허용 ("백ㅇ" -> "백엔드")
+     * @param limit  (optional) 최대 후보 수, 기본 10, 최대 10
+     * @return 채용 포지션/회사명/기술 태그 후보, 인기도(채용 공고 수) 내림차순
+     */
+    @GetMapping("/job/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(@RequestParam(value = "prefix", defaultValue = "") String prefix,
+                                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok().body(jobPostService.suggest(prefix, limit));
+    }
+
+    /**
+     * 검색 결과 캐시 통계 (운영 모니터링용)
+     *
+     * @return 적중/미적중/제거 건수, 적중률, 현재 캐시 크기
+     */
+    @GetMapping("/job/search/cache-stats")
+    public ResponseEntity<SearchCacheStats> searchCacheStats() {
+        return ResponseEntity.ok().body(jobPostService.searchCacheStats());
+    }
+
+    /**
+     * 전체 채용 공고 내보내기 (NDJSON)
+     * 한 줄에 채용 공고 하나씩, DB에서 읽는 즉시 응답 스트림에 기록하므로 테이블 크기와 무관하게 메모리 사용량 일정
+     *
+     * @param response 채용 공고를 기록할 HTTP 응답
+     * @throws IOException 응답 스트림 기록 실패 시
+     */
+    @GetMapping(value = "/job/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        OutputStream out = response.getOutputStream();
+        jobPostService.exportAll(jobPost -> writeLine(out, jobPost));
+        out.flush();
     }
 
     /**
      * 특정 채용 공고의 세부 정보 조회
+     * 회사의 다른 채용 공고 id는 최신순 othersLimit개씩, 이어지는 id는 응답의 otherJobPostNextCursor로 조회
+     * expand=others면 다른 채용 공고 요약(id, 포지션, 보상금)도 함께 반환
      *
-     * @param id 조회할 채용 공고 Id
+     * @param id           조회할 채용 공고 Id
+     * @param othersCursor (optional) 이전 응답의 otherJobPostNextCursor, 없으면 첫 페이지
+     * @param othersLimit  (optional) 다른 채용 공고 id 페이지 크기, 기본 20
+     * @param expand       (optional) 함께 반환할 항목, 쉼표로 구분 (others)
      * @return 채용 공고 세부정보
      * @throws JobPostNotFoundException 해당 지원 공고가 존재하지 않는 경우(NOT_FOUND)
+     * @throws InvalidCursorException   커서 형식이 올바르지 않은 경우(BAD_REQUEST)
      */
     @GetMapping("/job/{id}")
-    public ResponseEntity<JobPostDetail> getDetail(@PathVariable("id") Long id) {
-        return ResponseEntity.ok().body(jobPostService.getDetail(id));
+    public ResponseEntity<JobPostDetail> getDetail(@PathVariable("id") Long id,
+                                                   @RequestParam(value = "othersCursor", required = false) String othersCursor,
+                                                   @RequestParam(value = "othersLimit", defaultValue = "20") int othersLimit,
+                                                   @RequestParam(value = "expand", required = false) List<String> expand) {
+        boolean expandOthers = expand != null && expand.contains(EXPAND_OTHERS);
+        return ResponseEntity.ok().body(jobPostService.getDetail(id, othersCursor, othersLimit, expandOthers));
+    }
+
+    /**
+     * 회사의 채용 공고 목록 조회
+     * 최신순(생성일, id 내림차순) 커서 기반 페이지네이션
+     *
+     * @param companyId 회사 id
+     * @param cursor    (optional) 이전 페이지 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit     (optional) 페이지 크기, 기본 20
+     * @return 회사의 채용 공고 목록 페이지
+     * @throws InvalidCursorException   커서 형식이 올바르지 않은 경우(BAD_REQUEST)
+     * @throws CompanyNotFoundException 해당 회사가 존재하지 않는 경우(NOT_FOUND)
+     */
+    @GetMapping("/company/{id}/jobs")
+    public ResponseEntity<CursorPage<JobPostResponse>> getByCompany(@PathVariable("id") Long companyId,
+                                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                                    @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok().body(jobPostService.getByCompany(companyId, cursor, limit));
     }
 
     /**
@@ -93,4 +193,17 @@ public class JobPostController {
         jobPostService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 채용 공고 하나를 JSON 한 줄로 기록
+     */
+    private void writeLine(OutputStream out, JobPostResponse jobPost) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(jobPost));
+            out.write('\n');
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 -> 스트리밍 중단, DB 커서도 함께 정리됨
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.wanted.recruit.jobpost.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
+import com.wanted.recruit.common.dto.Cursor;
 import com.wanted.recruit.jobpost.entity.JobPost;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,18 +12,46 @@ import java.util.List;
 
 /**
  * 채용 공고 상세 정보 응답용 DTO
- * {@link JobPost}의 기본 정보와 해당 회사의 다른 채용 공고 ID 목록을 포함
+ * {@link JobPost}의 기본 정보와 해당 회사의 다른 채용 공고 ID 목록(최신순 한 페이지)을 포함
+ * 회사의 공고가 많아도 응답 크기가 일정하도록 다른 채용 공고 ID는 페이지 단위로 제공
  */
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 public class JobPostDetail extends JobPostResponse {
-    // 해당 회사의 다른 채용 공고 ID 목록
-    private List<Long> otherJotPostByCompany;
+    // 해당 회사의 다른 채용 공고 ID 목록, 최신순(생성일, id 내림차순) 한 페이지
+    private OtherJobPostIds otherJotPostByCompany;
+
+    // 다른 채용 공고 ID 다음 페이지 조회용 커서 토큰(othersCursor), 마지막 페이지면 null
+    private String otherJobPostNextCursor;
+
+    // 다른 채용 공고 요약, otherJotPostByCompany와 같은 순서 (expand=others 요청 시에만 포함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<JobPostSummary> otherJobPosts;
 
     @QueryProjection
     public JobPostDetail(JobPost jobPost, List<Long> otherJotPostByCompany) {
-        super(jobPost);
+        this(new JobPostResponse(jobPost), OtherJobPostIds.of(otherJotPostByCompany));
+    }
+
+    public JobPostDetail(JobPostResponse response, List<Long> otherJotPostByCompany) {
+        this(response, OtherJobPostIds.of(otherJotPostByCompany));
+    }
+
+    public JobPostDetail(JobPostResponse response, OtherJobPostIds otherJotPostByCompany) {
+        super(response.getJobPostId(), response.getPosition(), response.getReward(), response.getContent(),
+                response.getTechStack(), response.getCreateDate(), response.getUpdateDate(), response.getCompany());
         this.otherJotPostByCompany = otherJotPostByCompany;
+        Cursor nextCursor = otherJotPostByCompany.getNextCursor();
+        this.otherJobPostNextCursor = nextCursor == null ? null : nextCursor.encode();
+    }
+
+    /**
+     * 다른 채용 공고 요약 포함 (expand=others)
+     *
+     * @param otherJobPosts otherJotPostByCompany 순서의 요약 목록
+     */
+    public void expandOtherJobPosts(List<JobPostSummary> otherJobPosts) {
+        this.otherJobPosts = otherJobPosts;
     }
 }
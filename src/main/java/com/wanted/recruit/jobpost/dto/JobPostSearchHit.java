@@ -0,0 +1,20 @@
+package com.wanted.recruit.jobpost.dto;
+
+import lombok.*;
+
+/**
+ * 관련도순 검색 결과 항목 DTO
+ * 채용 공고 응답에 관련도 점수 추가
+ */
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class JobPostSearchHit extends JobPostResponse {
+    private double score; // 관련도 점수, 높을수록 검색어와 관련 있음
+
+    public JobPostSearchHit(JobPostResponse response, double score) {
+        super(response.getJobPostId(), response.getPosition(), response.getReward(), response.getContent(),
+                response.getTechStack(), response.getCreateDate(), response.getUpdateDate(), response.getCompany());
+        this.score = score;
+    }
+}
@@ -0,0 +1,29 @@
+package com.wanted.recruit.jobpost.dto;
+
+import com.wanted.recruit.common.dto.CursorPage;
+import com.wanted.recruit.jobpost.search.SearchFacets;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 채용 공고 검색 결과 페이지 DTO
+ * 커서 페이지에 검색된 전체 공고의 필드 값별 건수(facets)와 결과 잘림 여부(truncated) 추가
+ */
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class JobPostSearchPage extends CursorPage<JobPostResponse> {
+    private SearchFacets facets; // 국가/지역/태그/보상금 구간별 건수, 인덱스 로딩 전(DB 검색)에는 null
+    private boolean truncated; // 검색 비용 상한에 걸려 일부 결과만 반환했는지 여부
+
+    public JobPostSearchPage(CursorPage<JobPostResponse> page, SearchFacets facets) {
+        this(page, facets, false);
+    }
+
+    public JobPostSearchPage(CursorPage<JobPostResponse> page, SearchFacets facets, boolean truncated) {
+        super(page.getContent(), page.getNextCursor());
+        this.facets = facets;
+        this.truncated = truncated;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanted.recruit.jobpost.dto;
+
+import lombok.*;
+
+/**
+ * 채용 공고 요약 DTO
+ * 상세 조회 시 회사의 다른 채용 공고를 함께 보여주기 위한 최소 정보 (expand=others)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostSummary {
+    private Long jobPostId; // 채용 공고 id
+    private String position; // 채용 포지션
+    private int reward; // 채용 보상금
+}
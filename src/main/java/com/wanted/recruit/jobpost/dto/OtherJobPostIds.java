@@ -0,0 +1,171 @@
+package com.wanted.recruit.jobpost.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.jobpost.search.CompanyJobPosts;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 회사의 다른 채용 공고 id 한 페이지, 최신순(생성일, id 내림차순 - 회사 채용 공고 목록과 같은 순서), 불변
+ *
+ * 회사의 채용 공고 id 오래된 순 배열 중 [from, to) 구간을 뒤에서부터 읽는 뷰이며, 상세 조회한 공고 하나는 제외
+ * 검색 인덱스가 가진 배열 스냅샷을 복사/boxing 없이 그대로 참조하고,
+ * 응답 시 {@link OtherJobPostIdsSerializer}가 제외할 id만 건너뛰며 JSON 숫자 배열로 바로 기록
+ */
+@JsonSerialize(using = OtherJobPostIdsSerializer.class)
+public final class OtherJobPostIds {
+    private static final OtherJobPostIds EMPTY = new OtherJobPostIds(new long[0], 0, 0, -1, 0, null);
+
+    private final long[] sortedIds; // 오래된 순(생성일, id 오름차순), 수정하지 않음
+    private final int from;
+    private final int to;
+    private final long excludedId;
+    private final int size;
+    private final Cursor nextCursor; // 페이지의 마지막(가장 오래된) 공고 위치, 마지막 페이지면 null
+
+    private OtherJobPostIds(long[] sortedIds, int from, int to, long excludedId, int size, Cursor nextCursor) {
+        this.sortedIds = sortedIds;
+        this.from = from;
+        this.to = to;
+        this.excludedId = excludedId;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 회사의 채용 공고 목록에서 최신순 한 페이지
+     *
+     * @param jobPosts   회사의 채용 공고 목록 (이후 수정되지 않는 스냅샷)
+     * @param excludedId 제외할 채용 공고 id (상세 조회한 공고)
+     * @param after      이전 페이지의 nextCursor, 목록에서 이 위치보다 오래된 공고만 포함 (첫 페이지면 null)
+     *                   커서의 공고가 그 사이 삭제되어도 같은 위치부터 이어서 조회
+     * @param limit      페이지 크기
+     */
+    public static OtherJobPostIds page(CompanyJobPosts jobPosts, long excludedId, Cursor after, int limit) {
+        int to = after == null ? jobPosts.size() : jobPosts.lowerBound(after.getCreatedDate(), after.getId());
+        return page(jobPosts, to, excludedId, limit);
+    }
+
+    /**
+     * DB에서 조회한 다른 채용 공고로 한 페이지 생성
+     *
+     * @param others 다른 채용 공고의 (생성일, id), 최신순, 다음 페이지 확인을 위해 limit + 1개까지 조회한 목록
+     * @param limit  페이지 크기
+     */
+    public static OtherJobPostIds page(List<Cursor> others, int limit) {
+        long[] ids = new long[others.size()];
+        LocalDateTime[] createdDates = new LocalDateTime[others.size()];
+
+        // 오래된 순 배열로 뒤집어 저장
+        for (int i = 0; i < ids.length; i++) {
+            Cursor other = others.get(i);
+            ids[ids.length - 1 - i] = other.getId();
+            createdDates[ids.length - 1 - i] = other.getCreatedDate();
+        }
+
+        return page(CompanyJobPosts.of(ids, createdDates), ids.length, -1, limit);
+    }
+
+    /**
+     * id 목록 전체를 한 페이지로 생성 (다음 페이지 없음)
+     *
+     * @param ids 다른 채용 공고 id 목록, 최신순
+     */
+    public static OtherJobPostIds of(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sortedIds = new long[ids.size()];
+
+        for (int i = 0; i < sortedIds.length; i++) {
+            sortedIds[sortedIds.length - 1 - i] = ids.get(i);
+        }
+
+        return new OtherJobPostIds(sortedIds, 0, sortedIds.length, -1, sortedIds.length, null);
+    }
+
+    /**
+     * 오래된 순 목록의 [0, to) 구간에서 뒤에서부터 최대 limit개
+     */
+    private static OtherJobPostIds page(CompanyJobPosts jobPosts, int to, long excludedId, int limit) {
+        long[] sortedIds = jobPosts.ids();
+        int from = to;
+        int size = 0;
+
+        while (from > 0 && size < limit) {
+            if (sortedIds[--from] != excludedId) {
+                size++;
+            }
+        }
+
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        // 남은 구간에 제외할 id가 아닌 id가 있으면 다음 페이지 존재
+        boolean hasNext = from > 1 || (from == 1 && sortedIds[0] != excludedId);
+        Cursor nextCursor = hasNext ? new Cursor(jobPosts.createdDate(from), sortedIds[from]) : null;
+
+        return new OtherJobPostIds(sortedIds, from, to, excludedId, size, nextCursor);
+    }
+
+    public static OtherJobPostIds empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * 최신순 id 배열 (복사본)
+     */
+    public long[] toArray() {
+        long[] ids = new long[size];
+        int count = 0;
+
+        for (int i = to - 1; i >= from; i--) {
+            if (sortedIds[i] != excludedId) {
+                ids[count++] = sortedIds[i];
+            }
+        }
+
+        return ids;
+    }
+
+    /**
+     * 직렬화용: 제외할 id를 포함한 원본 배열을 그대로 노출 (수정 금지)
+     */
+    long[] sortedIds() {
+        return sortedIds;
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    long excludedId() {
+        return excludedId;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
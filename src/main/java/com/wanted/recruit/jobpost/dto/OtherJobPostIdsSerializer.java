@@ -0,0 +1,40 @@
+package com.wanted.recruit.jobpost.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * {@link OtherJobPostIds}를 JSON 숫자 배열로 기록
+ * 중간 List/배열을 만들지 않고 원본 배열의 페이지 구간을 뒤에서부터 순회하며 제외할 id만 건너뜀
+ */
+public class OtherJobPostIdsSerializer extends StdSerializer<OtherJobPostIds> {
+
+    public OtherJobPostIdsSerializer() {
+        super(OtherJobPostIds.class);
+    }
+
+    @Override
+    public void serialize(OtherJobPostIds value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        long[] sortedIds = value.sortedIds();
+        long excludedId = value.excludedId();
+
+        gen.writeStartArray(value, value.size());
+
+        // 최신순(생성일, id 내림차순)
+        for (int i = value.to() - 1; i >= value.from(); i--) {
+            if (sortedIds[i] != excludedId) {
+                gen.writeNumber(sortedIds[i]);
+            }
+        }
+
+        gen.writeEndArray();
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, OtherJobPostIds value) {
+        return value.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.wanted.recruit.jobpost.dto;
+
+import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과 정렬 기준
+ */
+public enum SearchSort {
+    LATEST, // 최신순, 커서 기반 페이지네이션
+    RELEVANCE; // 관련도순, 상위 limit개만 반환
+
+    /**
+     * 요청 파라미터 값(대소문자 무시)으로 정렬 기준 조회
+     *
+     * @param value 요청 파라미터 값
+     * @return 정렬 기준
+     * @throws InvalidSearchQueryException 지원하지 않는 정렬 기준인 경우
+     */
+    public static SearchSort from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchQueryException("정렬 기준은 latest, relevance 중 하나만 사용할 수 있어요.");
+        }
+    }
+}
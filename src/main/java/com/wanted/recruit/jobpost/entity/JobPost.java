@@ -17,12 +17,18 @@ import org.hibernate.annotations.OnDeleteAction;
  * 채용 공고 엔티티
  */
 @Entity
-@Table(name = "job_post")
+// 목록 키셋 페이지네이션(created_date, job_post_id)용 인덱스
+@Table(name = "job_post", indexes = {
+        @Index(name = "idx_job_post_created_date_id", columnList = "created_date, job_post_id"),
+        @Index(name = "idx_job_post_company_created_date_id", columnList = "company_id, created_date, job_post_id"), // 회사별 목록
+        @Index(name = "idx_job_post_reward", columnList = "reward") // 보상금 범위 검색(reward>=...)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class JobPost extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_post_seq")
+    @SequenceGenerator(name = "job_post_seq", sequenceName = "job_post_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @Column(name = "job_post_id")
     private Long id;
 
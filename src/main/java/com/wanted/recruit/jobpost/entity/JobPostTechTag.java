@@ -0,0 +1,45 @@
+package com.wanted.recruit.jobpost.entity;
+
+import com.wanted.recruit.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 채용 공고 - 기술 태그 연결 엔티티
+ */
+@Entity
+// 유일성 제약 조건: 채용 공고와 태그 조합, 태그로 채용 공고를 찾는 조회용 인덱스
+@Table(name = "job_post_tech_tag",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_post_id", "tech_tag_id"}),
+        indexes = @Index(name = "idx_job_post_tech_tag_tag_id", columnList = "tech_tag_id, job_post_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class JobPostTechTag extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_post_tech_tag_seq")
+    @SequenceGenerator(name = "job_post_tech_tag_seq", sequenceName = "job_post_tech_tag_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
+    @Column(name = "job_post_tech_tag_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @NotNull
+    private JobPost jobPost;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tech_tag_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @NotNull
+    private TechTag techTag;
+
+    public JobPostTechTag(JobPost jobPost, TechTag techTag) {
+        this.jobPost = jobPost;
+        this.techTag = techTag;
+    }
+}
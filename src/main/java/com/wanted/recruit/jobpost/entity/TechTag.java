@@ -0,0 +1,32 @@
+package com.wanted.recruit.jobpost.entity;
+
+import com.wanted.recruit.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기술 태그 엔티티
+ * 채용 공고의 사용 기술을 정규화한 태그 하나 (java, spring, ...)
+ */
+@Entity
+// 유일성 제약 조건: 정규화된 태그 이름
+@Table(name = "tech_tag", uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TechTag extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tech_tag_id")
+    private Long id;
+
+    @NotBlank
+    @Column(length = 50)
+    private String name; // 정규화된 태그 이름 (TechTagParser)
+
+    public TechTag(String name) {
+        this.name = name;
+    }
+}
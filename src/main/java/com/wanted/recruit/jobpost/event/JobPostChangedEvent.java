@@ -0,0 +1,17 @@
+package com.wanted.recruit.jobpost.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 채용 공고 저장/수정 이벤트
+ * 트랜잭션 커밋 후 구독자에게 전달되며, 변경된 내용은 구독자가 id로 다시 조회
+ * -> 이벤트 처리 순서가 뒤바뀌어도 항상 커밋된 최신 상태를 반영
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class JobPostChangedEvent {
+    private final Long jobPostId; // 저장/수정된 채용 공고 id
+}
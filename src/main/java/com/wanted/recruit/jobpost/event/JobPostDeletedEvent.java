@@ -0,0 +1,16 @@
+package com.wanted.recruit.jobpost.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 채용 공고 삭제 이벤트
+ * 트랜잭션 커밋 후 구독자에게 전달
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class JobPostDeletedEvent {
+    private final Long jobPostId; // 삭제된 채용 공고 id
+}
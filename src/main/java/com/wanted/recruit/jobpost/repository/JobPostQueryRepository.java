@@ -1,28 +1,131 @@
 package com.wanted.recruit.jobpost.repository;
 
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
+import com.wanted.recruit.jobpost.dto.JobPostSummary;
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JobPost 엔티티에 대한 QueryDsl 리파지토리 인터페이스
  */
 public interface JobPostQueryRepository {
     /**
-     * 검색어를 통해 채용 공고 조회
+     * 채용 공고 목록 페이지 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회
      *
-     * @param searchQuery 검색어
+     * @param cursor 마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit  조회할 최대 행 수
+     * @return 채용 공고 리스트
+     */
+    List<JobPostResponse> findPage(Cursor cursor, int limit);
+
+    /**
+     * 검색어를 통해 채용 공고 페이지 조회
+     * 검색어 구문 트리를 SQL 조건으로 변환해 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회
+     *
+     * @param searchQuery 파싱된 검색어
+     * @param cursor      마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit       조회할 최대 행 수
      * @return 검색어가 포함된 채용 공고 리스트
+     * @throws org.springframework.dao.QueryTimeoutException 실행 시간 제한을 넘은 경우
+     */
+    List<JobPostResponse> search(SearchQuery searchQuery, Cursor cursor, int limit);
+
+    /**
+     * id 목록에 해당하는 채용 공고 조회
+     * 검색 인덱스로 찾은 페이지의 공고 정보 조회용
+     *
+     * @param ids 채용 공고 id 목록
+     * @return 채용 공고 리스트, 순서 보장 X
+     */
+    List<JobPostResponse> findByIds(List<Long> ids);
+
+    /**
+     * 전체 채용 공고를 전방향(forward-only) 커서로 한 건씩 조회
+     * 호출한 쪽에서 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     *
+     * @return id 오름차순 채용 공고 스트림
+     */
+    Stream<JobPostResponse> streamAll();
+
+    /**
+     * 전체 채용 공고를 검색 인덱스 문서로 한 건씩 조회
+     * 호출한 쪽에서 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     *
+     * @return id 오름차순 검색 문서 스트림
+     */
+    Stream<JobPostDocument> streamDocuments();
+
+    /**
+     * 특정 시각 이후 수정된 채용 공고(회사 정보가 수정된 경우 포함)를 검색 인덱스 문서로 한 건씩 조회
+     * 저장된 검색 인덱스 복원 후 체크포인트 이후 변경분을 따라잡는 용도
+     * 호출한 쪽에서 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     *
+     * @param since 기준 시각 (이 시각 이후 수정된 행 포함)
+     * @return id 오름차순 검색 문서 스트림
+     */
+    Stream<JobPostDocument> streamDocumentsUpdatedSince(LocalDateTime since);
+
+    /**
+     * 모든 채용 공고 id를 한 건씩 조회
+     * 저장된 검색 인덱스 복원 후 체크포인트 이후 삭제된 채용 공고를 찾는 용도
+     * 호출한 쪽에서 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     *
+     * @return id 오름차순 스트림
+     */
+    Stream<Long> streamIds();
+
+    /**
+     * 채용 공고 하나를 검색 인덱스 문서로 조회
+     *
+     * @param id 채용 공고 id
+     * @return 검색 문서, 없으면(삭제된 경우) empty
+     */
+    Optional<JobPostDocument> findDocument(Long id);
+
+    /**
+     * 특정 회사의 모든 채용 공고를 검색 인덱스 문서로 조회
+     *
+     * @param companyId 회사 id
+     * @return 검색 문서 리스트
+     */
+    List<JobPostDocument> findDocumentsByCompanyId(Long companyId);
+
+    /**
+     * 채용 공고 상세 조회 (회사 정보, 같은 회사의 다른 채용 공고 id 한 페이지 포함)
+     * 쿼리 한 번으로 조회
+     *
+     * @param id             채용 공고 id
+     * @param othersAfter 이전 페이지 마지막 다른 공고의 커서, (생성일, id)가 이보다 작은 다른 공고만 포함 (첫 페이지면 null)
+     * @param othersLimit 다른 공고 id 페이지 크기
+     * @return 채용 공고 상세 정보, 없으면 empty
+     */
+    Optional<JobPostDetail> findDetail(Long id, Cursor othersAfter, int othersLimit);
+
+    /**
+     * id 목록에 해당하는 채용 공고 요약 조회 (IN 쿼리 한 번)
+     *
+     * @param ids 채용 공고 id 목록
+     * @return 채용 공고 요약 리스트, 순서 보장 X
      */
-    List<JobPostResponse> search(String searchQuery);
+    List<JobPostSummary> findSummariesByIds(List<Long> ids);
 
     /**
-     * 특정 회사의 다른 채용 공고 id 목록 조회
-     * 특정 채용 공고(a)의 추가적인 정보로 제공 -> 즉, 채용정보 a는 제외
+     * 회사의 채용 공고 목록 페이지 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회
      *
-     * @param companyId 회사 Id
-     * @param jobPostId 채용 공고 id
-     * @return 회사의 다른 채용 공고 ID 목록
+     * @param companyId 회사 id
+     * @param cursor    마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit     조회할 최대 행 수
+     * @return 회사의 채용 공고 리스트
      */
-    List<Long> getOtherJobPost(Long companyId, Long jobPostId);
+    List<JobPostResponse> findPageByCompanyId(Long companyId, Cursor cursor, int limit);
 }
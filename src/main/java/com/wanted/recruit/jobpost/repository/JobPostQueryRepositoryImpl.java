@@ -1,11 +1,27 @@
 package com.wanted.recruit.jobpost.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.jobpost.dto.CompanyResponse;
+import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
-import com.wanted.recruit.jobpost.dto.QJobPostResponse;
+import com.wanted.recruit.jobpost.dto.JobPostSummary;
+import com.wanted.recruit.jobpost.dto.OtherJobPostIds;
+import com.wanted.recruit.jobpost.entity.QJobPost;
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.wanted.recruit.company.entity.QCompany.company;
 import static com.wanted.recruit.jobpost.entity.QJobPost.jobPost;
@@ -18,46 +34,309 @@ import static com.wanted.recruit.jobpost.entity.QJobPost.jobPost;
 public class JobPostQueryRepositoryImpl implements JobPostQueryRepository {
     private final JPAQueryFactory queryFactory;
 
+    // 스트리밍 조회 시 JDBC 드라이버가 한 번에 가져올 행 수
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    // 검색 쿼리 실행 시간 제한(초), 한 글자 검색어 등으로 LIKE 스캔이 길어져 커넥션을 오래 점유하지 않도록 함
+    private static final int SEARCH_TIMEOUT_SECONDS = 3;
+
+    // 채용 공고와 회사 컬럼을 조인 한 번으로 읽어 바로 응답 DTO로 매핑
+    // 엔티티를 조회한 뒤 지연 로딩된 회사를 건마다 조회하는 N+1 문제 방지
+    private static final Expression<JobPostResponse> JOB_POST_RESPONSE = Projections.constructor(JobPostResponse.class,
+            jobPost.id,
+            jobPost.position,
+            jobPost.reward,
+            jobPost.content,
+            jobPost.techStack,
+            jobPost.createdDate,
+            jobPost.updatedDate,
+            Projections.constructor(CompanyResponse.class,
+                    company.id,
+                    company.name,
+                    company.nation,
+                    company.region
+            )
+    );
+
+    // 검색 인덱스 문서 Projection
+    private static final Expression<JobPostDocument> JOB_POST_DOCUMENT = Projections.constructor(JobPostDocument.class,
+            jobPost.id,
+            company.id,
+            jobPost.createdDate,
+            jobPost.reward,
+            jobPost.position,
+            jobPost.techStack,
+            jobPost.content,
+            company.name,
+            company.nation,
+            company.region,
+            jobPost.updatedDate,
+            company.updatedDate
+    );
+
+    /**
+     * 채용 공고 목록 페이지 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회
+     *
+     * @param cursor 마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit  조회할 최대 행 수
+     * @return 채용 공고 리스트
+     */
+    @Override
+    public List<JobPostResponse> findPage(Cursor cursor, int limit) {
+        return queryFactory.select(JOB_POST_RESPONSE)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .where(afterCursor(cursor))
+                .orderBy(jobPost.createdDate.desc(), jobPost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
-     * 검색어를 통해 채용 공고 조회
+     * 검색어를 통해 채용 공고 페이지 조회
+     * 검색어 구문 트리를 SQL 조건으로 변환해 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회
      *
-     * @param searchQuery 검색어
+     * @param searchQuery 파싱된 검색어
+     * @param cursor      마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit       조회할 최대 행 수
      * @return 검색어가 포함된 채용 공고 리스트
+     * @throws org.springframework.dao.QueryTimeoutException 실행 시간 제한(SEARCH_TIMEOUT_SECONDS)을 넘은 경우
      */
     @Override
-    public List<JobPostResponse> search(String searchQuery) {
-        return queryFactory.select(
-                        new QJobPostResponse(jobPost)
-                )
+    public List<JobPostResponse> search(SearchQuery searchQuery, Cursor cursor, int limit) {
+        return queryFactory.select(JOB_POST_RESPONSE)
                 .from(jobPost)
                 .join(jobPost.company, company)
                 .where(
-                        jobPost.company.name.contains(searchQuery)
-                                .or(jobPost.company.nation.contains(searchQuery))
-                                .or(jobPost.company.region.contains(searchQuery))
-                                .or(jobPost.content.contains(searchQuery))
-                                .or(jobPost.position.contains(searchQuery))
-                                .or(jobPost.techStack.contains(searchQuery))
+                        SearchQueryPredicateBuilder.toPredicate(searchQuery.getRoot()),
+                        afterCursor(cursor)
                 )
+                .orderBy(jobPost.createdDate.desc(), jobPost.id.desc())
+                .limit(limit)
+                .setHint(HibernateHints.HINT_TIMEOUT, SEARCH_TIMEOUT_SECONDS) // JDBC statement timeout
                 .fetch();
     }
 
     /**
-     * 특정 회사의 다른 채용 공고 id 목록 조회
-     * 특정 채용 공고(a)의 추가적인 정보로 제공 -> 즉, 채용정보 a는 제외
+     * id 목록에 해당하는 채용 공고 조회
+     * 검색 인덱스로 찾은 페이지의 공고 정보 조회용
      *
-     * @param companyId 회사 Id
-     * @param jobPostId 채용 공고 id
-     * @return 회사의 다른 채용 공고 ID 목록
+     * @param ids 채용 공고 id 목록
+     * @return 채용 공고 리스트, 순서 보장 X
      */
-    public List<Long> getOtherJobPost(Long companyId, Long jobPostId) {
-        return queryFactory
-                .select(jobPost.id)
+    @Override
+    public List<JobPostResponse> findByIds(List<Long> ids) {
+        return queryFactory.select(JOB_POST_RESPONSE)
                 .from(jobPost)
-                .where(
-                        jobPost.company.id.eq(companyId)
-                                .and(jobPost.id.ne(jobPostId))
-                )
+                .join(jobPost.company, company)
+                .where(jobPost.id.in(ids))
                 .fetch();
     }
+
+    /**
+     * 전체 채용 공고를 전방향(forward-only) 커서로 한 건씩 조회
+     * DTO Projection이므로 조회한 행이 영속성 컨텍스트에 쌓이지 않아 테이블 크기와 무관하게 메모리 사용량 일정
+     *
+     * @return id 오름차순 채용 공고 스트림
+     */
+    @Override
+    public Stream<JobPostResponse> streamAll() {
+        return queryFactory.select(JOB_POST_RESPONSE)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .orderBy(jobPost.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 전체 채용 공고를 검색 인덱스 문서로 한 건씩 조회
+     *
+     * @return id 오름차순 검색 문서 스트림
+     */
+    @Override
+    public Stream<JobPostDocument> streamDocuments() {
+        return queryFactory.select(JOB_POST_DOCUMENT)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .orderBy(jobPost.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 특정 시각 이후 수정된 채용 공고(회사 정보가 수정된 경우 포함)를 검색 인덱스 문서로 한 건씩 조회
+     *
+     * @param since 기준 시각 (이 시각 이후 수정된 행 포함)
+     * @return id 오름차순 검색 문서 스트림
+     */
+    @Override
+    public Stream<JobPostDocument> streamDocumentsUpdatedSince(LocalDateTime since) {
+        return queryFactory.select(JOB_POST_DOCUMENT)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .where(jobPost.updatedDate.goe(since).or(company.updatedDate.goe(since)))
+                .orderBy(jobPost.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 모든 채용 공고 id를 한 건씩 조회
+     *
+     * @return id 오름차순 스트림
+     */
+    @Override
+    public Stream<Long> streamIds() {
+        return queryFactory.select(jobPost.id)
+                .from(jobPost)
+                .orderBy(jobPost.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 채용 공고 하나를 검색 인덱스 문서로 조회
+     *
+     * @param id 채용 공고 id
+     * @return 검색 문서, 없으면(삭제된 경우) empty
+     */
+    @Override
+    public Optional<JobPostDocument> findDocument(Long id) {
+        return Optional.ofNullable(queryFactory.select(JOB_POST_DOCUMENT)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .where(jobPost.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 특정 회사의 모든 채용 공고를 검색 인덱스 문서로 조회
+     *
+     * @param companyId 회사 id
+     * @return 검색 문서 리스트
+     */
+    @Override
+    public List<JobPostDocument> findDocumentsByCompanyId(Long companyId) {
+        return queryFactory.select(JOB_POST_DOCUMENT)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .where(company.id.eq(companyId))
+                .fetch();
+    }
+
+    /**
+     * 채용 공고 상세 조회
+     * 공고, 회사, 같은 회사의 다른 채용 공고 id 한 페이지를 쿼리 한 번으로 조회
+     * (공고 조회 -> 지연 로딩된 회사 조회 -> 다른 공고 id 조회, 세 번의 왕복을 하나로 합침)
+     *
+     * 같은 회사의 다른 공고를 left join 하므로 다른 공고 수만큼 행이 반복되며, 첫 행의 공고 정보와 각 행의 다른 공고 id를 합침
+     * 다른 공고를 최신순(생성일, id 내림차순 - 회사 채용 공고 목록과 같은 순서)으로 정렬해 othersLimit + 1개 행만 조회하므로
+     * 회사의 공고 수와 무관하게 조회량 일정
+     * (한 행을 더 조회해 다음 페이지 존재 여부 판단)
+     * 다른 공고가 없어도 공고 정보는 한 행으로 조회됨
+     *
+     * @param id             채용 공고 id
+     * @param othersAfter 이전 페이지 마지막 다른 공고의 커서, 최신순으로 이 위치 다음의 다른 공고만 조회 (첫 페이지면 null)
+     * @param othersLimit 다른 공고 id 페이지 크기
+     * @return 채용 공고 상세 정보, 없으면 empty
+     */
+    @Override
+    public Optional<JobPostDetail> findDetail(Long id, Cursor othersAfter, int othersLimit) {
+        QJobPost other = new QJobPost("other");
+
+        List<Tuple> rows = queryFactory.select(JOB_POST_RESPONSE, other.id, other.createdDate)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .leftJoin(other).on(other.company.id.eq(company.id)
+                        .and(other.id.ne(jobPost.id))
+                        .and(afterCursor(other, othersAfter)))
+                .where(jobPost.id.eq(id))
+                .orderBy(other.createdDate.desc(), other.id.desc())
+                .limit(othersLimit + 1L)
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Cursor> others = new ArrayList<>(rows.size());
+
+        for (Tuple row : rows) {
+            Long otherId = row.get(other.id);
+
+            if (otherId != null) {
+                others.add(new Cursor(row.get(other.createdDate), otherId));
+            }
+        }
+
+        return Optional.of(new JobPostDetail(rows.get(0).get(JOB_POST_RESPONSE),
+                OtherJobPostIds.page(others, othersLimit)));
+    }
+
+    /**
+     * id 목록에 해당하는 채용 공고 요약 조회
+     * 상세 조회의 다른 채용 공고 요약용, 요약 컬럼만 읽고 회사는 조인하지 않음
+     *
+     * @param ids 채용 공고 id 목록
+     * @return 채용 공고 요약 리스트, 순서 보장 X
+     */
+    @Override
+    public List<JobPostSummary> findSummariesByIds(List<Long> ids) {
+        return queryFactory.select(Projections.constructor(JobPostSummary.class,
+                        jobPost.id,
+                        jobPost.position,
+                        jobPost.reward))
+                .from(jobPost)
+                .where(jobPost.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 회사의 채용 공고 목록 페이지 조회
+     * (생성일, id) 내림차순 정렬, 커서 이후의 행만 조회 (company_id, created_date, job_post_id 인덱스 사용)
+     *
+     * @param companyId 회사 id
+     * @param cursor    마지막으로 조회한 행의 커서, 첫 페이지면 null
+     * @param limit     조회할 최대 행 수
+     * @return 회사의 채용 공고 리스트
+     */
+    @Override
+    public List<JobPostResponse> findPageByCompanyId(Long companyId, Cursor cursor, int limit) {
+        return queryFactory.select(JOB_POST_RESPONSE)
+                .from(jobPost)
+                .join(jobPost.company, company)
+                .where(jobPost.company.id.eq(companyId), afterCursor(cursor))
+                .orderBy(jobPost.createdDate.desc(), jobPost.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(Cursor cursor) {
+        return afterCursor(jobPost, cursor);
+    }
+
+    /**
+     * 커서 이후의 행만 남기는 seek 조건
+     * (created_date, job_post_id) < (cursor.createdDate, cursor.id)
+     *
+     * @param target 조건을 걸 채용 공고 (목록 조회는 jobPost, 상세의 다른 공고는 별칭)
+     * @param cursor 마지막으로 조회한 행의 커서
+     * @return 커서 조건, 첫 페이지면 null(조건 없음)
+     */
+    private BooleanExpression afterCursor(QJobPost target, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return target.createdDate.lt(cursor.getCreatedDate())
+                .or(target.createdDate.eq(cursor.getCreatedDate())
+                        .and(target.id.lt(cursor.getId())));
+    }
 }
@@ -3,6 +3,7 @@ package com.wanted.recruit.jobpost.repository;
 import com.wanted.recruit.jobpost.entity.JobPost;
 import org.springframework.data.repository.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +13,19 @@ import java.util.Optional;
 public interface JobPostRepository extends Repository<JobPost, Long>, JobPostQueryRepository {
     JobPost save(JobPost jobPost);
 
+    // 시퀀스 id는 INSERT가 flush 시점에 실행되므로, 제약 조건 위반을 바로 확인해야 할 때 사용
+    JobPost saveAndFlush(JobPost jobPost);
+
     boolean existsById(Long id);
 
     Optional<JobPost> findById(Long id);
 
+    // 조회 없이 id만 가진 프록시 반환 (연관 관계 저장용)
+    JobPost getReferenceById(Long id);
+
     void deleteById(Long id);
 
     List<JobPost> findAll();
+
+    List<JobPost> findAllByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,31 @@
+package com.wanted.recruit.jobpost.repository;
+
+import com.wanted.recruit.jobpost.entity.JobPostTechTag;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 채용 공고 - 기술 태그 연결 엔티티 용 Spring Data JPA Repository 인터페이스
+ */
+public interface JobPostTechTagRepository extends Repository<JobPostTechTag, Long> {
+    <S extends JobPostTechTag> List<S> saveAll(Iterable<S> jobPostTechTags);
+
+    void deleteAll(Iterable<? extends JobPostTechTag> jobPostTechTags);
+
+    @Query("select jt from JobPostTechTag jt join fetch jt.techTag where jt.jobPost.id = :jobPostId")
+    List<JobPostTechTag> findWithTagByJobPostId(@Param("jobPostId") Long jobPostId);
+
+    /**
+     * 태그가 하나도 연결되지 않은 채용 공고 id, 오름차순 (기존 데이터 태그 채우기용)
+     *
+     * @param afterId 이 id보다 큰 채용 공고만 조회
+     * @param limit   최대 조회 수
+     */
+    @Query(value = "SELECT jp.job_post_id FROM job_post jp WHERE jp.job_post_id > :afterId"
+            + " AND NOT EXISTS (SELECT 1 FROM job_post_tech_tag jt WHERE jt.job_post_id = jp.job_post_id)"
+            + " ORDER BY jp.job_post_id LIMIT :limit", nativeQuery = true)
+    List<Long> findUntaggedJobPostIds(@Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,121 @@
+package com.wanted.recruit.jobpost.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.wanted.recruit.jobpost.search.SearchField;
+import com.wanted.recruit.jobpost.search.query.AndQuery;
+import com.wanted.recruit.jobpost.search.query.NotQuery;
+import com.wanted.recruit.jobpost.search.query.OrQuery;
+import com.wanted.recruit.jobpost.search.query.QueryNode;
+import com.wanted.recruit.jobpost.search.query.QueryVisitor;
+import com.wanted.recruit.jobpost.search.query.RewardQuery;
+import com.wanted.recruit.jobpost.search.query.TagQuery;
+import com.wanted.recruit.jobpost.search.query.TermQuery;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.wanted.recruit.company.entity.QCompany.company;
+import static com.wanted.recruit.jobpost.entity.QJobPost.jobPost;
+import static com.wanted.recruit.jobpost.entity.QJobPostTechTag.jobPostTechTag;
+import static com.wanted.recruit.jobpost.entity.QTechTag.techTag;
+
+/**
+ * 검색어 구문 트리를 QueryDSL 조건으로 변환
+ * 검색 인덱스를 사용할 수 없을 때(기동 직후) DB 검색용
+ * 검색어는 바인딩 파라미터로 전달되고, LIKE 특수문자(%, _)는 QueryDSL이 이스케이프
+ */
+final class SearchQueryPredicateBuilder implements QueryVisitor<BooleanExpression> {
+    private static final Map<SearchField, StringPath> COLUMNS = new EnumMap<>(SearchField.class);
+
+    static {
+        COLUMNS.put(SearchField.POSITION, jobPost.position);
+        COLUMNS.put(SearchField.TECH_STACK, jobPost.techStack);
+        COLUMNS.put(SearchField.CONTENT, jobPost.content);
+        COLUMNS.put(SearchField.COMPANY_NAME, company.name);
+        COLUMNS.put(SearchField.NATION, company.nation);
+        COLUMNS.put(SearchField.REGION, company.region);
+    }
+
+    private static final SearchQueryPredicateBuilder INSTANCE = new SearchQueryPredicateBuilder();
+
+    private SearchQueryPredicateBuilder() {
+    }
+
+    /**
+     * 구문 트리를 QueryDSL 조건으로 변환
+     *
+     * @param root 검색어 구문 트리
+     * @return 검색 조건
+     */
+    static BooleanExpression toPredicate(QueryNode root) {
+        return root.accept(INSTANCE);
+    }
+
+    @Override
+    public BooleanExpression visitTerm(TermQuery query) {
+        if (query.getField() != null) {
+            return COLUMNS.get(query.getField()).contains(query.getText());
+        }
+
+        BooleanExpression anyField = null;
+
+        for (StringPath column : COLUMNS.values()) {
+            BooleanExpression contains = column.contains(query.getText());
+            anyField = anyField == null ? contains : anyField.or(contains);
+        }
+
+        return anyField;
+    }
+
+    /**
+     * 태그 조건: 태그 연결 테이블 EXISTS 서브쿼리 (job_post_tech_tag 유일성 제약 인덱스 사용)
+     */
+    @Override
+    public BooleanExpression visitTag(TagQuery query) {
+        return JPAExpressions.selectOne()
+                .from(jobPostTechTag)
+                .join(jobPostTechTag.techTag, techTag)
+                .where(jobPostTechTag.jobPost.id.eq(jobPost.id), techTag.name.eq(query.getTag()))
+                .exists();
+    }
+
+    @Override
+    public BooleanExpression visitReward(RewardQuery query) {
+        int value = query.getValue();
+
+        switch (query.getOperator()) {
+            case GT:
+                return jobPost.reward.gt(value);
+            case GOE:
+                return jobPost.reward.goe(value);
+            case LT:
+                return jobPost.reward.lt(value);
+            case LOE:
+                return jobPost.reward.loe(value);
+            default:
+                return jobPost.reward.eq(value);
+        }
+    }
+
+    @Override
+    public BooleanExpression visitAnd(AndQuery query) {
+        return Expressions.allOf(query.getChildren().stream()
+                .map(child -> child.accept(this))
+                .toArray(BooleanExpression[]::new));
+    }
+
+    @Override
+    public BooleanExpression visitOr(OrQuery query) {
+        return Expressions.anyOf(query.getChildren().stream()
+                .map(child -> child.accept(this))
+                .toArray(BooleanExpression[]::new));
+    }
+
+    @Override
+    public BooleanExpression visitNot(NotQuery query) {
+        return query.getChild().accept(this).not();
+    }
+}
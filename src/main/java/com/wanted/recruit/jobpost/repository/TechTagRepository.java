@@ -0,0 +1,28 @@
+package com.wanted.recruit.jobpost.repository;
+
+import com.wanted.recruit.jobpost.entity.TechTag;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 기술 태그 엔티티 용 Spring Data JPA Repository 인터페이스
+ */
+public interface TechTagRepository extends Repository<TechTag, Long> {
+    List<TechTag> findByNameIn(Collection<String> names);
+
+    /**
+     * 태그가 없을 때만 저장
+     * 같은 태그를 동시에 처음 저장해도 유일성 제약 위반으로 요청이 실패하지 않도록 INSERT IGNORE 사용
+     *
+     * @param name 정규화된 태그 이름
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tech_tag (name, created_date, updated_date) VALUES (:name, NOW(6), NOW(6))",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name);
+}
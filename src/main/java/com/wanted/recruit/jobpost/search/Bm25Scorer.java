@@ -0,0 +1,81 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.List;
+
+/**
+ * BM25F 관련도 점수 계산
+ *
+ * 검색어 항목(term)마다 필드별 등장 횟수를 필드 길이로 정규화하고 필드 가중치(boost)를 곱해 합산한 뒤,
+ * 포화 함수(k1)와 IDF를 적용해 더함
+ * - 필드 길이는 정규화된 문자열 길이, 평균 길이는 색인 전체 기준
+ * - 부분 문자열 검색이므로 등장 횟수는 겹치지 않는 부분 문자열 개수
+ *
+ * 검색 한 번에 하나씩 생성 (검색 시점의 색인 통계 스냅샷)
+ */
+final class Bm25Scorer {
+    private static final double K1 = 1.2; // 등장 횟수 포화 정도
+    private static final double B = 0.75; // 필드 길이 정규화 정도
+
+    private static final SearchField[] FIELDS = SearchField.values();
+
+    private final List<String> terms;
+    private final double[] idf; // terms 순서의 IDF
+    private final double[] averageLengths; // SearchField 순서의 평균 필드 길이
+
+    /**
+     * @param terms              정규화된 검색어 항목
+     * @param documentFrequency  terms 순서의 검색어 항목이 포함된 문서 수
+     * @param documentCount      전체 문서 수
+     * @param averageLengths     SearchField 순서의 평균 필드 길이
+     */
+    Bm25Scorer(List<String> terms, int[] documentFrequency, int documentCount, double[] averageLengths) {
+        this.terms = terms;
+        this.idf = new double[terms.size()];
+        this.averageLengths = averageLengths;
+
+        for (int i = 0; i < idf.length; i++) {
+            double df = Math.min(documentFrequency[i], documentCount);
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    /**
+     * 문서의 관련도 점수
+     */
+    double score(JobPostDocument document) {
+        double score = 0;
+
+        for (int i = 0; i < idf.length; i++) {
+            double weightedFrequency = 0;
+
+            for (SearchField field : FIELDS) {
+                String text = document.text(field);
+                int frequency = countOccurrences(text, terms.get(i));
+
+                if (frequency == 0) {
+                    continue;
+                }
+
+                double averageLength = Math.max(averageLengths[field.ordinal()], 1);
+                double lengthNorm = 1 - B + B * text.length() / averageLength;
+                weightedFrequency += field.getBoost() * frequency / lengthNorm;
+            }
+
+            score += idf[i] * weightedFrequency * (K1 + 1) / (weightedFrequency + K1);
+        }
+
+        return score;
+    }
+
+    private static int countOccurrences(String text, String term) {
+        int count = 0;
+        int from = text.indexOf(term);
+
+        while (from >= 0) {
+            count++;
+            from = text.indexOf(term, from + term.length());
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,163 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 회사 하나의 채용 공고 id 목록, 오래된 순(생성일 오름차순, 같으면 id 오름차순), 불변
+ *
+ * 회사 채용 공고 목록(/company/{id}/jobs)과 같은 (생성일, id) 기준으로 정렬하여 뒤에서부터 읽으면 목록과 같은 최신순
+ * id는 시퀀스에서 인스턴스마다 블록 단위로 발급되므로 id 순서가 생성 순서와 다를 수 있음
+ * 변경 시 새 배열로 복사한 인스턴스를 만들어 교체하며, 검색 스레드는 락 없이 이전 인스턴스를 계속 읽음
+ */
+public final class CompanyJobPosts {
+    static final CompanyJobPosts EMPTY = new CompanyJobPosts(new long[0], new LocalDateTime[0]);
+
+    private static final Comparator<JobPostDocument> OLDEST_FIRST = Comparator
+            .comparing(JobPostDocument::getCreatedDate)
+            .thenComparingLong(JobPostDocument::getId);
+
+    private final long[] ids;
+    private final LocalDateTime[] createdDates; // ids와 같은 순서의 생성일
+
+    private CompanyJobPosts(long[] ids, LocalDateTime[] createdDates) {
+        this.ids = ids;
+        this.createdDates = createdDates;
+    }
+
+    /**
+     * 정렬된 배열로 생성, 배열은 복사하지 않고 그대로 사용
+     *
+     * @param ids          채용 공고 id, (생성일, id) 오름차순
+     * @param createdDates ids와 같은 순서의 생성일
+     */
+    public static CompanyJobPosts of(long[] ids, LocalDateTime[] createdDates) {
+        if (ids.length != createdDates.length) {
+            throw new IllegalArgumentException("id와 생성일 수가 다릅니다.");
+        }
+
+        return ids.length == 0 ? EMPTY : new CompanyJobPosts(ids, createdDates);
+    }
+
+    /**
+     * 한 회사의 문서로 생성 (순서 무관)
+     */
+    static CompanyJobPosts of(List<JobPostDocument> documents) {
+        JobPostDocument[] sorted = documents.toArray(new JobPostDocument[0]);
+        Arrays.sort(sorted, OLDEST_FIRST);
+
+        long[] ids = new long[sorted.length];
+        LocalDateTime[] createdDates = new LocalDateTime[sorted.length];
+
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+            createdDates[i] = sorted[i].getCreatedDate();
+        }
+
+        return of(ids, createdDates);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public LocalDateTime createdDate(int index) {
+        return createdDates[index];
+    }
+
+    /**
+     * 채용 공고 id 배열, 불변 스냅샷이므로 수정하지 말 것
+     */
+    public long[] ids() {
+        return ids;
+    }
+
+    /**
+     * (생성일, id)보다 앞이 아닌 첫 위치, 즉 [0, 반환값) 구간이 (생성일, id)보다 오래된 공고
+     * 해당 공고가 그 사이 삭제되어 목록에 없어도 같은 위치를 반환
+     */
+    public int lowerBound(LocalDateTime createdDate, long id) {
+        int index = binarySearch(createdDate, id);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 문서를 추가한 목록, 이미 있으면 this
+     */
+    CompanyJobPosts with(JobPostDocument document) {
+        int index = binarySearch(document.getCreatedDate(), document.getId());
+
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertAt = -index - 1;
+        long[] addedIds = new long[ids.length + 1];
+        LocalDateTime[] addedDates = new LocalDateTime[ids.length + 1];
+        System.arraycopy(ids, 0, addedIds, 0, insertAt);
+        System.arraycopy(createdDates, 0, addedDates, 0, insertAt);
+        addedIds[insertAt] = document.getId();
+        addedDates[insertAt] = document.getCreatedDate();
+        System.arraycopy(ids, insertAt, addedIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(createdDates, insertAt, addedDates, insertAt + 1, ids.length - insertAt);
+        return new CompanyJobPosts(addedIds, addedDates);
+    }
+
+    /**
+     * 문서를 제거한 목록, 없으면 this
+     *
+     * @param document 추가할 때 사용한 문서 (같은 생성일로 찾음)
+     */
+    CompanyJobPosts without(JobPostDocument document) {
+        int index = binarySearch(document.getCreatedDate(), document.getId());
+
+        if (index < 0) {
+            return this;
+        }
+
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+
+        long[] removedIds = new long[ids.length - 1];
+        LocalDateTime[] removedDates = new LocalDateTime[ids.length - 1];
+        System.arraycopy(ids, 0, removedIds, 0, index);
+        System.arraycopy(createdDates, 0, removedDates, 0, index);
+        System.arraycopy(ids, index + 1, removedIds, index, ids.length - index - 1);
+        System.arraycopy(createdDates, index + 1, removedDates, index, ids.length - index - 1);
+        return new CompanyJobPosts(removedIds, removedDates);
+    }
+
+    /**
+     * (생성일, id) 위치, 없으면 -(삽입 위치) - 1
+     */
+    private int binarySearch(LocalDateTime createdDate, long id) {
+        int low = 0;
+        int high = ids.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = createdDates[mid].compareTo(createdDate);
+
+            if (compared == 0) {
+                compared = Long.compare(ids[mid], id);
+            }
+
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+}
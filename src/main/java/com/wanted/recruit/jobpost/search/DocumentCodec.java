@@ -0,0 +1,101 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 문서의 바이너리 인코딩 (세그먼트 파일, 로그 공용)
+ *
+ * 고정 길이 값(id, 회사 id, 생성일, 수정일, 보상금) 뒤에 정규화된 필드 값, 태그, 원문 필드를 길이 + UTF-8 바이트로 기록
+ * 정규화/태그 분리 결과를 그대로 저장하므로 복원 시 다시 계산하지 않음
+ */
+final class DocumentCodec {
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private DocumentCodec() {
+    }
+
+    static void write(DataOutput out, JobPostDocument document) throws IOException {
+        out.writeLong(document.getId());
+        out.writeLong(document.getCompanyId());
+        out.writeLong(toEpochMicros(document.getCreatedDate()));
+        out.writeLong(toEpochMicros(document.getUpdatedDate()));
+        out.writeInt(document.getReward());
+
+        for (SearchField field : SearchField.values()) {
+            writeString(out, document.text(field));
+        }
+
+        out.writeInt(document.getTags().size());
+
+        for (String tag : document.getTags()) {
+            writeString(out, tag);
+        }
+
+        writeString(out, document.getPosition());
+        writeString(out, document.getCompanyName());
+        writeString(out, document.getNation());
+        writeString(out, document.getRegion());
+    }
+
+    /**
+     * 현재 위치에서 문서 하나를 읽고 위치를 문서 끝으로 옮김
+     */
+    static JobPostDocument read(ByteBuffer in) {
+        long id = in.getLong();
+        long companyId = in.getLong();
+        LocalDateTime createdDate = fromEpochMicros(in.getLong());
+        LocalDateTime updatedDate = fromEpochMicros(in.getLong());
+        int reward = in.getInt();
+        String[] texts = new String[SearchField.values().length];
+
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = readString(in);
+        }
+
+        int tagCount = in.getInt();
+        List<String> tags = new ArrayList<>(tagCount);
+
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(in));
+        }
+
+        return new JobPostDocument(id, companyId, createdDate, updatedDate, reward, texts, tags,
+                readString(in), readString(in), readString(in), readString(in));
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_DATE;
+        }
+
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        if (micros == NULL_DATE) {
+            return null;
+        }
+
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+}
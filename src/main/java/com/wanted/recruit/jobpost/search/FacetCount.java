@@ -0,0 +1,16 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 집계 필드 값 하나의 건수
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class FacetCount {
+    private final String value; // 필드 값
+    private final int count; // 검색된 공고 중 해당 값을 가진 공고 수
+}
@@ -0,0 +1,54 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 집계 필드 값 사전 (dictionary encoding)
+ * 문자열 값에 0부터 차례로 코드를 부여하여, 집계 시 문자열 해시 대신 코드로 int 배열 칸을 바로 증가
+ *
+ * 코드 부여는 색인 writer 한 스레드에서만, 조회는 락 없이 수행
+ * 부여된 코드는 바뀌거나 삭제되지 않음 (국가/지역/태그 종류는 문서 수에 비해 적으므로 정리하지 않음)
+ */
+final class FacetDictionary {
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16]; // 코드 -> 값, [0, size) 구간만 유효
+    private volatile int size;
+
+    /**
+     * 값의 코드, 처음 보는 값이면 새 코드 부여 (writer 전용)
+     */
+    int encode(String value) {
+        Integer code = codes.get(value);
+
+        if (code != null) {
+            return code;
+        }
+
+        String[] current = values;
+
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+
+        current[size] = value;
+        values = current;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /**
+     * 코드의 값
+     */
+    String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * 부여된 코드 수
+     */
+    int size() {
+        return size;
+    }
+}
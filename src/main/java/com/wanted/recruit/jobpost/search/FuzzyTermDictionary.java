@@ -0,0 +1,204 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 오타 허용 검색용 불변 단어 사전
+ *
+ * 단어를 자모로 분해한 키로 trie를 만들어 전위 순서(preorder) 배열로 보관
+ * 조회는 trie를 따라 내려가며 편집 거리 표(Levenshtein DP)를 한 행씩 채우고,
+ * 행의 최솟값이 허용 거리를 넘으면 하위 트리 전체를 건너뜀 (Levenshtein 오토마톤을 trie 위에서 실행하는 것과 같음)
+ * -> 사전 전체나 테이블을 훑지 않고 허용 거리 안의 단어가 있을 수 있는 가지만 방문
+ *
+ * 편집 거리는 자모 단위로 계산하므로 "백엔듣" -> "백엔드"는 1 (받침 하나 추가)
+ * 인접한 두 글자가 뒤바뀐 경우("sprnig")도 거리 1로 계산 (optimal string alignment)
+ */
+final class FuzzyTermDictionary {
+    static final FuzzyTermDictionary EMPTY = new Builder().build();
+
+    private final char[] labels; // 노드로 들어오는 글자, 0번은 루트
+    private final int[] depths; // 노드 깊이 (루트 0)
+    private final int[] skips; // 하위 트리 다음 노드 번호 (전위 순서)
+    private final int[] entries; // 노드에서 끝나는 단어 번호, 없으면 -1
+    private final int maxDepth;
+
+    private final String[] words;
+    private final int[] frequencies; // 단어가 포함된 채용 공고 수
+
+    private FuzzyTermDictionary(char[] labels, int[] depths, int[] skips, int[] entries, int maxDepth,
+                                String[] words, int[] frequencies) {
+        this.labels = labels;
+        this.depths = depths;
+        this.skips = skips;
+        this.entries = entries;
+        this.maxDepth = maxDepth;
+        this.words = words;
+        this.frequencies = frequencies;
+    }
+
+    /**
+     * 편집 거리 maxDistance 이하인 단어
+     *
+     * @param key         자모로 분해된 검색어
+     * @param maxDistance 허용 편집 거리
+     * @param limit       최대 단어 수
+     * @return 단어, 거리 오름차순 (같으면 채용 공고 수 내림차순)
+     */
+    List<String> similar(String key, int maxDistance, int limit) {
+        int m = key.length();
+        int[][] rows = new int[maxDepth + 1][m + 1];
+        char[] path = new char[maxDepth + 1];
+        List<int[]> found = new ArrayList<>(); // {단어 번호, 거리}
+
+        for (int j = 0; j <= m; j++) {
+            rows[0][j] = j;
+        }
+
+        int node = 1;
+
+        while (node < labels.length) {
+            int depth = depths[node];
+            char label = labels[node];
+            int[] previous = rows[depth - 1];
+            int[] row = rows[depth];
+            int min = row[0] = depth;
+            path[depth] = label;
+
+            for (int j = 1; j <= m; j++) {
+                int cost = key.charAt(j - 1) == label ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, row[j - 1] + 1), previous[j - 1] + cost);
+
+                // 인접한 두 글자 자리 바뀜
+                if (depth > 1 && j > 1 && key.charAt(j - 1) == path[depth - 1] && key.charAt(j - 2) == label) {
+                    value = Math.min(value, rows[depth - 2][j - 2] + 1);
+                }
+
+                row[j] = value;
+                min = Math.min(min, value);
+            }
+
+            if (entries[node] >= 0 && row[m] <= maxDistance) {
+                found.add(new int[]{entries[node], row[m]});
+            }
+
+            // 이 행의 최솟값보다 편집 거리가 줄어들 수 없으므로 하위 트리에는 허용 거리 안의 단어가 없음
+            node = min > maxDistance ? skips[node] : node + 1;
+        }
+
+        found.sort(Comparator.<int[]>comparingInt(match -> match[1])
+                .thenComparing(match -> -frequencies[match[0]])
+                .thenComparing(match -> words[match[0]]));
+
+        List<String> similar = new ArrayList<>(Math.min(found.size(), limit));
+
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            similar.add(words[found.get(i)[0]]);
+        }
+
+        return similar;
+    }
+
+    /**
+     * 단어 수
+     */
+    int size() {
+        return words.length;
+    }
+
+    /**
+     * 사전 생성기, 한 스레드에서만 사용
+     */
+    static final class Builder {
+        private final Map<String, Integer> keys = new TreeMap<>(); // 자모 키 -> 단어 번호 (키 순서로 순회)
+        private final List<String> words = new ArrayList<>();
+        private final List<Integer> frequencies = new ArrayList<>();
+
+        /**
+         * 단어 추가, 자모 키가 같은 단어가 이미 있으면 채용 공고 수가 많은 쪽을 남김
+         *
+         * @param word      정규화된 단어
+         * @param frequency 단어가 포함된 채용 공고 수
+         */
+        void add(String word, int frequency) {
+            String key = HangulJamo.decompose(word);
+            Integer entry = keys.get(key);
+
+            if (entry == null) {
+                keys.put(key, words.size());
+                words.add(word);
+                frequencies.add(frequency);
+            } else if (frequency > frequencies.get(entry)) {
+                words.set(entry, word);
+                frequencies.set(entry, frequency);
+            }
+        }
+
+        FuzzyTermDictionary build() {
+            int capacity = 1;
+
+            for (String key : keys.keySet()) {
+                capacity += key.length();
+            }
+
+            char[] labels = new char[capacity];
+            int[] depths = new int[capacity];
+            int[] skips = new int[capacity];
+            int[] entries = new int[capacity];
+            Arrays.fill(entries, -1);
+
+            // 정렬된 키를 차례로 넣으면 전위 순서가 됨, 이전 키와 공통 접두사 이후 노드만 추가
+            int[] stack = new int[1];
+            int size = 1;
+            int maxDepth = 0;
+            String previousKey = "";
+
+            for (Map.Entry<String, Integer> entry : keys.entrySet()) {
+                String key = entry.getKey();
+                int common = commonPrefixLength(previousKey, key);
+
+                // 공통 접두사 밖의 노드는 하위 트리가 끝났으므로 건너뛸 위치 확정
+                for (int depth = previousKey.length(); depth > common; depth--) {
+                    skips[stack[depth]] = size;
+                }
+
+                if (stack.length < key.length() + 1) {
+                    stack = Arrays.copyOf(stack, key.length() + 1);
+                }
+
+                for (int depth = common + 1; depth <= key.length(); depth++) {
+                    labels[size] = key.charAt(depth - 1);
+                    depths[size] = depth;
+                    stack[depth] = size++;
+                }
+
+                entries[stack[key.length()]] = entry.getValue();
+                maxDepth = Math.max(maxDepth, key.length());
+                previousKey = key;
+            }
+
+            for (int depth = previousKey.length(); depth >= 0; depth--) {
+                skips[stack[depth]] = size;
+            }
+
+            return new FuzzyTermDictionary(Arrays.copyOf(labels, size), Arrays.copyOf(depths, size),
+                    Arrays.copyOf(skips, size), Arrays.copyOf(entries, size), maxDepth,
+                    words.toArray(new String[0]), frequencies.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+
+            return i;
+        }
+    }
+}
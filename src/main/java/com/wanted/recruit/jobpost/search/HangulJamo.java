@@ -0,0 +1,87 @@
+package com.wanted.recruit.jobpost.search;
+
+/**
+ * 한글 음절을 자모(호환용 자모, U+3131~) 열로 분해
+ * "백엔드" -> "ㅂㅐㄱㅇㅔㄴㄷㅡ"
+ *
+ * 입력 중인 글자("백ㅇ" -> "ㅂㅐㄱㅇ")도 완성된 단어 자모 열의 접두사가 되도록
+ * 겹받침(ㄺ -> ㄹㄱ)과 이중 모음(ㅘ -> ㅗㅏ)은 키보드 입력 순서대로 한 번 더 분해
+ * 한글 음절/자모가 아닌 문자는 그대로 둠
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char JAMO_BEGIN = 'ㄱ';
+    private static final char JAMO_END = 'ㅣ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"; // 0번은 받침 없음
+
+    // 호환용 자모 하나의 키보드 입력 순서 분해, 인덱스는 (자모 - JAMO_BEGIN)
+    private static final String[] KEYSTROKES = new String[JAMO_END - JAMO_BEGIN + 1];
+
+    static {
+        for (char jamo = JAMO_BEGIN; jamo <= JAMO_END; jamo++) {
+            KEYSTROKES[jamo - JAMO_BEGIN] = String.valueOf(jamo);
+        }
+
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+
+        for (String[] compound : compounds) {
+            KEYSTROKES[compound[0].charAt(0) - JAMO_BEGIN] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 문자열의 한글 음절/자모를 자모 열로 분해
+     *
+     * @param text 원문
+     * @return 자모 열, 한글이 아닌 문자는 그대로
+     */
+    public static String decompose(CharSequence text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+
+        for (int i = 0; i < text.length(); i++) {
+            appendJamo(builder, text.charAt(i));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 문자에 한글 음절 또는 자모가 있는지 여부
+     */
+    public static boolean isHangul(char c) {
+        return (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) || (c >= JAMO_BEGIN && c <= JAMO_END);
+    }
+
+    private static void appendJamo(StringBuilder builder, char c) {
+        if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+            int offset = c - SYLLABLE_BEGIN;
+            int jongseong = offset % JONGSEONG_COUNT;
+            int jungseong = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+            int choseong = offset / (JONGSEONG_COUNT * JUNGSEONG_COUNT);
+
+            builder.append(CHOSEONG.charAt(choseong));
+            builder.append(KEYSTROKES[JUNGSEONG.charAt(jungseong) - JAMO_BEGIN]);
+
+            if (jongseong > 0) {
+                builder.append(KEYSTROKES[JONGSEONG.charAt(jongseong) - JAMO_BEGIN]);
+            }
+        } else if (c >= JAMO_BEGIN && c <= JAMO_END) {
+            builder.append(KEYSTROKES[c - JAMO_BEGIN]);
+        } else {
+            builder.append(c);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 검색 인덱스의 불변 세그먼트 파일 (체크포인트 시점 전체 색인)
+ *
+ * 파일 구조 (big endian)
+ * <pre>
+ * header     MAGIC, FORMAT_VERSION, 로그 순번, 체크포인트 시각(ms), 문서 수, gram 수, posting 영역 길이
+ * documents  문서별 고정 길이 값과 정규화된 필드 값 ({@link DocumentCodec})
+ * dictionary gram 오름차순으로 (gram, id 수, posting 영역 안의 시작 위치), 항목마다 고정 12바이트
+ * postings   gram별 id 차이값 varint 목록
+ * trailer    앞부분 전체의 CRC32
+ * </pre>
+ *
+ * 쓰기는 임시 파일에 기록 후 디스크에 동기화하고 이름을 바꿔(atomic move) 공개 -> 읽는 쪽은 완성된 파일만 봄
+ * 읽기는 파일을 메모리 매핑하여 CRC 검사 후 header와 각 영역의 위치만 해석
+ * - 문서: 최종 확인/집계에 필요하므로 복원 시 매핑에서 순서대로 읽어 색인에 바로 넣음 (중간 목록 없음)
+ * - posting list: 사전의 위치로 매핑된 영역을 가리키기만 하고, 검색/수정에서 처음 사용할 때 해당 gram만 해석
+ *   ({@link PostingList#mapped}), 기동 시 posting 영역 전체를 힙에 복사하지 않음
+ * posting list의 id는 오름차순이므로 앞 id와의 차이를 varint로 기록 (대부분 1~2바이트)
+ * 매핑은 파일이 새 체크포인트로 교체되어도 마지막 posting list가 해석될 때까지 유효 (교체 전 inode를 계속 가리킴)
+ */
+@Getter
+final class IndexSegment {
+    private static final int MAGIC = 0x4A504958; // "JPIX"
+    private static final int FORMAT_VERSION = 4; // 정규화 규칙이나 문서 형식이 바뀌면 증가 (저장된 파일을 사용하지 않고 전체 색인)
+    private static final int DICTIONARY_ENTRY_BYTES = Integer.BYTES * 3;
+
+    private final long logSequence; // 세그먼트에 반영된 마지막 로그 순번
+    private final long checkpointMillis; // 체크포인트 시작 시각, DB 따라잡기 기준
+    private final int documentCount;
+    @Getter(AccessLevel.NONE)
+    private final int gramCount;
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer documents; // 문서 영역
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer dictionary; // 사전 영역
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer postings; // posting 영역
+
+    private IndexSegment(long logSequence, long checkpointMillis, int documentCount, int gramCount,
+                         ByteBuffer documents, ByteBuffer dictionary, ByteBuffer postings) {
+        this.logSequence = logSequence;
+        this.checkpointMillis = checkpointMillis;
+        this.documentCount = documentCount;
+        this.gramCount = gramCount;
+        this.documents = documents;
+        this.dictionary = dictionary;
+        this.postings = postings;
+    }
+
+    /**
+     * 문서를 저장된 순서(id 오름차순)대로 매핑에서 읽어 전달
+     */
+    void forEachDocument(Consumer<JobPostDocument> consumer) {
+        ByteBuffer in = documents.duplicate();
+
+        for (int i = 0; i < documentCount; i++) {
+            consumer.accept(DocumentCodec.read(in));
+        }
+    }
+
+    /**
+     * gram별 posting list 순회, id 목록은 해석하지 않고 매핑된 영역으로 전달
+     */
+    void forEachPostingList(PostingConsumer consumer) {
+        ByteBuffer in = dictionary.duplicate();
+
+        for (int i = 0; i < gramCount; i++) {
+            int gram = in.getInt();
+            int size = in.getInt();
+            int offset = in.getInt();
+
+            consumer.accept(gram, size, postings.duplicate().position(offset).slice());
+        }
+    }
+
+    /**
+     * 문서로 세그먼트 파일 생성, 같은 경로의 파일이 있으면 교체
+     * posting list는 문서에서 다시 계산 (문서 목록과 항상 일치)
+     *
+     * @param path             세그먼트 파일 경로
+     * @param logSequence      문서에 반영된 마지막 로그 순번
+     * @param checkpointMillis 체크포인트 시작 시각(ms)
+     * @param documents        색인된 문서
+     */
+    static void write(Path path, long logSequence, long checkpointMillis, List<JobPostDocument> documents)
+            throws IOException {
+        List<JobPostDocument> sorted = new ArrayList<>(documents);
+        sorted.sort(Comparator.comparingLong(JobPostDocument::getId));
+
+        // id 오름차순으로 추가하므로 posting list는 항상 배열 끝에 append
+        Map<Integer, PostingList> postingLists = new HashMap<>();
+
+        for (JobPostDocument document : sorted) {
+            for (int gram : JobPostSearchIndex.grams(document)) {
+                postingLists.computeIfAbsent(gram, key -> new PostingList()).add(document.getId());
+            }
+        }
+
+        int[] grams = postingLists.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        // 사전에 시작 위치를 기록하기 위해 posting 영역을 먼저 인코딩
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(1 << 16);
+        DataOutputStream encodedOut = new DataOutputStream(encoded);
+        int[] offsets = new int[grams.length];
+        int[] sizes = new int[grams.length];
+
+        for (int i = 0; i < grams.length; i++) {
+            long[] ids = postingLists.get(grams[i]).snapshot().toArray();
+            offsets[i] = encoded.size();
+            sizes[i] = ids.length;
+
+            long previous = 0;
+
+            for (long id : ids) {
+                writeVarLong(encodedOut, id - previous);
+                previous = id;
+            }
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(logSequence);
+            out.writeLong(checkpointMillis);
+            out.writeInt(sorted.size());
+            out.writeInt(grams.length);
+            out.writeInt(encoded.size());
+
+            for (JobPostDocument document : sorted) {
+                DocumentCodec.write(out, document);
+            }
+
+            for (int i = 0; i < grams.length; i++) {
+                out.writeInt(grams[i]);
+                out.writeInt(sizes[i]);
+                out.writeInt(offsets[i]);
+            }
+
+            encoded.writeTo(out);
+            out.flush();
+            // CRC는 CheckedOutputStream을 거치지 않고 기록
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getChannel().force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 세그먼트 파일을 메모리 매핑하고 CRC 검사 후 각 영역의 위치를 해석
+     *
+     * @param path 세그먼트 파일 경로
+     * @return 매핑된 세그먼트
+     * @throws IOException 파일을 읽을 수 없거나 형식/CRC가 맞지 않는 경우
+     */
+    static IndexSegment read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.limit() < Integer.BYTES * 2) {
+            throw new IOException("세그먼트 파일이 손상되었습니다: " + path);
+        }
+
+        int bodyLength = buffer.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(bodyLength));
+
+        if ((int) crc.getValue() != buffer.getInt(bodyLength)) {
+            throw new IOException("세그먼트 파일 CRC가 일치하지 않습니다: " + path);
+        }
+
+        ByteBuffer in = buffer.duplicate().limit(bodyLength);
+
+        if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 세그먼트 형식입니다: " + path);
+        }
+
+        long logSequence = in.getLong();
+        long checkpointMillis = in.getLong();
+        int documentCount = in.getInt();
+        int gramCount = in.getInt();
+        int postingsLength = in.getInt();
+
+        // 문서 영역 길이는 기록하지 않으므로 뒤쪽 고정 길이 영역으로 계산
+        int postingsStart = bodyLength - postingsLength;
+        int dictionaryStart = postingsStart - gramCount * DICTIONARY_ENTRY_BYTES;
+
+        if (postingsLength < 0 || gramCount < 0 || dictionaryStart < in.position()) {
+            throw new IOException("세그먼트 파일이 손상되었습니다: " + path);
+        }
+
+        return new IndexSegment(logSequence, checkpointMillis, documentCount, gramCount,
+                buffer.duplicate().position(in.position()).limit(dictionaryStart).slice(),
+                buffer.duplicate().position(dictionaryStart).limit(postingsStart).slice(),
+                buffer.duplicate().position(postingsStart).limit(bodyLength).slice());
+    }
+
+    /**
+     * 현재 위치부터 id 차이값 varint를 size개 읽어 오름차순 id 배열로 해석
+     */
+    static long[] decodeIds(ByteBuffer in, int size) {
+        long[] ids = new long[size];
+        long previous = 0;
+
+        for (int i = 0; i < size; i++) {
+            previous += readVarLong(in);
+            ids[i] = previous;
+        }
+
+        return ids;
+    }
+
+    // 7비트씩 나눠 기록, 최상위 비트는 다음 바이트가 있는지 여부
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    /**
+     * gram 하나의 posting list를 받는 함수
+     */
+    @FunctionalInterface
+    interface PostingConsumer {
+        /**
+         * @param gram    gram
+         * @param size    id 수
+         * @param encoded id 차이값 varint 목록이 시작하는 매핑된 영역
+         */
+        void accept(int gram, int size, ByteBuffer encoded);
+    }
+}
@@ -0,0 +1,244 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 마지막 체크포인트 이후 색인 변경 로그 (write-ahead log)
+ *
+ * 레코드: 순번(long), 종류(byte), 내용 길이(int), 내용, CRC32(int)
+ * - 색인: 내용은 문서 ({@link DocumentCodec})
+ * - 삭제: 내용은 채용 공고 id
+ *
+ * 로그 파일은 "log-{첫 순번}.wal" 이름으로 체크포인트마다 새 파일로 교체(roll)하며,
+ * 체크포인트 세그먼트가 저장되면 이전 파일은 삭제
+ * 레코드마다 디스크 동기화(fsync)는 하지 않음 -> 프로세스 비정상 종료에는 남지만 OS 장애 시 마지막 레코드 일부가 유실될 수 있음
+ * 레코드는 색인 반영 후 별도로 기록하므로 반영과 원자적이지 않고, 여러 스레드의 레코드 순서가 반영 순서와 다를 수 있음
+ * 유실분은 기동 시 DB 따라잡기(저장/수정)와 id 목록 비교(삭제)로 복구하고,
+ * 순서는 재실행 시 색인이 수정일로 판단하므로 상관없음 ({@link JobPostIndexStore}), 끝이 잘린 레코드는 CRC로 걸러 무시
+ *
+ * 모든 메소드는 스레드 안전 (레코드 추가와 파일 교체를 하나의 락으로 직렬화)
+ */
+final class IndexWriteAheadLog implements AutoCloseable {
+    private static final String PREFIX = "log-";
+    private static final String SUFFIX = ".wal";
+    private static final byte INDEXED = 1;
+    private static final byte REMOVED = 2;
+
+    private final Path directory;
+    private final List<Path> closedFiles = new ArrayList<>(); // 교체되어 더 이상 쓰지 않는 파일
+    private FileChannel channel;
+    private long firstSequenceOfCurrentFile; // 현재 파일 이름의 순번
+    private long lastSequence;
+    private long recordsSinceRoll;
+
+    /**
+     * 로그 열기, 이전 파일은 그대로 두고 다음 순번부터 새 파일에 기록
+     *
+     * @param directory    로그 디렉토리
+     * @param lastSequence 이미 기록된 마지막 순번
+     */
+    IndexWriteAheadLog(Path directory, long lastSequence) throws IOException {
+        this.directory = directory;
+        this.lastSequence = lastSequence;
+        this.channel = open();
+
+        // 이전 실행의 파일은 모두 lastSequence 이하의 레코드만 담고 있음 (같은 이름의 빈 파일은 새로 연 현재 파일)
+        for (Path file : files(directory)) {
+            if (firstSequence(file) != firstSequenceOfCurrentFile) {
+                closedFiles.add(file);
+            }
+        }
+    }
+
+    synchronized void appendIndexed(JobPostDocument document) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DocumentCodec.write(new DataOutputStream(bytes), document);
+        append(INDEXED, bytes.toByteArray());
+    }
+
+    synchronized void appendRemoved(long id) throws IOException {
+        append(REMOVED, ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    /**
+     * 현재 파일을 닫고 새 파일로 교체 (체크포인트 시작 시 호출)
+     *
+     * @return 교체 전까지 기록된 마지막 순번, 이 순번까지는 교체 후 만든 세그먼트에 반영됨
+     */
+    synchronized long roll() throws IOException {
+        // 기록된 레코드가 없으면 현재 파일을 계속 사용
+        if (recordsSinceRoll == 0) {
+            return lastSequence;
+        }
+
+        channel.force(false);
+        channel.close();
+        closedFiles.add(fileOf(firstSequenceOfCurrentFile));
+        recordsSinceRoll = 0;
+        channel = open();
+        return lastSequence;
+    }
+
+    /**
+     * 교체된 파일 삭제 (교체 후 만든 세그먼트가 저장된 뒤 호출)
+     *
+     * @param upToSequence roll()이 반환한 순번, 이 순번 이하의 레코드만 담긴 파일을 삭제
+     */
+    synchronized void deleteRolledFiles(long upToSequence) throws IOException {
+        List<Path> deleted = new ArrayList<>();
+
+        for (Path file : closedFiles) {
+            if (firstSequence(file) <= upToSequence) {
+                Files.deleteIfExists(file);
+                deleted.add(file);
+            }
+        }
+
+        closedFiles.removeAll(deleted);
+    }
+
+    /**
+     * 마지막 교체 이후 기록된 레코드 수
+     */
+    synchronized long recordsSinceRoll() {
+        return recordsSinceRoll;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+
+    /**
+     * 디렉토리의 로그에서 afterSequence보다 큰 순번의 레코드를 순서대로 재실행
+     * 파일 끝이 잘렸거나 손상된 레코드부터는 해당 파일의 나머지를 무시
+     *
+     * @param directory     로그 디렉토리
+     * @param afterSequence 세그먼트에 이미 반영된 마지막 순번
+     * @param target        재실행 대상 색인
+     * @return 읽은 마지막 순번 (레코드가 없으면 afterSequence)
+     */
+    static long replay(Path directory, long afterSequence, JobPostSearchIndex target) throws IOException {
+        long last = afterSequence;
+
+        for (Path file : files(directory)) {
+            ByteBuffer in = map(file);
+
+            while (in.hasRemaining()) {
+                int start = in.position();
+                long sequence;
+                byte type;
+                byte[] content;
+
+                try {
+                    sequence = in.getLong();
+                    type = in.get();
+                    int length = in.getInt();
+
+                    if (length < 0 || length > in.remaining()) {
+                        break;
+                    }
+
+                    content = new byte[length];
+                    in.get(content);
+
+                    CRC32 crc = new CRC32();
+                    crc.update(in.duplicate().position(start).limit(in.position()));
+
+                    if ((int) crc.getValue() != in.getInt()) {
+                        break;
+                    }
+                } catch (BufferUnderflowException e) {
+                    break; // 기록 도중 종료되어 끝이 잘린 레코드
+                }
+
+                if (sequence <= last) {
+                    continue;
+                }
+
+                if (type == INDEXED) {
+                    target.reload(DocumentCodec.read(ByteBuffer.wrap(content)));
+                } else if (type == REMOVED) {
+                    target.remove(ByteBuffer.wrap(content).getLong());
+                }
+
+                last = sequence;
+            }
+        }
+
+        return last;
+    }
+
+    /**
+     * 디렉토리의 모든 로그 삭제 (세그먼트 없이 전체 색인할 때, 이전 순번의 로그가 재실행되지 않도록 호출)
+     */
+    static void deleteAll(Path directory) throws IOException {
+        for (Path file : files(directory)) {
+            Files.delete(file);
+        }
+    }
+
+    private void append(byte type, byte[] content) throws IOException {
+        long sequence = lastSequence + 1;
+        ByteBuffer record = ByteBuffer.allocate(Long.BYTES + 1 + Integer.BYTES + content.length + Integer.BYTES);
+        record.putLong(sequence).put(type).putInt(content.length).put(content);
+
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue()).flip();
+
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+
+        lastSequence = sequence;
+        recordsSinceRoll++;
+    }
+
+    private FileChannel open() throws IOException {
+        firstSequenceOfCurrentFile = lastSequence + 1;
+        return FileChannel.open(fileOf(firstSequenceOfCurrentFile),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private Path fileOf(long firstSequence) {
+        // 순번을 0으로 채워 이름순 정렬이 순번 순서와 같도록 함
+        return directory.resolve(String.format("%s%019d%s", PREFIX, firstSequence, SUFFIX));
+    }
+
+    private static long firstSequence(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
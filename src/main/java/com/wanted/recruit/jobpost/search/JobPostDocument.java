@@ -0,0 +1,160 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 검색 인덱스에 저장되는 채용 공고 문서
+ * 검색 대상 필드를 정규화된 형태로 보관하며, 불변 객체
+ */
+@Getter
+public final class JobPostDocument {
+    private final long id; // 채용 공고 id
+    private final long companyId; // 회사 id
+    private final LocalDateTime createdDate; // 생성일, 최신순 정렬과 커서 비교용
+    private final LocalDateTime updatedDate; // 공고/회사 수정일 중 늦은 값, 색인 반영 순서 판단용 (모르면 null)
+    private final int reward; // 채용 보상금
+    @Getter(AccessLevel.NONE)
+    private final String[] texts; // SearchField 순서의 정규화된 필드 값
+    private final List<String> tags; // 사용 기술의 정규화된 태그 ({@link TechTagParser})
+    private final String position; // 채용 포지션 원문(앞뒤 공백 제거), 자동완성용
+    private final String companyName; // 회사명 원문(앞뒤 공백 제거), 자동완성용
+    private final String nation; // 국가 원문(앞뒤 공백 제거), 집계용
+    private final String region; // 지역 원문(앞뒤 공백 제거), 집계용
+
+    /**
+     * 직접 생성용, 수정일을 모르는 문서 (반영 순서를 비교하지 않음)
+     */
+    public JobPostDocument(Long id, Long companyId, LocalDateTime createdDate, int reward,
+                           String position, String techStack, String content,
+                           String companyName, String nation, String region) {
+        this(id, companyId, createdDate, reward, position, techStack, content, companyName, nation, region, null, null);
+    }
+
+    /**
+     * QueryDsl Projection
+     *
+     * @param jobPostUpdatedDate 채용 공고 수정일
+     * @param companyUpdatedDate 회사 수정일 (회사 정보도 문서에 포함되므로 둘 중 늦은 값을 문서의 수정일로 사용)
+     */
+    public JobPostDocument(Long id, Long companyId, LocalDateTime createdDate, int reward,
+                           String position, String techStack, String content,
+                           String companyName, String nation, String region,
+                           LocalDateTime jobPostUpdatedDate, LocalDateTime companyUpdatedDate) {
+        this.id = id;
+        this.companyId = companyId;
+        // DB(datetime(6))에 저장된 값과 같은 정밀도로 맞춰야 커서 비교 결과가 DB 정렬과 일치
+        this.createdDate = truncate(createdDate);
+        this.updatedDate = truncate(later(jobPostUpdatedDate, companyUpdatedDate));
+        this.reward = reward;
+        this.texts = new String[SearchField.values().length];
+
+        texts[SearchField.POSITION.ordinal()] = SearchTokenizer.normalize(position);
+        texts[SearchField.TECH_STACK.ordinal()] = SearchTokenizer.normalize(techStack);
+        texts[SearchField.CONTENT.ordinal()] = SearchTokenizer.normalize(content);
+        texts[SearchField.COMPANY_NAME.ordinal()] = SearchTokenizer.normalize(companyName);
+        texts[SearchField.NATION.ordinal()] = SearchTokenizer.normalize(nation);
+        texts[SearchField.REGION.ordinal()] = SearchTokenizer.normalize(region);
+
+        this.tags = List.copyOf(TechTagParser.parse(techStack));
+        this.position = trim(position);
+        this.companyName = trim(companyName);
+        this.nation = trim(nation);
+        this.region = trim(region);
+    }
+
+    /**
+     * 저장된 세그먼트/로그에서 복원용 ({@link DocumentCodec}), 정규화된 값을 그대로 사용
+     */
+    JobPostDocument(long id, long companyId, LocalDateTime createdDate, LocalDateTime updatedDate, int reward,
+                    String[] texts, List<String> tags, String position, String companyName, String nation, String region) {
+        this.id = id;
+        this.companyId = companyId;
+        this.createdDate = createdDate;
+        this.updatedDate = updatedDate;
+        this.reward = reward;
+        this.texts = texts;
+        this.tags = List.copyOf(tags);
+        this.position = position;
+        this.companyName = companyName;
+        this.nation = nation;
+        this.region = region;
+    }
+
+    /**
+     * 필드의 정규화된 값
+     */
+    public String text(SearchField field) {
+        return texts[field.ordinal()];
+    }
+
+    /**
+     * 필드 값에 검색어가 부분 문자열로 포함되어 있는지 여부
+     *
+     * @param field          검색 필드
+     * @param normalizedTerm 정규화된 검색어
+     */
+    public boolean contains(SearchField field, String normalizedTerm) {
+        return texts[field.ordinal()].contains(normalizedTerm);
+    }
+
+    /**
+     * 하나 이상의 필드에 검색어가 부분 문자열로 포함되어 있는지 여부
+     *
+     * @param normalizedTerm 정규화된 검색어
+     */
+    public boolean containsInAnyField(String normalizedTerm) {
+        for (String text : texts) {
+            if (text.contains(normalizedTerm)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 사용 기술에 태그가 있는지 여부
+     *
+     * @param normalizedTag 정규화된 태그
+     */
+    public boolean hasTag(String normalizedTag) {
+        return tags.contains(normalizedTag);
+    }
+
+    /**
+     * 최신순 정렬에서 커서(생성일, id) 뒤에 오는 문서인지 여부
+     */
+    public boolean isAfter(LocalDateTime cursorCreatedDate, long cursorId) {
+        int compared = createdDate.compareTo(cursorCreatedDate);
+        return compared < 0 || (compared == 0 && id < cursorId);
+    }
+
+    /**
+     * 이 문서가 other보다 나중에 수정된 상태인지 여부
+     * 둘 중 하나라도 수정일을 모르면 false (순서를 판단할 수 없으므로 나중에 반영된 문서 사용)
+     */
+    public boolean isNewerThan(JobPostDocument other) {
+        return updatedDate != null && other.updatedDate != null && updatedDate.isAfter(other.updatedDate);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static String trim(String text) {
+        return text == null ? "" : text.trim();
+    }
+}
@@ -0,0 +1,222 @@
+package com.wanted.recruit.jobpost.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 인덱스 디스크 저장소 (재시작 시 DB 전체 색인 생략용)
+ *
+ * - 세그먼트({@link IndexSegment}): 체크포인트 시점 전체 색인을 담은 불변 파일
+ * - 로그({@link IndexWriteAheadLog}): 마지막 체크포인트 이후 색인 변경
+ *
+ * 기동 시 세그먼트를 메모리 매핑해 복원하고 로그를 재실행한 뒤,
+ * 체크포인트 이후 DB에서 바뀐 채용 공고만 다시 읽어 따라잡고 DB의 id 목록과 비교해 삭제된 공고를 제거
+ * (다른 인스턴스/종료 중 변경분, 로그에 남지 않은 변경분)
+ * 세그먼트가 없거나 손상되었으면 기존처럼 DB 전체 색인
+ * 복원 전에 이벤트로 반영된 변경은 세그먼트/로그의 이전 상태로 덮어쓰지 않음 ({@link JobPostSearchIndex#restore})
+ *
+ * 로그의 보장 범위
+ * - 로그는 원본이 아니라 복원을 빠르게 하기 위한 캐시, 원본은 항상 DB
+ * - 레코드는 색인 반영 후 기록하며 fsync하지 않음 -> 반영과 기록 사이 또는 OS 버퍼에 있을 때 종료되면 유실될 수 있음
+ * - 유실된 저장/수정은 DB 따라잡기(수정일 기준), 유실된 삭제는 id 목록 비교로 다음 기동 시 복구
+ * - 레코드 순서가 실제 반영 순서와 달라도 결과는 같음 (수정일이 이른 문서는 무시, 제거된 id는 다시 색인되지 않음)
+ *
+ * 체크포인트는 로그가 CHECKPOINT_RECORDS건 쌓이거나 기동 시 색인이 끝나면 백그라운드에서 수행
+ * 순서: 로그 교체 -> 색인 문서 복사 -> 세그먼트 저장 -> 교체된 로그 삭제
+ * 색인 반영 후 로그를 기록하므로, 교체 전에 기록된 변경은 모두 복사한 문서에 포함되고
+ * 교체 후 기록된 변경은 새 로그에 남아 다음 기동 시 재실행됨 (같은 변경을 두 번 반영해도 결과 동일)
+ */
+@Component
+@Slf4j
+public class JobPostIndexStore {
+    private static final String SEGMENT_FILE = "segment.jpix";
+
+    // 체크포인트 사이 최대 로그 레코드 수
+    private static final long CHECKPOINT_RECORDS = 10_000;
+
+    // DB 따라잡기 여유 시간: 체크포인트 직전에 수정일이 기록되고 나중에 커밋된 트랜잭션까지 포함
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final JobPostSearchIndex searchIndex;
+    private final Path directory;
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-post-index-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean checkpointing = new AtomicBoolean();
+
+    private volatile IndexWriteAheadLog writeAheadLog; // 복원 후 열림, 그 전의 변경은 기록하지 않음
+
+    public JobPostIndexStore(JobPostSearchIndex searchIndex,
+                             @Value("${search.index.directory:data/search-index}") String directory) {
+        this.searchIndex = searchIndex;
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 저장된 세그먼트와 로그로 색인 복원 후 로그 열기
+     * 복원에 실패하면 저장된 파일을 사용하지 않고 빈 색인으로 시작 (호출한 쪽에서 DB 전체 색인)
+     *
+     * @return DB에서 다시 읽어야 하는 변경의 기준 시각(수정일), 복원하지 못했으면 empty
+     */
+    public Optional<LocalDateTime> restore() {
+        Optional<LocalDateTime> catchUpSince = Optional.empty();
+        long lastSequence = 0;
+
+        try {
+            Files.createDirectories(directory);
+            Path segmentFile = directory.resolve(SEGMENT_FILE);
+
+            if (Files.exists(segmentFile)) {
+                long start = System.currentTimeMillis();
+                IndexSegment segment = IndexSegment.read(segmentFile);
+
+                searchIndex.restore(segment);
+                lastSequence = IndexWriteAheadLog.replay(directory, segment.getLogSequence(), searchIndex);
+                catchUpSince = Optional.of(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(segment.getCheckpointMillis()).minus(CATCH_UP_MARGIN), ZoneId.systemDefault()));
+
+                log.info("검색 인덱스 세그먼트 복원: 문서 {}건, 로그 {}건 재실행, {}ms", segment.getDocumentCount(),
+                        lastSequence - segment.getLogSequence(), System.currentTimeMillis() - start);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 인덱스 세그먼트 복원 실패, DB에서 전체 색인합니다.", e);
+            searchIndex.clear();
+            catchUpSince = Optional.empty();
+        }
+
+        if (catchUpSince.isEmpty()) {
+            lastSequence = 0;
+            deleteLogs();
+        }
+
+        openLog(lastSequence);
+        return catchUpSince;
+    }
+
+    /**
+     * 색인 변경 기록 (색인에 반영한 뒤 호출, fsync하지 않음)
+     */
+    public void logIndexed(JobPostDocument document) {
+        IndexWriteAheadLog current = writeAheadLog;
+
+        if (current == null) {
+            return;
+        }
+
+        try {
+            current.appendIndexed(document);
+            checkpointIfNeeded(current);
+        } catch (IOException e) {
+            log.error("검색 인덱스 로그 기록 실패: {}", document.getId(), e);
+        }
+    }
+
+    /**
+     * 삭제 기록 (색인에서 제거한 뒤 호출, fsync하지 않음)
+     */
+    public void logRemoved(long id) {
+        IndexWriteAheadLog current = writeAheadLog;
+
+        if (current == null) {
+            return;
+        }
+
+        try {
+            current.appendRemoved(id);
+            checkpointIfNeeded(current);
+        } catch (IOException e) {
+            log.error("검색 인덱스 로그 기록 실패: {}", id, e);
+        }
+    }
+
+    /**
+     * 백그라운드 체크포인트 요청, 이미 진행 중이면 무시
+     */
+    public void checkpointAsync() {
+        if (writeAheadLog == null || !checkpointing.compareAndSet(false, true)) {
+            return;
+        }
+
+        checkpointExecutor.execute(() -> {
+            try {
+                checkpoint();
+            } catch (IOException | RuntimeException e) {
+                log.error("검색 인덱스 체크포인트 실패", e);
+            } finally {
+                checkpointing.set(false);
+            }
+        });
+    }
+
+    /**
+     * 현재 색인을 세그먼트로 저장하고 반영된 로그 삭제 (호출 스레드에서 실행)
+     */
+    public void checkpoint() throws IOException {
+        IndexWriteAheadLog current = writeAheadLog;
+        long start = System.currentTimeMillis();
+        long sequence = current.roll();
+        List<JobPostDocument> documents = new ArrayList<>(searchIndex.size());
+
+        // 로그 교체 전에 반영된 변경은 모두 보임 (교체 후 변경은 새 로그에서 재실행)
+        searchIndex.forEachDocument(documents::add);
+
+        IndexSegment.write(directory.resolve(SEGMENT_FILE), sequence, start, documents);
+        current.deleteRolledFiles(sequence);
+        log.info("검색 인덱스 체크포인트: 문서 {}건, {}ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpointExecutor.shutdownNow();
+        IndexWriteAheadLog current = writeAheadLog;
+
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.warn("검색 인덱스 로그 닫기 실패", e);
+            }
+        }
+    }
+
+    private void deleteLogs() {
+        try {
+            IndexWriteAheadLog.deleteAll(directory);
+        } catch (IOException e) {
+            log.warn("이전 검색 인덱스 로그 삭제 실패: {}", directory, e);
+        }
+    }
+
+    private void openLog(long lastSequence) {
+        try {
+            writeAheadLog = new IndexWriteAheadLog(directory, lastSequence);
+        } catch (IOException e) {
+            log.error("검색 인덱스 로그를 열 수 없어 디스크 저장 없이 동작합니다: {}", directory, e);
+        }
+    }
+
+    private void checkpointIfNeeded(IndexWriteAheadLog current) {
+        if (current.recordsSinceRoll() >= CHECKPOINT_RECORDS) {
+            checkpointAsync();
+        }
+    }
+}
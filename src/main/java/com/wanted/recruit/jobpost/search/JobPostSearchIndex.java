@@ -0,0 +1,1112 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.AndQuery;
+import com.wanted.recruit.jobpost.search.query.NotQuery;
+import com.wanted.recruit.jobpost.search.query.OrQuery;
+import com.wanted.recruit.jobpost.search.query.QueryNode;
+import com.wanted.recruit.jobpost.search.query.QueryVisitor;
+import com.wanted.recruit.jobpost.search.query.RewardQuery;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import com.wanted.recruit.jobpost.search.query.TagQuery;
+import com.wanted.recruit.jobpost.search.query.TermQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * 채용 공고 인메모리 역색인(inverted index)
+ *
+ * gram -> 채용 공고 id posting list 형태로 회사명/국가/지역/채용 내용/포지션/사용 기술을 색인
+ * 검색 시 검색어의 gram posting list 교집합으로 후보를 추린 뒤, 후보 문서에서만 부분 문자열 포함 여부를 최종 확인
+ * -> 검색마다 전체 테이블을 LIKE '%검색어%'로 스캔하지 않음
+ * 관련도순 검색은 검색된 문서에 BM25F 점수({@link Bm25Scorer})를 매겨 상위 k개만 선택
+ * 결과 수 상한이 있는 검색은 최종 확인과 동시에 크기 k 힙으로 최신/관련도 상위 k개만 남김 (전체 결과를 모아 정렬하지 않음)
+ * 기술 태그는 태그 -> 채용 공고 id 압축 비트맵({@link RoaringBitmap})으로 색인하여
+ * "tag:java tag:spring NOT tag:php" 같은 조건을 비트맵 AND/OR/ANDNOT으로 계산
+ * 국가/지역/태그/보상금 구간은 사전 인코딩({@link FacetDictionary})된 코드로도 보관하여,
+ * 검색 결과 집계({@link #facets})를 별도 GROUP BY 쿼리 없이 검색된 문서 한 번 순회로 계산
+ * 회사별 채용 공고 id는 회사 채용 공고 목록과 같은 (생성일, id) 순서의 배열({@link CompanyJobPosts})로 보관하여
+ * 상세 조회의 "회사의 다른 채용 공고"를 DB 조회 없이 제공
+ *
+ * 동시성
+ * - 색인 변경(추가/교체/삭제)은 한 번에 하나씩 처리 (writer 직렬화)
+ * - 검색은 락 없이 수행: 문서는 ConcurrentHashMap, posting list는 불변 스냅샷을 읽음
+ * - 교체 시 새 gram 추가 -> 문서 교체 -> 사라진 gram 제거 순서로 반영하여,
+ *   검색 중인 스레드가 이전/새 문서 중 어느 쪽을 보더라도 해당 문서의 gram은 모두 색인에 존재
+ * - posting list에 남은 지난 후보는 현재 문서로 최종 확인하므로 결과에 포함되지 않음
+ * - 태그 비트맵과 회사별 id 배열은 불변이며 변경 시 새 값으로 교체, 전체 색인이 끝난 뒤(markReady) 한 번에 생성
+ *
+ * 반영 순서
+ * - 변경 이벤트는 커밋 후 각자 DB를 다시 읽어 반영하므로 도착 순서가 커밋 순서와 다를 수 있음
+ * - 이미 색인된 문서보다 수정일이 이른 문서는 반영하지 않음 (동시 수정의 늦게 도착한 이전 상태)
+ * - 제거한 id는 TOMBSTONE_RETENTION 동안 기록하여, 삭제 커밋 전에 읽은 문서가 뒤늦게 도착해도 다시 색인하지 않음
+ *   (id는 시퀀스로 발급되어 재사용되지 않으므로 제거된 id가 다시 색인될 일은 없음)
+ *
+ * 병렬 검색
+ * - 최종 확인/관련도 점수 계산 대상이 parallelThreshold개 이상이면 대상을 구간(segment)으로 나눠 ForkJoin 공용 풀에서 처리
+ * - 구간마다 결과 목록/상위 k개 힙을 만들고 합침 (구간은 코어 수의 몇 배로 나눠 작업량 편차를 흡수)
+ * - 대상이 적은 검색은 작업 분배 비용이 더 크므로 호출 스레드에서 처리
+ */
+@Component
+public class JobPostSearchIndex {
+    // 최신순: 생성일 내림차순, 같으면 id 내림차순 (DB 목록 정렬과 동일)
+    private static final Comparator<JobPostDocument> NEWEST_FIRST = Comparator
+            .comparing(JobPostDocument::getCreatedDate)
+            .thenComparingLong(JobPostDocument::getId)
+            .reversed();
+
+    // 최신순의 반대 (최신 k개 힙의 루트에 가장 먼저 버릴 문서)
+    private static final Comparator<JobPostDocument> OLDEST_FIRST = NEWEST_FIRST.reversed();
+
+    // 관련도 낮은 순: 점수 오름차순, 같으면 오래된 순 (top-K 힙의 루트에 가장 먼저 버릴 문서)
+    private static final Comparator<ScoredDocument> WORST_FIRST = Comparator
+            .comparingDouble(ScoredDocument::getScore)
+            .thenComparing(scored -> scored.getDocument().getCreatedDate())
+            .thenComparingLong(scored -> scored.getDocument().getId());
+
+    private final Map<Integer, PostingList> postings = new ConcurrentHashMap<>(); // gram -> posting list
+    private final Map<Long, JobPostDocument> documents = new ConcurrentHashMap<>(); // 채용 공고 id -> 문서
+    private final Map<String, RoaringBitmap> tagBitmaps = new ConcurrentHashMap<>(); // 태그 -> 채용 공고 id 비트맵
+    private final Map<Long, FacetRow> facetRows = new ConcurrentHashMap<>(); // 채용 공고 id -> 집계 필드 코드
+    private final Map<Long, CompanyJobPosts> companyJobPosts = new ConcurrentHashMap<>(); // 회사 id -> 채용 공고 목록
+    private final FacetDictionary nations = new FacetDictionary();
+    private final FacetDictionary regions = new FacetDictionary();
+    private final FacetDictionary tags = new FacetDictionary();
+    private final Object writeLock = new Object();
+
+    // 집계 결과에 포함할 최대 태그 수
+    private static final int MAX_TAG_FACETS = 20;
+
+    // 병렬 검색 기본 기준 문서 수
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    // 병렬 검색 구간의 최소 문서 수, 코어당 구간 수
+    private static final int MIN_SEGMENT_SIZE = 1_024;
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private final ForkJoinPool searchPool = ForkJoinPool.commonPool();
+
+    // 최종 확인/점수 계산 대상이 이 수 이상이면 병렬 처리
+    private final int parallelThreshold;
+
+    // SearchField 순서의 전체 문서 필드 길이 합, 관련도 점수의 평균 필드 길이 계산용
+    private final AtomicLongArray fieldLengths = new AtomicLongArray(SearchField.values().length);
+
+    // 기동 시 전체 색인/복원 도중 삭제된 채용 공고 id, 오래된 스냅샷으로 다시 색인되지 않도록 기록
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+
+    // 기동 시 복원 도중 저장/수정된 채용 공고 id, 저장된 로그나 DB에서 다시 읽은 이전 상태로 덮어쓰지 않도록 기록
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+
+    // 제거된 채용 공고 id -> 제거 시각(ms), 제거 순서대로 보관 (writer 전용)
+    private final Map<Long, Long> tombstones = new LinkedHashMap<>();
+
+    // 제거된 id를 기록해 두는 시간, 삭제와 겹친 변경 이벤트가 반영되기까지 충분한 시간
+    private static final long TOMBSTONE_RETENTION_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    // 기동 시 전체 색인이 끝났는지 여부, 끝나기 전에는 DB 검색 사용
+    private volatile boolean ready;
+
+    // 색인이 바뀔 때마다 증가, 색인으로 만든 파생 데이터(자동완성 등)의 갱신 필요 여부 판단용
+    private volatile long version;
+
+    public JobPostSearchIndex() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold 병렬 검색 기준 문서 수, 최종 확인/점수 계산 대상이 이보다 적으면 호출 스레드에서 처리
+     */
+    @Autowired
+    public JobPostSearchIndex(@Value("${search.parallel-threshold:10000}") int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 문서 색인 (같은 id의 문서가 있으면 교체)
+     * 교체 시 바뀐 gram의 posting list만 수정
+     * 최근 제거된 공고이거나 색인된 문서보다 이전 상태면 반영하지 않음
+     *
+     * @param document 색인할 문서
+     * @return 반영 여부
+     */
+    public boolean index(JobPostDocument document) {
+        synchronized (writeLock) {
+            long id = document.getId();
+
+            if (tombstones.containsKey(id) || removedWhileLoading.contains(id) || isStale(document)) {
+                return false;
+            }
+
+            if (!ready) {
+                changedWhileLoading.add(id);
+            }
+
+            replace(document);
+            return true;
+        }
+    }
+
+    /**
+     * 기동 시 복원용: 저장된 로그나 DB에서 다시 읽은 문서로 교체
+     * 복원 도중 저장/수정/삭제된 채용 공고와 색인된 문서보다 이전 상태인 문서는 무시
+     * (로그 레코드는 색인 반영 후 기록되어 순서가 바뀔 수 있으므로 수정일로 판단)
+     *
+     * @param document 색인할 문서
+     */
+    public void reload(JobPostDocument document) {
+        synchronized (writeLock) {
+            long id = document.getId();
+
+            if (changedWhileLoading.contains(id) || removedWhileLoading.contains(id) || isStale(document)) {
+                return;
+            }
+
+            replace(document);
+        }
+    }
+
+    /**
+     * 기동 시 전체 색인용: 같은 id의 문서가 이미 있거나 그 사이 삭제되었으면 무시
+     * 색인 도중 저장/수정/삭제된 최신 상태를 오래된 스냅샷으로 덮어쓰지 않기 위함
+     *
+     * @param document 색인할 문서
+     */
+    public void load(JobPostDocument document) {
+        synchronized (writeLock) {
+            long id = document.getId();
+
+            if (documents.containsKey(id) || removedWhileLoading.contains(id)) {
+                return;
+            }
+
+            addPostings(id, grams(document));
+            facetRows.put(id, facetRow(document));
+            documents.put(id, document);
+            addFieldLengths(document, 1);
+            version++;
+        }
+    }
+
+    /**
+     * 저장된 세그먼트로 색인 복원 (기동 시 DB 전체 색인 대신 사용, 전체 색인 완료 전에만 호출)
+     * 문서는 토큰화 없이 그대로 넣고, gram posting list는 매핑된 영역을 가리키기만 함 (처음 사용할 때 해석)
+     * 복원 전에 이벤트로 이미 저장/수정/삭제된 채용 공고는 세그먼트의 이전 상태로 덮어쓰지 않고,
+     * 해당 공고의 이전 상태에만 있던 gram은 posting list에서 제거
+     *
+     * @param segment 읽어 들인 세그먼트
+     * @throws IllegalStateException 색인이 이미 사용 중인 경우
+     */
+    void restore(IndexSegment segment) {
+        synchronized (writeLock) {
+            if (ready) {
+                throw new IllegalStateException("전체 색인 완료 전에만 복원할 수 있습니다.");
+            }
+
+            List<JobPostDocument> superseded = new ArrayList<>();
+
+            segment.forEachDocument(document -> {
+                long id = document.getId();
+
+                if (changedWhileLoading.contains(id) || removedWhileLoading.contains(id)) {
+                    superseded.add(document);
+                    return;
+                }
+
+                facetRows.put(id, facetRow(document));
+                documents.put(id, document);
+                addFieldLengths(document, 1);
+            });
+
+            segment.forEachPostingList((gram, size, encoded) -> {
+                PostingList restored = PostingList.mapped(encoded, size);
+                PostingList early = postings.get(gram);
+
+                // 복원 전에 색인된 문서가 이미 만든 posting list는 합침 (복원 전 변경은 드물어 바로 해석)
+                if (early != null) {
+                    for (long id : early.snapshot().toArray()) {
+                        restored.add(id);
+                    }
+                }
+
+                postings.put(gram, restored);
+            });
+
+            for (JobPostDocument previous : superseded) {
+                JobPostDocument current = documents.get(previous.getId());
+                int[] previousGrams = grams(previous);
+                removePostings(previous.getId(),
+                        current == null ? previousGrams : difference(previousGrams, grams(current)));
+            }
+
+            version++;
+        }
+    }
+
+    /**
+     * 기동 시 복원용: DB에 없는 채용 공고를 색인에서 제거 (체크포인트 이후 삭제되었지만 로그에 남지 않은 공고)
+     * 복원 도중 이벤트로 저장/수정된 공고는 유지 (id 목록을 읽은 뒤 저장된 공고일 수 있음)
+     *
+     * @param existingIds DB에 있는 채용 공고 id, 오름차순
+     * @return 제거한 공고 수
+     */
+    public int removeMissing(long[] existingIds) {
+        synchronized (writeLock) {
+            List<Long> missing = new ArrayList<>();
+
+            for (Long id : documents.keySet()) {
+                if (Arrays.binarySearch(existingIds, id) < 0 && !changedWhileLoading.contains(id)) {
+                    missing.add(id);
+                }
+            }
+
+            missing.forEach(this::remove);
+            return missing.size();
+        }
+    }
+
+    /**
+     * 복원에 실패했을 때 색인을 비움 (DB 전체 색인 전, 전체 색인 완료 전에만 호출)
+     *
+     * @throws IllegalStateException 색인이 이미 사용 중인 경우
+     */
+    void clear() {
+        synchronized (writeLock) {
+            if (ready) {
+                throw new IllegalStateException("사용 중인 색인은 비울 수 없습니다.");
+            }
+
+            postings.clear();
+            documents.clear();
+            tagBitmaps.clear();
+            facetRows.clear();
+            companyJobPosts.clear();
+
+            for (int i = 0; i < fieldLengths.length(); i++) {
+                fieldLengths.set(i, 0);
+            }
+
+            version++;
+        }
+    }
+
+    /**
+     * 채용 공고를 색인에서 제거
+     *
+     * @param id 삭제된 채용 공고 id
+     */
+    public void remove(long id) {
+        synchronized (writeLock) {
+            if (ready) {
+                addTombstone(id);
+            } else {
+                removedWhileLoading.add(id);
+            }
+
+            JobPostDocument previous = documents.remove(id);
+            facetRows.remove(id);
+
+            if (previous != null) {
+                removePostings(id, grams(previous));
+                addFieldLengths(previous, -1);
+                removeFromTagBitmaps(id, previous.getTags(), List.of());
+                removeFromCompany(previous);
+                version++;
+            }
+        }
+    }
+
+    /**
+     * 이미 색인된 문서가 더 나중에 수정된 상태인지 여부 (writer 전용)
+     */
+    private boolean isStale(JobPostDocument document) {
+        JobPostDocument current = documents.get(document.getId());
+        return current != null && current.isNewerThan(document);
+    }
+
+    /**
+     * 제거된 id 기록, 보관 시간이 지난 기록은 오래된 것부터 정리 (writer 전용)
+     */
+    private void addTombstone(long id) {
+        long now = System.currentTimeMillis();
+        Iterator<Long> removedAt = tombstones.values().iterator();
+
+        while (removedAt.hasNext() && now - removedAt.next() > TOMBSTONE_RETENTION_MILLIS) {
+            removedAt.remove();
+        }
+
+        tombstones.put(id, now);
+    }
+
+    /**
+     * 이미 있는 문서를 교체하거나 새 문서 추가, 바뀐 gram의 posting list만 수정
+     */
+    private void replace(JobPostDocument document) {
+        long id = document.getId();
+        int[] grams = grams(document);
+        JobPostDocument previous = documents.get(id);
+        int[] previousGrams = previous == null ? new int[0] : grams(previous);
+        List<String> previousTags = previous == null ? List.of() : previous.getTags();
+
+        addPostings(id, difference(grams, previousGrams));
+        addToTagBitmaps(id, document.getTags(), previousTags);
+        facetRows.put(id, facetRow(document));
+        documents.put(id, document);
+        removePostings(id, difference(previousGrams, grams));
+        removeFromTagBitmaps(id, previousTags, document.getTags());
+
+        // 회사별 목록은 (생성일, id)로 찾으므로 회사나 생성일이 바뀌면 이전 위치에서 제거
+        if (previous != null && (previous.getCompanyId() != document.getCompanyId()
+                || !previous.getCreatedDate().equals(document.getCreatedDate()))) {
+            removeFromCompany(previous);
+        }
+
+        addToCompany(document);
+        addFieldLengths(document, 1);
+
+        if (previous != null) {
+            addFieldLengths(previous, -1);
+        }
+
+        version++;
+    }
+
+    /**
+     * 전체 색인 완료 표시
+     * 로딩된 문서로 태그 비트맵과 회사별 id 배열을 한 번에 생성 (로딩 중에는 문서마다 복사하지 않음)
+     */
+    public void markReady() {
+        synchronized (writeLock) {
+            buildTagBitmaps();
+            buildCompanyJobPosts();
+            ready = true;
+            removedWhileLoading.clear();
+            changedWhileLoading.clear();
+            version++;
+        }
+    }
+
+    /**
+     * 전체 색인이 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 색인 변경 횟수, 값이 같으면 그 사이 색인이 바뀌지 않음
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 회사의 채용 공고 목록
+     * 전체 색인이 끝나기 전(isReady가 false)에는 비어 있으므로 DB 조회 사용
+     *
+     * @param companyId 회사 id
+     * @return 오래된 순(생성일, id 오름차순) 불변 스냅샷 (없으면 빈 목록)
+     */
+    public CompanyJobPosts jobPostsOfCompany(long companyId) {
+        return companyJobPosts.getOrDefault(companyId, CompanyJobPosts.EMPTY);
+    }
+
+    /**
+     * 회사의 채용 공고 id 목록
+     *
+     * @param companyId 회사 id
+     * @return 채용 공고 id, 오래된 순(생성일, id 오름차순), 불변 스냅샷이므로 수정하지 말 것 (없으면 빈 배열)
+     */
+    public long[] jobPostIdsOfCompany(long companyId) {
+        return jobPostsOfCompany(companyId).ids();
+    }
+
+    /**
+     * 색인된 모든 문서를 순회 (순서 보장 X)
+     * 순회 중 변경된 문서는 변경 전/후 중 하나로 전달되거나 누락될 수 있음
+     *
+     * @param consumer 문서를 받을 함수
+     */
+    public void forEachDocument(Consumer<JobPostDocument> consumer) {
+        documents.values().forEach(consumer);
+    }
+
+    /**
+     * 검색 조건을 만족하는 채용 공고 중 최신 limit개
+     * 후보를 최종 확인하면서 크기 limit의 힙에 최신 문서만 남기므로 검색된 공고 n개에 대해 O(n log limit),
+     * 검색 결과 전체를 모으거나 정렬하지 않음 (결과 수 상한이 있는 검색용)
+     *
+     * @param query 파싱된 검색어
+     * @param limit 반환할 최대 문서 수
+     * @return 검색된 문서, 최신순
+     */
+    public List<JobPostDocument> search(SearchQuery query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        QueryNode root = query.getRoot();
+        return overCandidates(root, (size, candidate) -> top(size, i -> {
+            JobPostDocument document = candidate.apply(i);
+            return document != null && root.matches(document) ? document : null;
+        }, OLDEST_FIRST, limit));
+    }
+
+    /**
+     * 구문 트리로 후보를 추려 (후보 수, 후보 순번 -> 문서) 함수에 전달
+     *
+     * @param root    검색 조건
+     * @param matcher 후보 수와 후보 순번 -> 문서(없으면 null)를 받아 결과를 만드는 함수
+     */
+    private <T> T overCandidates(QueryNode root, BiFunction<Integer, IntFunction<JobPostDocument>, T> matcher) {
+        Candidates candidates = root.accept(new CandidateCollector());
+
+        if (candidates == null) {
+            // 후보를 추릴 수 없는 조건(NOT, 보상금 비교만 있는 경우 등) -> 전체 문서가 후보
+            JobPostDocument[] all = documents.values().toArray(new JobPostDocument[0]);
+            return matcher.apply(all.length, i -> all[i]);
+        }
+
+        // 후보를 추린 뒤 삭제된 문서는 null
+        long[] ids = candidates.ids.toArray();
+        return matcher.apply(ids.length, i -> documents.get(ids[i]));
+    }
+
+    /**
+     * 검색 조건을 만족하는 채용 공고 중 관련도(BM25) 상위 k개
+     * 후보를 최종 확인하면서 바로 점수를 매겨 크기 k의 최소 힙으로 선택하므로 검색된 공고 n개에 대해 O(n log k),
+     * 검색 결과 전체를 모으지 않음
+     * 점수는 NOT 밖의 검색어로만 계산
+     *
+     * @param query 파싱된 검색어
+     * @param k     반환할 최대 문서 수
+     * @return 관련도 점수가 매겨진 문서, 점수 내림차순 (같으면 최신순)
+     */
+    public List<ScoredDocument> rank(SearchQuery query, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        QueryNode root = query.getRoot();
+        Bm25Scorer scorer = scorer(query.getScoringTerms());
+        return overCandidates(root, (size, candidate) -> top(size, i -> {
+            JobPostDocument document = candidate.apply(i);
+            return document != null && root.matches(document)
+                    ? new ScoredDocument(document, scorer.score(document))
+                    : null;
+        }, WORST_FIRST, k));
+    }
+
+    /**
+     * 대상 중 상위 k개, 대상이 parallelThreshold개 이상이면 구간별 상위 k개를 병렬로 구해 합침
+     *
+     * @param size       대상 수
+     * @param hit        대상 순번 -> 힙에 넣을 값 (제외할 대상이면 null)
+     * @param worstFirst 가장 먼저 버릴 값이 앞에 오는 순서
+     * @param k          반환할 최대 개수
+     * @return 상위 k개, worstFirst의 역순
+     */
+    private <T> List<T> top(int size, IntFunction<T> hit, Comparator<T> worstFirst, int k) {
+        PriorityQueue<T> heap = isParallel(size)
+                ? searchPool.invoke(new TopTask<>(hit, worstFirst, k, 0, size, segmentSize(size)))
+                : topRange(hit, worstFirst, k, 0, size);
+
+        List<T> top = new ArrayList<>(heap);
+        top.sort(worstFirst.reversed());
+        return top;
+    }
+
+    /**
+     * 구간 대상의 상위 k개를 담은 힙 (루트가 가장 먼저 버릴 값)
+     */
+    private static <T> PriorityQueue<T> topRange(IntFunction<T> hit, Comparator<T> worstFirst, int k,
+                                                 int from, int to) {
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.max(1, Math.min(k, to - from)), worstFirst);
+
+        for (int i = from; i < to; i++) {
+            T value = hit.apply(i);
+
+            if (value != null) {
+                offer(heap, value, worstFirst, k);
+            }
+        }
+
+        return heap;
+    }
+
+    /**
+     * 크기 k 힙에 값 추가, 가득 찼으면 루트보다 나은 경우에만 교체
+     */
+    private static <T> void offer(PriorityQueue<T> heap, T value, Comparator<T> worstFirst, int k) {
+        if (heap.size() < k) {
+            heap.offer(value);
+        } else if (worstFirst.compare(value, heap.peek()) > 0) {
+            heap.poll();
+            heap.offer(value);
+        }
+    }
+
+    /**
+     * 대상 문서 수가 병렬 처리 기준 이상이고 병렬로 처리할 스레드가 있는지 여부
+     */
+    private boolean isParallel(int size) {
+        return size >= parallelThreshold && searchPool.getParallelism() > 1;
+    }
+
+    /**
+     * 병렬 처리 구간 크기: 코어당 SEGMENTS_PER_THREAD개 정도로 나누되 너무 잘게 나누지 않음
+     */
+    private int segmentSize(int size) {
+        return Math.max(MIN_SEGMENT_SIZE, size / (searchPool.getParallelism() * SEGMENTS_PER_THREAD) + 1);
+    }
+
+    /**
+     * 검색된 문서의 국가/지역/태그/보상금 구간별 건수
+     * 문서마다 사전 인코딩된 코드로 int 배열 칸을 증가시키며 한 번만 순회
+     *
+     * @param matched 검색된 문서
+     * @return 필드 값별 건수
+     */
+    public SearchFacets facets(Collection<JobPostDocument> matched) {
+        int[] nationCounts = new int[nations.size()];
+        int[] regionCounts = new int[regions.size()];
+        int[] tagCounts = new int[tags.size()];
+        int[] rewardCounts = new int[RewardBand.values().length];
+
+        for (JobPostDocument document : matched) {
+            FacetRow row = facetRows.get(document.getId());
+
+            // 검색 후 삭제된 문서
+            if (row == null) {
+                continue;
+            }
+
+            // 배열 생성 후 새로 부여된 코드면 배열을 늘림
+            nationCounts = increment(nationCounts, row.nation);
+            regionCounts = increment(regionCounts, row.region);
+            rewardCounts[row.rewardBand]++;
+
+            for (int tag : row.tags) {
+                tagCounts = increment(tagCounts, tag);
+            }
+        }
+
+        List<RewardBandCount> rewards = new ArrayList<>();
+
+        for (RewardBand band : RewardBand.values()) {
+            rewards.add(new RewardBandCount(band.getMin(), band.getMax(), rewardCounts[band.ordinal()]));
+        }
+
+        return new SearchFacets(
+                facetCounts(nations, nationCounts, Integer.MAX_VALUE),
+                facetCounts(regions, regionCounts, Integer.MAX_VALUE),
+                facetCounts(tags, tagCounts, MAX_TAG_FACETS),
+                rewards);
+    }
+
+    /**
+     * 현재 색인 통계로 BM25 점수 계산기 생성
+     * 검색어 항목별 문서 빈도(df)는 항목의 gram posting list 교집합 크기로 추정 (부분 문자열 최종 확인 생략)
+     */
+    private Bm25Scorer scorer(List<String> terms) {
+        int documentCount = documents.size();
+        int[] documentFrequency = new int[terms.size()];
+
+        for (int i = 0; i < terms.size(); i++) {
+            long[] candidates = candidates(terms.get(i));
+            documentFrequency[i] = candidates == null ? documentCount : candidates.length;
+        }
+
+        double[] averageLengths = new double[fieldLengths.length()];
+
+        for (int i = 0; i < averageLengths.length; i++) {
+            averageLengths[i] = documentCount == 0 ? 0 : (double) fieldLengths.get(i) / documentCount;
+        }
+
+        return new Bm25Scorer(terms, documentFrequency, documentCount, averageLengths);
+    }
+
+    /**
+     * 검색어의 모든 gram posting list 교집합
+     * 짧은 posting list부터 교집합하여 중간 결과 크기를 최소화
+     *
+     * @param term 정규화된 검색어
+     * @return 후보 id(오름차순), gram이 하나도 없으면 null
+     */
+    private long[] candidates(String term) {
+        List<PostingList.Snapshot> lists = new ArrayList<>();
+
+        for (int gram : SearchTokenizer.queryGrams(term)) {
+            PostingList postingList = postings.get(gram);
+
+            // 한 gram이라도 색인에 없으면 결과 없음
+            if (postingList == null) {
+                return new long[0];
+            }
+
+            lists.add(postingList.snapshot());
+        }
+
+        if (lists.isEmpty()) {
+            return null;
+        }
+
+        lists.sort(Comparator.comparingInt(PostingList.Snapshot::size));
+
+        long[] result = lists.get(0).toArray();
+
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+
+        return result;
+    }
+
+    private void addPostings(long id, int[] grams) {
+        for (int gram : grams) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    private void removePostings(long id, int[] grams) {
+        for (int gram : grams) {
+            PostingList postingList = postings.get(gram);
+
+            if (postingList != null) {
+                postingList.remove(id);
+
+                if (postingList.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * tags 중 except에 없는 태그의 비트맵에 id 추가
+     * 전체 색인이 끝나기 전에는 markReady에서 한 번에 생성하므로 생략
+     */
+    private void addToTagBitmaps(long id, List<String> tags, List<String> except) {
+        if (!ready) {
+            return;
+        }
+
+        for (String tag : tags) {
+            if (!except.contains(tag)) {
+                tagBitmaps.merge(tag, RoaringBitmap.empty().with(id), (current, added) -> current.with(id));
+            }
+        }
+    }
+
+    /**
+     * tags 중 except에 없는 태그의 비트맵에서 id 제거, 비트맵이 비면 태그도 제거
+     */
+    private void removeFromTagBitmaps(long id, List<String> tags, List<String> except) {
+        if (!ready) {
+            return;
+        }
+
+        for (String tag : tags) {
+            if (!except.contains(tag)) {
+                tagBitmaps.computeIfPresent(tag, (key, current) -> {
+                    RoaringBitmap removed = current.without(id);
+                    return removed.isEmpty() ? null : removed;
+                });
+            }
+        }
+    }
+
+    /**
+     * 현재 문서 전체로 태그 비트맵 생성
+     */
+    private void buildTagBitmaps() {
+        Map<String, IdBuffer> idsByTag = new HashMap<>();
+
+        for (JobPostDocument document : documents.values()) {
+            for (String tag : document.getTags()) {
+                idsByTag.computeIfAbsent(tag, key -> new IdBuffer()).add(document.getId());
+            }
+        }
+
+        tagBitmaps.clear();
+        idsByTag.forEach((tag, ids) -> tagBitmaps.put(tag, RoaringBitmap.of(ids.toArray())));
+    }
+
+    /**
+     * 회사의 채용 공고 목록에 문서 추가 (새 목록으로 교체)
+     * 전체 색인이 끝나기 전에는 markReady에서 한 번에 생성하므로 생략
+     */
+    private void addToCompany(JobPostDocument document) {
+        if (!ready) {
+            return;
+        }
+
+        companyJobPosts.compute(document.getCompanyId(), (key, current) ->
+                (current == null ? CompanyJobPosts.EMPTY : current).with(document));
+    }
+
+    /**
+     * 회사의 채용 공고 목록에서 문서 제거 (새 목록으로 교체, 비면 회사 항목 제거)
+     *
+     * @param previous 목록에 추가할 때 사용한 문서
+     */
+    private void removeFromCompany(JobPostDocument previous) {
+        if (!ready) {
+            return;
+        }
+
+        companyJobPosts.computeIfPresent(previous.getCompanyId(), (key, current) -> {
+            CompanyJobPosts removed = current.without(previous);
+            return removed.size() == 0 ? null : removed;
+        });
+    }
+
+    /**
+     * 현재 문서 전체로 회사별 채용 공고 목록 생성
+     */
+    private void buildCompanyJobPosts() {
+        Map<Long, List<JobPostDocument>> documentsByCompany = new HashMap<>();
+
+        for (JobPostDocument document : documents.values()) {
+            documentsByCompany.computeIfAbsent(document.getCompanyId(), key -> new ArrayList<>()).add(document);
+        }
+
+        companyJobPosts.clear();
+        documentsByCompany.forEach((companyId, companyDocuments) ->
+                companyJobPosts.put(companyId, CompanyJobPosts.of(companyDocuments)));
+    }
+
+    /**
+     * 문서의 집계 필드를 사전 인코딩 (writer 전용)
+     */
+    private FacetRow facetRow(JobPostDocument document) {
+        int[] tagCodes = new int[document.getTags().size()];
+
+        for (int i = 0; i < tagCodes.length; i++) {
+            tagCodes[i] = tags.encode(document.getTags().get(i));
+        }
+
+        return new FacetRow(nations.encode(document.getNation()), regions.encode(document.getRegion()),
+                tagCodes, RewardBand.of(document.getReward()).ordinal());
+    }
+
+    private static int[] increment(int[] counts, int code) {
+        if (code >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(code + 1, counts.length * 2));
+        }
+
+        counts[code]++;
+        return counts;
+    }
+
+    /**
+     * 건수가 있는 값만 건수 내림차순(같으면 값 오름차순)으로 최대 limit개
+     */
+    private static List<FacetCount> facetCounts(FacetDictionary dictionary, int[] counts, int limit) {
+        List<FacetCount> facetCounts = new ArrayList<>();
+
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                facetCounts.add(new FacetCount(dictionary.decode(code), counts[code]));
+            }
+        }
+
+        facetCounts.sort(Comparator.comparingInt(FacetCount::getCount).reversed()
+                .thenComparing(FacetCount::getValue));
+
+        return facetCounts.size() > limit ? new ArrayList<>(facetCounts.subList(0, limit)) : facetCounts;
+    }
+
+    private void addFieldLengths(JobPostDocument document, int sign) {
+        for (SearchField field : SearchField.values()) {
+            fieldLengths.addAndGet(field.ordinal(), (long) sign * document.text(field).length());
+        }
+    }
+
+    /**
+     * 문서의 모든 필드에서 추출한 gram, 오름차순 중복 제거
+     */
+    static int[] grams(JobPostDocument document) {
+        GramBuffer buffer = new GramBuffer();
+
+        for (SearchField field : SearchField.values()) {
+            SearchTokenizer.indexGrams(document.text(field), buffer);
+        }
+
+        return buffer.toSortedUniqueArray();
+    }
+
+    /**
+     * 정렬된 두 gram 배열의 차집합 (a - b)
+     */
+    private static int[] difference(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        int count = 0;
+        int j = 0;
+
+        for (int gram : a) {
+            while (j < b.length && b[j] < gram) {
+                j++;
+            }
+
+            if (j == b.length || b[j] != gram) {
+                result[count++] = gram;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 대상 구간을 반으로 나눠 병렬로 처리, 구간별 상위 k개 힙을 합침
+     */
+    private static final class TopTask<T> extends RecursiveTask<PriorityQueue<T>> {
+        private final IntFunction<T> hit;
+        private final Comparator<T> worstFirst;
+        private final int k;
+        private final int from;
+        private final int to;
+        private final int segmentSize;
+
+        private TopTask(IntFunction<T> hit, Comparator<T> worstFirst, int k, int from, int to, int segmentSize) {
+            this.hit = hit;
+            this.worstFirst = worstFirst;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        protected PriorityQueue<T> compute() {
+            if (to - from <= segmentSize) {
+                return topRange(hit, worstFirst, k, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            TopTask<T> left = new TopTask<>(hit, worstFirst, k, from, middle, segmentSize);
+            left.fork();
+            PriorityQueue<T> right = new TopTask<>(hit, worstFirst, k, middle, to, segmentSize).compute();
+            PriorityQueue<T> heap = left.join();
+
+            for (T value : right) {
+                offer(heap, value, worstFirst, k);
+            }
+
+            return heap;
+        }
+    }
+
+    /**
+     * 검색 결과를 포함하는 후보 id 집합
+     * exact가 true면 후보가 곧 결과 (태그 조건처럼 비트맵이 정확한 경우), false면 결과의 상위 집합
+     */
+    private static final class Candidates {
+        private final RoaringBitmap ids;
+        private final boolean exact;
+
+        private Candidates(RoaringBitmap ids, boolean exact) {
+            this.ids = ids;
+            this.exact = exact;
+        }
+    }
+
+    /**
+     * 구문 트리에서 검색 결과를 포함하는 후보 id 집합 계산
+     * null은 후보를 추릴 수 없음(전체 문서)을 의미
+     * - 검색어: gram posting list 교집합 (상위 집합)
+     * - 태그: 태그 비트맵 (정확), 전체 색인이 끝나기 전에는 추릴 수 없음
+     * - AND: 하위 후보 교집합, 정확한 후보를 가진 NOT은 ANDNOT으로 제외
+     * - OR: 하위 후보 합집합
+     * - 그 밖의 NOT, 보상금 비교: 추릴 수 없음 -> 최종 확인 단계에서 걸러냄
+     */
+    private final class CandidateCollector implements QueryVisitor<Candidates> {
+        @Override
+        public Candidates visitTerm(TermQuery query) {
+            long[] ids = candidates(query.getText());
+            return ids == null ? null : new Candidates(RoaringBitmap.of(ids), false);
+        }
+
+        @Override
+        public Candidates visitTag(TagQuery query) {
+            if (!ready) {
+                return null;
+            }
+
+            return new Candidates(tagBitmaps.getOrDefault(query.getTag(), RoaringBitmap.empty()), true);
+        }
+
+        @Override
+        public Candidates visitReward(RewardQuery query) {
+            return null;
+        }
+
+        @Override
+        public Candidates visitAnd(AndQuery query) {
+            List<RoaringBitmap> included = new ArrayList<>();
+            List<RoaringBitmap> excluded = new ArrayList<>();
+            boolean exact = true;
+
+            for (QueryNode child : query.getChildren()) {
+                if (child instanceof NotQuery) {
+                    Candidates negated = ((NotQuery) child).getChild().accept(this);
+
+                    // 후보가 정확해야 제외해도 결과가 빠지지 않음
+                    if (negated != null && negated.exact) {
+                        excluded.add(negated.ids);
+                    } else {
+                        exact = false;
+                    }
+
+                    continue;
+                }
+
+                Candidates candidates = child.accept(this);
+
+                if (candidates == null) {
+                    exact = false;
+                } else {
+                    included.add(candidates.ids);
+                    exact &= candidates.exact;
+                }
+            }
+
+            if (included.isEmpty()) {
+                return null;
+            }
+
+            included.sort(Comparator.comparingInt(RoaringBitmap::cardinality));
+            RoaringBitmap result = included.get(0);
+
+            for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+                result = result.and(included.get(i));
+            }
+
+            for (RoaringBitmap ids : excluded) {
+                result = result.andNot(ids);
+            }
+
+            return new Candidates(result, exact);
+        }
+
+        @Override
+        public Candidates visitOr(OrQuery query) {
+            RoaringBitmap result = RoaringBitmap.empty();
+            boolean exact = true;
+
+            for (QueryNode child : query.getChildren()) {
+                Candidates candidates = child.accept(this);
+
+                if (candidates == null) {
+                    return null;
+                }
+
+                result = result.or(candidates.ids);
+                exact &= candidates.exact;
+            }
+
+            return new Candidates(result, exact);
+        }
+
+        @Override
+        public Candidates visitNot(NotQuery query) {
+            return null;
+        }
+    }
+
+    /**
+     * 추출된 gram을 boxing 없이 모으는 버퍼
+     */
+    private static final class GramBuffer implements SearchTokenizer.GramSink {
+        private int[] grams = new int[64];
+        private int size;
+
+        @Override
+        public void accept(int gram) {
+            if (size == grams.length) {
+                grams = Arrays.copyOf(grams, size * 2);
+            }
+
+            grams[size++] = gram;
+        }
+
+        int[] toSortedUniqueArray() {
+            Arrays.sort(grams, 0, size);
+
+            int unique = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || grams[i] != grams[i - 1]) {
+                    grams[unique++] = grams[i];
+                }
+            }
+
+            return Arrays.copyOf(grams, unique);
+        }
+    }
+
+    /**
+     * 문서 하나의 사전 인코딩된 집계 필드 코드, 불변
+     */
+    private static final class FacetRow {
+        private final int nation;
+        private final int region;
+        private final int[] tags;
+        private final int rewardBand; // RewardBand ordinal
+
+        private FacetRow(int nation, int region, int[] tags, int rewardBand) {
+            this.nation = nation;
+            this.region = region;
+            this.tags = tags;
+            this.rewardBand = rewardBand;
+        }
+    }
+
+    /**
+     * 채용 공고 id를 boxing 없이 모으는 버퍼
+     */
+    private static final class IdBuffer {
+        private long[] ids = new long[8];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            ids[size++] = id;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 기동 시 채용 공고를 {@link JobPostSearchIndex}에 색인하고 자동완성 trie, 오타 허용 검색 사전 생성
+ * 디스크에 저장된 색인({@link JobPostIndexStore})이 있으면 복원 후 체크포인트 이후 바뀐 채용 공고만 DB에서 읽고
+ * DB에 없는 (체크포인트 이후 삭제된) 채용 공고를 id 목록으로 걸러 제거, 없으면 전체 채용 공고를 색인
+ * 색인이 끝나기 전까지 검색은 DB에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobPostSearchIndexLoader {
+    private final JobPostRepository jobPostRepository;
+    private final JobPostSearchIndex searchIndex;
+    private final JobPostIndexStore indexStore;
+    private final JobPostSuggester suggester;
+    private final JobPostTermDictionary termDictionary;
+
+    /**
+     * 저장된 색인을 복원하고 이후 변경분만, 복원할 수 없으면 전체 채용 공고를 DB 커서로 읽으며 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Optional<LocalDateTime> restoredAt = indexStore.restore();
+
+        if (restoredAt.isPresent()) {
+            try (Stream<JobPostDocument> documents = jobPostRepository.streamDocumentsUpdatedSince(restoredAt.get())) {
+                documents.forEach(searchIndex::reload);
+            }
+
+            // 수정일로는 삭제된 공고를 찾을 수 없으므로 id 목록과 비교
+            try (Stream<Long> ids = jobPostRepository.streamIds()) {
+                int removed = searchIndex.removeMissing(ids.mapToLong(Long::longValue).toArray());
+                log.info("검색 인덱스 복원 후 삭제된 채용 공고 제거: {}건", removed);
+            }
+        } else {
+            try (Stream<JobPostDocument> documents = jobPostRepository.streamDocuments()) {
+                documents.forEach(searchIndex::load);
+            }
+        }
+
+        searchIndex.markReady();
+        indexStore.checkpointAsync();
+        suggester.rebuild();
+        termDictionary.rebuild();
+        log.info("채용 공고 검색 인덱스 로딩 완료({}): {}건, {}ms", restoredAt.isPresent() ? "복원" : "전체 색인",
+                searchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
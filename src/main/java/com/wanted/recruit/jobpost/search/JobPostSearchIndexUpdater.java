@@ -0,0 +1,172 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.company.event.CompanyChangedEvent;
+import com.wanted.recruit.jobpost.event.JobPostChangedEvent;
+import com.wanted.recruit.jobpost.event.JobPostDeletedEvent;
+import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채용 공고/회사 변경 이벤트를 받아 {@link JobPostSearchIndex}에 증분 반영
+ *
+ * 커밋된 변경만 반영하도록 커밋 후(AFTER_COMMIT)에 처리하며, 롤백된 변경은 색인에 들어가지 않음
+ * 커밋이 끝난 트랜잭션에는 참여할 수 없으므로 조회는 새 읽기 전용 트랜잭션에서 수행
+ * 동시 변경의 이벤트가 순서를 바꿔 도착해도 색인이 수정일과 제거 기록으로 이전 상태를 걸러냄 ({@link JobPostSearchIndex#index})
+ * 반영에 실패해도 이미 커밋된 요청은 실패시키지 않고, 실패한 공고/회사를 기록해 RETRY_DELAY_SECONDS 후 다시 조회하여 반영
+ * 색인에 반영한 변경은 재시작 시 복원할 수 있도록 {@link JobPostIndexStore} 로그에 기록
+ */
+@Component
+@Slf4j
+public class JobPostSearchIndexUpdater {
+    // 반영에 실패한 이벤트를 다시 처리하기까지 기다리는 시간
+    private static final long RETRY_DELAY_SECONDS = 10;
+
+    private final JobPostRepository jobPostRepository;
+    private final JobPostSearchIndex searchIndex;
+    private final JobPostIndexStore indexStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Set<Long> failedJobPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failedCompanyIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean retryScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-post-index-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobPostSearchIndexUpdater(JobPostRepository jobPostRepository,
+                                     JobPostSearchIndex searchIndex,
+                                     JobPostIndexStore indexStore,
+                                     PlatformTransactionManager transactionManager) {
+        this.jobPostRepository = jobPostRepository;
+        this.searchIndex = searchIndex;
+        this.indexStore = indexStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 저장/수정된 채용 공고를 다시 조회해 색인 (조회되지 않으면 그 사이 삭제된 것으로 보고 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        try {
+            refresh(event.getJobPostId());
+        } catch (RuntimeException e) {
+            log.error("채용 공고 검색 인덱스 반영 실패, {}초 후 다시 시도: {}", RETRY_DELAY_SECONDS, event, e);
+            failedJobPostIds.add(event.getJobPostId());
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * 삭제된 채용 공고를 색인에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobPostDeleted(JobPostDeletedEvent event) {
+        remove(event.getJobPostId());
+    }
+
+    /**
+     * 회사 정보가 바뀌면 해당 회사의 모든 채용 공고를 다시 색인
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        try {
+            refreshCompany(event.getCompanyId());
+        } catch (RuntimeException e) {
+            log.error("회사 변경 검색 인덱스 반영 실패, {}초 후 다시 시도: {}", RETRY_DELAY_SECONDS, event, e);
+            failedCompanyIds.add(event.getCompanyId());
+            scheduleRetry();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+
+    /**
+     * 반영에 실패한 공고/회사를 다시 조회해 반영, 다시 실패하면 다음 재시도로 미룸
+     */
+    void retryFailed() {
+        retryScheduled.set(false);
+
+        for (Long id : drain(failedJobPostIds)) {
+            retry(() -> refresh(id), failedJobPostIds, id);
+        }
+
+        for (Long companyId : drain(failedCompanyIds)) {
+            retry(() -> refreshCompany(companyId), failedCompanyIds, companyId);
+        }
+    }
+
+    private void retry(Runnable refresh, Set<Long> failed, Long id) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> refresh.run());
+        } catch (RuntimeException e) {
+            log.warn("검색 인덱스 반영 재시도 실패: {}", id, e);
+            failed.add(id);
+            scheduleRetry();
+        }
+    }
+
+    private void scheduleRetry() {
+        if (retryScheduled.compareAndSet(false, true)) {
+            retryExecutor.schedule(this::retryFailed, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void refresh(Long id) {
+        jobPostRepository.findDocument(id).ifPresentOrElse(this::index, () -> remove(id));
+    }
+
+    private void refreshCompany(Long companyId) {
+        jobPostRepository.findDocumentsByCompanyId(companyId).forEach(this::index);
+    }
+
+    /**
+     * 색인에 반영된 경우에만 로그 기록 (이전 상태라 반영되지 않은 문서는 기록하지 않음)
+     */
+    private void index(JobPostDocument document) {
+        if (searchIndex.index(document)) {
+            indexStore.logIndexed(document);
+        }
+    }
+
+    private void remove(long id) {
+        searchIndex.remove(id);
+        indexStore.logRemoved(id);
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>();
+
+        for (Long id : ids) {
+            if (ids.remove(id)) {
+                drained.add(id);
+            }
+        }
+
+        return drained;
+    }
+}
@@ -0,0 +1,202 @@
+package com.wanted.recruit.jobpost.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성
+ *
+ * 검색 인덱스의 채용 포지션, 회사명, 기술 태그로 {@link SuggestionTrie}를 만들어 메모리에 보관
+ * 키는 한글을 자모로 분해해 등록하므로 입력 중인 글자로도 찾을 수 있음 ("백ㅇ" -> "백엔드")
+ * 후보 인기도는 해당 후보가 포함된 채용 공고 수
+ *
+ * trie는 불변이며, 색인이 바뀌면 조회 요청이 백그라운드 재생성을 요청하고 그동안은 이전 trie로 응답
+ * 재생성은 한 번에 하나씩, REBUILD_INTERVAL_MILLIS에 최대 한 번
+ */
+@Component
+@Slf4j
+public class JobPostSuggester {
+    // 노드마다 미리 계산할 상위 후보 수 = 한 번에 조회할 수 있는 최대 후보 수
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final long REBUILD_INTERVAL_MILLIS = 5_000;
+
+    private final JobPostSearchIndex searchIndex;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-post-suggester");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+    private volatile long builtVersion = -1; // trie를 만들 때의 색인 버전
+    private volatile long builtAt; // trie를 만든 시각(ms)
+
+    public JobPostSuggester(JobPostSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * 접두사로 시작하는 자동완성 후보
+     * 포지션/회사명은 단어 단위로도 찾음 ("개발" -> "백엔드 개발자")
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 후보 수, 1 ~ MAX_SUGGESTIONS
+     * @return 후보, 인기도 내림차순, 접두사가 비어 있으면 빈 목록
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        rebuildIfStale();
+
+        String key = key(prefix);
+
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        return trie.suggest(key, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    /**
+     * 현재 색인으로 trie를 다시 만듦 (호출 스레드에서 실행)
+     */
+    public void rebuild() {
+        long version = searchIndex.version();
+        long start = System.currentTimeMillis();
+        SuggestionTrie rebuilt = build();
+
+        trie = rebuilt;
+        builtVersion = version;
+        builtAt = System.currentTimeMillis();
+        log.debug("자동완성 trie 생성: 노드 {}개, {}ms", rebuilt.nodeCount(), builtAt - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 색인이 바뀌었고 마지막 생성 후 일정 시간이 지났으면 백그라운드 재생성 요청
+     */
+    private void rebuildIfStale() {
+        if (!searchIndex.isReady() || searchIndex.version() == builtVersion
+                || System.currentTimeMillis() - builtAt < REBUILD_INTERVAL_MILLIS
+                || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("자동완성 trie 생성 실패", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private SuggestionTrie build() {
+        Map<String, Candidate> candidates = new HashMap<>(); // 정규화된 텍스트 -> 후보
+
+        searchIndex.forEachDocument(document -> {
+            // 한 공고에 같은 텍스트가 여러 번(태그와 포지션 단어 등) 나와도 한 번만 셈
+            Set<String> counted = new HashSet<>();
+
+            for (String tag : document.getTags()) {
+                count(candidates, counted, tag, SuggestionType.TAG);
+            }
+
+            count(candidates, counted, document.getCompanyName(), SuggestionType.COMPANY);
+            count(candidates, counted, document.getPosition(), SuggestionType.POSITION);
+
+            for (String word : document.getPosition().split("\\s+")) {
+                if (word.length() > 1) {
+                    count(candidates, counted, word, SuggestionType.KEYWORD);
+                }
+            }
+        });
+
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder(MAX_SUGGESTIONS);
+
+        candidates.forEach((normalized, candidate) -> {
+            int entry = builder.addEntry(candidate.text, candidate.type, candidate.count);
+
+            for (String key : keys(normalized, candidate.type)) {
+                builder.addKey(key, entry);
+            }
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * 같은 정규화 텍스트의 후보 건수 증가, 없으면 생성
+     * 종류가 다르면 앞에 선언된 종류(태그 > 회사 > 포지션 > 단어)로 표시
+     */
+    private static void count(Map<String, Candidate> candidates, Set<String> counted, String text, SuggestionType type) {
+        String normalized = SearchTokenizer.normalize(text);
+
+        if (normalized.isEmpty() || !counted.add(normalized)) {
+            return;
+        }
+
+        Candidate candidate = candidates.computeIfAbsent(normalized, key -> new Candidate(text.trim(), type));
+
+        if (type.ordinal() < candidate.type.ordinal()) {
+            candidate.text = text.trim();
+            candidate.type = type;
+        }
+
+        candidate.count++;
+    }
+
+    /**
+     * 후보를 찾을 키: 태그/단어는 전체, 회사/포지션은 각 단어에서 시작하는 접미사
+     */
+    private static List<String> keys(String normalized, SuggestionType type) {
+        List<String> keys = new ArrayList<>();
+        keys.add(HangulJamo.decompose(normalized));
+
+        if (type == SuggestionType.COMPANY || type == SuggestionType.POSITION) {
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                keys.add(HangulJamo.decompose(normalized.substring(i + 1)));
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * 입력된 접두사를 키와 같은 규칙으로 변환
+     */
+    private static String key(String prefix) {
+        return prefix == null ? "" : HangulJamo.decompose(SearchTokenizer.normalize(prefix));
+    }
+
+    /**
+     * 생성 중인 후보
+     */
+    private static final class Candidate {
+        private String text;
+        private SuggestionType type;
+        private int count;
+
+        private Candidate(String text, SuggestionType type) {
+            this.text = text;
+            this.type = type;
+        }
+    }
+}
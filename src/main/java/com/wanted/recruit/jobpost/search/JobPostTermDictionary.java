@@ -0,0 +1,198 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import com.wanted.recruit.jobpost.search.query.TermQuery;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오타 허용 검색용 단어 사전
+ *
+ * 검색 인덱스 문서(채용 공고, 회사명 포함)의 모든 필드에서 단어를 모아 {@link FuzzyTermDictionary}로 메모리에 보관
+ * 오타 허용 검색 시 검색어 항목마다 편집 거리 안의 단어를 사전에서 찾아 OR 조건으로 추가 ("sprng" -> "spring")
+ * -> 오타 허용 비용은 사전 trie 탐색뿐이며, 확장된 검색어는 일반 검색과 같이 인덱스에서 검색
+ *
+ * 사전은 불변이며 자동완성({@link JobPostSuggester})과 같은 방식으로 색인이 바뀌면 백그라운드에서 다시 만듦
+ */
+@Component
+@Slf4j
+public class JobPostTermDictionary {
+    // 검색어 항목 하나에 추가할 최대 단어 수
+    static final int MAX_EXPANSIONS = 5;
+
+    // 사전에 넣을 단어 길이, 긴 단어(URL 등)는 오타 검색 대상에서 제외
+    private static final int MIN_WORD_LENGTH = 2;
+    private static final int MAX_WORD_LENGTH = 20;
+
+    private static final long REBUILD_INTERVAL_MILLIS = 5_000;
+
+    private final JobPostSearchIndex searchIndex;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-post-term-dictionary");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile FuzzyTermDictionary dictionary = FuzzyTermDictionary.EMPTY;
+    private volatile long builtVersion = -1; // 사전을 만들 때의 색인 버전
+    private volatile long builtAt; // 사전을 만든 시각(ms)
+
+    public JobPostTermDictionary(JobPostSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * 검색어 항목마다 오타 후보 단어를 OR 조건으로 추가한 검색어
+     *
+     * @param query 파싱된 검색어
+     * @return 확장된 검색어, 후보가 없으면 같은 조건
+     */
+    public SearchQuery expand(SearchQuery query) {
+        rebuildIfStale();
+
+        FuzzyTermDictionary current = dictionary;
+        return query.expandTerms(term -> similarTerms(current, term));
+    }
+
+    /**
+     * 현재 색인으로 사전을 다시 만듦 (호출 스레드에서 실행)
+     */
+    public void rebuild() {
+        long version = searchIndex.version();
+        long start = System.currentTimeMillis();
+        FuzzyTermDictionary rebuilt = build();
+
+        dictionary = rebuilt;
+        builtVersion = version;
+        builtAt = System.currentTimeMillis();
+        log.debug("오타 허용 검색 사전 생성: 단어 {}개, {}ms", rebuilt.size(), builtAt - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 검색어 항목과 편집 거리 안에 있는 단어
+     * 공백/문장부호가 포함된 구문과 짧은 검색어(자모 4개 미만)는 오타 후보를 찾지 않음
+     * 원래 검색어를 포함하는 단어는 원래 조건으로 이미 검색되므로 제외
+     */
+    private static List<String> similarTerms(FuzzyTermDictionary dictionary, TermQuery term) {
+        String text = term.getText();
+
+        if (!isWord(text)) {
+            return List.of();
+        }
+
+        String key = HangulJamo.decompose(text);
+        int maxDistance = maxDistance(key.length());
+
+        if (maxDistance == 0) {
+            return List.of();
+        }
+
+        List<String> similar = new ArrayList<>();
+
+        for (String word : dictionary.similar(key, maxDistance, MAX_EXPANSIONS + 1)) {
+            if (!word.contains(text) && similar.size() < MAX_EXPANSIONS) {
+                similar.add(word);
+            }
+        }
+
+        return similar;
+    }
+
+    /**
+     * 검색어 길이(자모 수)별 허용 편집 거리: 짧을수록 적게 허용하여 엉뚱한 단어가 섞이지 않도록 함
+     */
+    static int maxDistance(int keyLength) {
+        if (keyLength < 4) {
+            return 0;
+        }
+
+        return keyLength < 8 ? 1 : 2;
+    }
+
+    private FuzzyTermDictionary build() {
+        Map<String, Integer> frequencies = new HashMap<>(); // 단어 -> 단어가 포함된 채용 공고 수
+
+        searchIndex.forEachDocument(document -> {
+            Set<String> words = new HashSet<>();
+
+            for (SearchField field : SearchField.values()) {
+                collectWords(document.text(field), words);
+            }
+
+            words.forEach(word -> frequencies.merge(word, 1, Integer::sum));
+        });
+
+        FuzzyTermDictionary.Builder builder = new FuzzyTermDictionary.Builder();
+        frequencies.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * 정규화된 텍스트를 공백/문장부호 기준 단어로 나눔
+     */
+    private static void collectWords(String normalizedText, Set<String> words) {
+        int start = -1;
+
+        for (int i = 0; i <= normalizedText.length(); i++) {
+            boolean tokenChar = i < normalizedText.length() && SearchTokenizer.isTokenChar(normalizedText.charAt(i));
+
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                if (i - start >= MIN_WORD_LENGTH && i - start <= MAX_WORD_LENGTH) {
+                    words.add(normalizedText.substring(start, i));
+                }
+
+                start = -1;
+            }
+        }
+    }
+
+    private static boolean isWord(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!SearchTokenizer.isTokenChar(text.charAt(i))) {
+                return false;
+            }
+        }
+
+        return !text.isEmpty();
+    }
+
+    /**
+     * 색인이 바뀌었고 마지막 생성 후 일정 시간이 지났으면 백그라운드 재생성 요청
+     */
+    private void rebuildIfStale() {
+        if (!searchIndex.isReady() || searchIndex.version() == builtVersion
+                || System.currentTimeMillis() - builtAt < REBUILD_INTERVAL_MILLIS
+                || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("오타 허용 검색 사전 생성 실패", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 채용 공고 id 목록 (gram 하나의 posting list)
+ * boxing 없이 long 배열로 보관하며, id는 대부분 증가하는 순서로 추가되므로 추가는 보통 배열 끝에 append
+ *
+ * 수정은 한 스레드(색인 writer)에서만, 조회는 여러 스레드에서 락 없이 수행
+ * - 조회: volatile {@link Snapshot} 하나만 읽으므로 항상 일관된 (배열, 크기) 쌍을 봄
+ * - append: 이미 공개된 스냅샷이 읽지 않는 배열 칸(size 이후)에만 쓰고 새 스냅샷 공개
+ * - 중간 삽입/삭제: 새 배열에 복사한 뒤 공개(copy-on-write) -> 이전 스냅샷을 읽는 스레드에 영향 없음
+ * 세그먼트에서 복원한 posting list는 매핑된 영역만 가리키다가 처음 사용할 때 한 번 해석 ({@link #mapped})
+ */
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private volatile Snapshot snapshot = new Snapshot(new long[INITIAL_CAPACITY], 0);
+    private ByteBuffer encoded; // 아직 해석하지 않은 세그먼트 영역, 해석 후 null
+    private int encodedSize;
+
+    /**
+     * 세그먼트의 매핑된 영역으로 생성, id 목록은 처음 조회/수정할 때 해석
+     *
+     * @param encoded id 차이값 varint 목록이 시작하는 영역
+     * @param size    id 수
+     */
+    static PostingList mapped(ByteBuffer encoded, int size) {
+        PostingList postingList = new PostingList();
+        postingList.encoded = encoded;
+        postingList.encodedSize = size;
+        postingList.snapshot = null;
+        return postingList;
+    }
+
+    /**
+     * id 추가, 이미 있으면 무시
+     */
+    void add(long id) {
+        Snapshot current = snapshot();
+        long[] ids = current.ids;
+        int size = current.size;
+
+        if (size > 0 && ids[size - 1] >= id) {
+            insertSorted(current, id);
+            return;
+        }
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(size * 2, INITIAL_CAPACITY));
+        }
+
+        ids[size] = id;
+        snapshot = new Snapshot(ids, size + 1);
+    }
+
+    /**
+     * id 제거, 없으면 무시
+     */
+    void remove(long id) {
+        Snapshot current = snapshot();
+        int idx = Arrays.binarySearch(current.ids, 0, current.size, id);
+
+        if (idx < 0) {
+            return;
+        }
+
+        long[] ids = new long[current.ids.length];
+        System.arraycopy(current.ids, 0, ids, 0, idx);
+        System.arraycopy(current.ids, idx + 1, ids, idx, current.size - idx - 1);
+        snapshot = new Snapshot(ids, current.size - 1);
+    }
+
+    boolean isEmpty() {
+        Snapshot current = snapshot;
+        return current == null ? encodedSize == 0 : current.size == 0;
+    }
+
+    /**
+     * 현재 시점의 불변 스냅샷
+     */
+    Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : decode();
+    }
+
+    // 여러 검색 스레드가 동시에 처음 사용해도 한 번만 해석
+    private synchronized Snapshot decode() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(IndexSegment.decodeIds(encoded.duplicate(), encodedSize), encodedSize);
+            encoded = null;
+        }
+
+        return snapshot;
+    }
+
+    private void insertSorted(Snapshot current, long id) {
+        int idx = Arrays.binarySearch(current.ids, 0, current.size, id);
+
+        if (idx >= 0) {
+            return;
+        }
+
+        int insertionPoint = -idx - 1;
+        long[] ids = new long[Math.max(current.ids.length, current.size + 1)];
+        System.arraycopy(current.ids, 0, ids, 0, insertionPoint);
+        ids[insertionPoint] = id;
+        System.arraycopy(current.ids, insertionPoint, ids, insertionPoint + 1, current.size - insertionPoint);
+        snapshot = new Snapshot(ids, current.size + 1);
+    }
+
+    /**
+     * posting list의 특정 시점 상태
+     * ids[0, size) 구간은 공개된 이후 변경되지 않음
+     */
+    static final class Snapshot {
+        private final long[] ids;
+        private final int size;
+
+        private Snapshot(long[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * 정렬된 id 배열 복사본
+         */
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        /**
+         * 정렬된 배열과의 교집합
+         *
+         * @param sorted 오름차순으로 정렬된 id 배열
+         * @return 교집합, 오름차순
+         */
+        long[] intersect(long[] sorted) {
+            long[] result = new long[Math.min(size, sorted.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < size && j < sorted.length) {
+                if (ids[i] < sorted[j]) {
+                    i++;
+                } else if (ids[i] > sorted[j]) {
+                    j++;
+                } else {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 결과 집계용 채용 보상금 구간
+ * min 이상 max 미만, max가 null이면 상한 없음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RewardBand {
+    NONE(0, 1), // 보상금 없음
+    UNDER_500K(1, 500_000),
+    FROM_500K_TO_1M(500_000, 1_000_000),
+    FROM_1M_TO_2M(1_000_000, 2_000_000),
+    OVER_2M(2_000_000, null);
+
+    private final int min; // 하한 (포함)
+    private final Integer max; // 상한 (미포함), null이면 상한 없음
+
+    /**
+     * 보상금이 속한 구간
+     */
+    public static RewardBand of(int reward) {
+        for (RewardBand band : values()) {
+            if (band.max == null || reward < band.max) {
+                return band;
+            }
+        }
+
+        return OVER_2M;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 보상금 구간({@link RewardBand}) 하나의 건수
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class RewardBandCount {
+    private final int min; // 하한 (포함)
+    private final Integer max; // 상한 (미포함), null이면 상한 없음
+    private final int count; // 검색된 공고 중 해당 구간의 공고 수
+}
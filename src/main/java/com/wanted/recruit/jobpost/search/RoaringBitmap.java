@@ -0,0 +1,581 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.Arrays;
+
+/**
+ * 채용 공고 id 집합을 나타내는 불변 압축 비트맵 (Roaring bitmap 방식)
+ *
+ * id의 상위 비트(id >>> 16)를 키로 65,536개 단위 구간(container)으로 나누고, 구간마다 밀도에 따라 표현을 선택
+ * - 원소가 4,096개 이하: 정렬된 char 배열 (원소당 2바이트)
+ * - 그보다 많으면: 65,536비트 비트셋 (구간당 8KB 고정)
+ * AND/OR/ANDNOT은 같은 키의 container끼리만 계산하므로 posting list 병합보다 빠르고 메모리도 적게 사용
+ *
+ * 변경 연산({@link #with}, {@link #without})은 바뀐 container만 새로 만들고 나머지는 공유하는 새 비트맵을 반환
+ * -> 이전 비트맵을 읽는 스레드는 락 없이 일관된 집합을 봄
+ */
+final class RoaringBitmap {
+    // 배열 container의 최대 원소 수, 이보다 많으면 비트셋이 더 작음
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024; // 65,536비트 / 64
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap(new int[0], new Container[0]);
+
+    private final int[] keys; // 오름차순 상위 비트 키
+    private final Container[] containers; // keys와 같은 순서의 구간, 비어 있는 구간은 두지 않음
+
+    private RoaringBitmap(int[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+    }
+
+    static RoaringBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * id 배열로 비트맵 생성
+     *
+     * @param ids 0 이상의 id, 정렬/중복 여부 무관
+     */
+    static RoaringBitmap of(long[] ids) {
+        long[] sorted = ids.clone();
+        Arrays.sort(sorted);
+
+        int[] keys = new int[sorted.length];
+        Container[] containers = new Container[sorted.length];
+        int size = 0;
+        int start = 0;
+
+        while (start < sorted.length) {
+            int key = highBits(sorted[start]);
+            int end = start;
+
+            while (end < sorted.length && highBits(sorted[end]) == key) {
+                end++;
+            }
+
+            keys[size] = key;
+            containers[size++] = Container.of(sorted, start, end);
+            start = end;
+        }
+
+        return new RoaringBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+    }
+
+    /**
+     * id를 추가한 비트맵, 이미 있으면 자기 자신
+     */
+    RoaringBitmap with(long id) {
+        int key = highBits(id);
+        char low = lowBits(id);
+        int idx = Arrays.binarySearch(keys, key);
+
+        if (idx >= 0) {
+            Container updated = containers[idx].with(low);
+            return updated == containers[idx] ? this : replace(idx, updated);
+        }
+
+        int insertionPoint = -idx - 1;
+        int[] newKeys = new int[keys.length + 1];
+        Container[] newContainers = new Container[containers.length + 1];
+
+        System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+        System.arraycopy(containers, 0, newContainers, 0, insertionPoint);
+        newKeys[insertionPoint] = key;
+        newContainers[insertionPoint] = new ArrayContainer(new char[]{low});
+        System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+        System.arraycopy(containers, insertionPoint, newContainers, insertionPoint + 1, containers.length - insertionPoint);
+
+        return new RoaringBitmap(newKeys, newContainers);
+    }
+
+    /**
+     * id를 제거한 비트맵, 없으면 자기 자신
+     */
+    RoaringBitmap without(long id) {
+        int idx = Arrays.binarySearch(keys, highBits(id));
+
+        if (idx < 0) {
+            return this;
+        }
+
+        Container updated = containers[idx].without(lowBits(id));
+        return updated == containers[idx] ? this : replace(idx, updated);
+    }
+
+    boolean contains(long id) {
+        int idx = Arrays.binarySearch(keys, highBits(id));
+        return idx >= 0 && containers[idx].contains(lowBits(id));
+    }
+
+    boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+
+        for (Container container : containers) {
+            cardinality += container.cardinality();
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * 교집합 (AND)
+     */
+    RoaringBitmap and(RoaringBitmap other) {
+        Builder builder = new Builder(Math.min(keys.length, other.keys.length));
+        int i = 0;
+        int j = 0;
+
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                builder.add(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 합집합 (OR)
+     */
+    RoaringBitmap or(RoaringBitmap other) {
+        Builder builder = new Builder(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                builder.add(keys[i], containers[i++]);
+            } else if (i == keys.length || other.keys[j] < keys[i]) {
+                builder.add(other.keys[j], other.containers[j++]);
+            } else {
+                builder.add(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 차집합 (ANDNOT): 이 비트맵에서 other에 있는 id 제외
+     */
+    RoaringBitmap andNot(RoaringBitmap other) {
+        Builder builder = new Builder(keys.length);
+        int j = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                builder.add(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                builder.add(keys[i], containers[i]);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 오름차순 id 배열
+     */
+    long[] toArray() {
+        long[] ids = new long[cardinality()];
+        int offset = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            offset = containers[i].copyTo(ids, offset, (long) keys[i] << 16);
+        }
+
+        return ids;
+    }
+
+    private RoaringBitmap replace(int idx, Container updated) {
+        if (updated == null) {
+            int[] newKeys = new int[keys.length - 1];
+            Container[] newContainers = new Container[containers.length - 1];
+
+            System.arraycopy(keys, 0, newKeys, 0, idx);
+            System.arraycopy(containers, 0, newContainers, 0, idx);
+            System.arraycopy(keys, idx + 1, newKeys, idx, keys.length - idx - 1);
+            System.arraycopy(containers, idx + 1, newContainers, idx, containers.length - idx - 1);
+
+            return new RoaringBitmap(newKeys, newContainers);
+        }
+
+        Container[] newContainers = containers.clone();
+        newContainers[idx] = updated;
+        return new RoaringBitmap(keys, newContainers);
+    }
+
+    private static int highBits(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id는 0 이상이어야 합니다: " + id);
+        }
+
+        return (int) (id >>> 16);
+    }
+
+    private static char lowBits(long id) {
+        return (char) id;
+    }
+
+    /**
+     * 키 순서대로 container를 모아 비트맵 생성, 빈 container(null)는 건너뜀
+     */
+    private static final class Builder {
+        private final int[] keys;
+        private final Container[] containers;
+        private int size;
+
+        private Builder(int capacity) {
+            this.keys = new int[capacity];
+            this.containers = new Container[capacity];
+        }
+
+        private void add(int key, Container container) {
+            if (container != null) {
+                keys[size] = key;
+                containers[size++] = container;
+            }
+        }
+
+        private RoaringBitmap build() {
+            return size == 0 ? EMPTY : new RoaringBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+    }
+
+    /**
+     * 65,536개 구간 하나의 하위 16비트 집합, 불변
+     * 연산 결과가 비어 있으면 null 반환
+     */
+    private abstract static class Container {
+        static Container of(long[] sorted, int from, int to) {
+            char[] values = new char[to - from];
+            int size = 0;
+
+            for (int i = from; i < to; i++) {
+                char low = lowBits(sorted[i]);
+
+                if (size == 0 || values[size - 1] != low) {
+                    values[size++] = low;
+                }
+            }
+
+            return fromSortedValues(values, size);
+        }
+
+        /**
+         * 정렬된 값으로 원소 수에 맞는 container 생성
+         */
+        static Container fromSortedValues(char[] values, int size) {
+            if (size == 0) {
+                return null;
+            }
+
+            if (size <= ARRAY_MAX_SIZE) {
+                return new ArrayContainer(Arrays.copyOf(values, size));
+            }
+
+            long[] words = new long[BITMAP_WORDS];
+
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+
+            return new BitmapContainer(words, size);
+        }
+
+        abstract Container with(char value);
+
+        abstract Container without(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract long[] toWords();
+
+        abstract int copyTo(long[] target, int offset, long high);
+
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            return BitmapContainer.fromWords(and(toWords(), other.toWords()));
+        }
+
+        Container or(Container other) {
+            return BitmapContainer.fromWords(or(toWords(), other.toWords()));
+        }
+
+        Container andNot(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+
+            return BitmapContainer.fromWords(words);
+        }
+
+        private static long[] and(long[] a, long[] b) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                a[i] &= b[i];
+            }
+
+            return a;
+        }
+
+        private static long[] or(long[] a, long[] b) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                a[i] |= b[i];
+            }
+
+            return a;
+        }
+    }
+
+    /**
+     * 원소가 적은 구간: 오름차순 char 배열
+     */
+    private static final class ArrayContainer extends Container {
+        private final char[] values;
+
+        private ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Container with(char value) {
+            int idx = Arrays.binarySearch(values, value);
+
+            if (idx >= 0) {
+                return this;
+            }
+
+            int insertionPoint = -idx - 1;
+            char[] added = new char[values.length + 1];
+            System.arraycopy(values, 0, added, 0, insertionPoint);
+            added[insertionPoint] = value;
+            System.arraycopy(values, insertionPoint, added, insertionPoint + 1, values.length - insertionPoint);
+
+            return fromSortedValues(added, added.length);
+        }
+
+        @Override
+        Container without(char value) {
+            int idx = Arrays.binarySearch(values, value);
+
+            if (idx < 0) {
+                return this;
+            }
+
+            char[] removed = new char[values.length - 1];
+            System.arraycopy(values, 0, removed, 0, idx);
+            System.arraycopy(values, idx + 1, removed, idx, values.length - idx - 1);
+
+            return fromSortedValues(removed, removed.length);
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+
+            return words;
+        }
+
+        @Override
+        int copyTo(long[] target, int offset, long high) {
+            for (char value : values) {
+                target[offset++] = high | value;
+            }
+
+            return offset;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[values.length];
+            int size = 0;
+
+            for (char value : values) {
+                if (other.contains(value)) {
+                    result[size++] = value;
+                }
+            }
+
+            return fromSortedValues(result, size);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return super.or(other);
+            }
+
+            char[] otherValues = ((ArrayContainer) other).values;
+            char[] result = new char[values.length + otherValues.length];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < values.length || j < otherValues.length) {
+                if (j == otherValues.length || (i < values.length && values[i] < otherValues[j])) {
+                    result[size++] = values[i++];
+                } else if (i == values.length || otherValues[j] < values[i]) {
+                    result[size++] = otherValues[j++];
+                } else {
+                    result[size++] = values[i++];
+                    j++;
+                }
+            }
+
+            return fromSortedValues(result, size);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[values.length];
+            int size = 0;
+
+            for (char value : values) {
+                if (!other.contains(value)) {
+                    result[size++] = value;
+                }
+            }
+
+            return fromSortedValues(result, size);
+        }
+    }
+
+    /**
+     * 원소가 많은 구간: 65,536비트 비트셋
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private final int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * 비트셋으로 container 생성, 원소가 적으면 배열 container로 변환
+         */
+        static Container fromWords(long[] words) {
+            int cardinality = 0;
+
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            if (cardinality == 0) {
+                return null;
+            }
+
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+
+            if (cardinality > ARRAY_MAX_SIZE) {
+                return bitmap;
+            }
+
+            char[] values = new char[cardinality];
+            bitmap.copyTo(values);
+            return new ArrayContainer(values);
+        }
+
+        @Override
+        Container with(char value) {
+            if (contains(value)) {
+                return this;
+            }
+
+            long[] updated = words.clone();
+            updated[value >>> 6] |= 1L << value;
+            return new BitmapContainer(updated, cardinality + 1);
+        }
+
+        @Override
+        Container without(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+
+            long[] updated = words.clone();
+            updated[value >>> 6] &= ~(1L << value);
+            return fromWords(updated);
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        int copyTo(long[] target, int offset, long high) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+
+                while (word != 0) {
+                    target[offset++] = high | ((long) i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+
+            return offset;
+        }
+
+        private void copyTo(char[] target) {
+            int offset = 0;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+
+                while (word != 0) {
+                    target[offset++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 관련도 점수가 매겨진 검색 문서
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class ScoredDocument {
+    private final JobPostDocument document; // 검색 문서
+    private final double score; // BM25 관련도 점수
+}
@@ -0,0 +1,29 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 검색 결과 캐시 통계 (기동 후 누적)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class SearchCacheStats {
+    private final long hits; // 캐시된 결과를 사용한 요청 수
+    private final long misses; // 검색을 새로 수행한 요청 수
+    private final long evictions; // 용량 초과로 제거된 결과 수
+    private final long expirations; // TTL이 지나 제거된 결과 수
+    private final long invalidations; // 색인이 바뀌어 제거된 결과 수
+    private final int size; // 캐시된 결과 수
+    private final long weight; // 캐시된 결과의 문서 수 합
+
+    /**
+     * 적중률 (0 ~ 1), 요청이 없으면 0
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
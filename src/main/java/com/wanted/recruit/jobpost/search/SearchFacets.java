@@ -0,0 +1,21 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 검색된 채용 공고의 필드 값별 건수 (검색 화면의 필터 목록용)
+ * 값 목록은 건수 내림차순, 같으면 값 오름차순
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class SearchFacets {
+    private final List<FacetCount> nations; // 국가별 건수
+    private final List<FacetCount> regions; // 지역별 건수
+    private final List<FacetCount> tags; // 기술 태그별 건수, 상위 일부만
+    private final List<RewardBandCount> rewards; // 보상금 구간별 건수, 구간 순서
+}
@@ -0,0 +1,24 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 대상 필드
+ * 채용 공고 본문 필드와 작성 회사 필드
+ *
+ * boost: 관련도 점수 계산 시 필드 가중치
+ * 포지션/사용 기술에 일치하는 공고가 채용 내용에서 한 번 언급된 공고보다 앞에 오도록 설정
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchField {
+    POSITION(3.0), // 채용 포지션
+    TECH_STACK(2.5), // 사용 기술
+    CONTENT(1.0), // 채용 내용
+    COMPANY_NAME(2.0), // 회사명
+    NATION(0.5), // 국가
+    REGION(1.0); // 지역
+
+    private final double boost;
+}
@@ -0,0 +1,20 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 인덱스 검색 결과, 불변 ({@link SearchResultCache}에서 여러 요청이 공유)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class SearchResult {
+    private final List<JobPostDocument> matched; // 검색된 문서, 최신순 (관련도순 검색은 관련도순)
+    private final List<ScoredDocument> ranked; // 관련도순 검색에서 점수가 매겨진 matched, 같은 순서 (최신순 검색은 빈 목록)
+    private final SearchFacets facets; // 검색된 문서의 필드 값별 건수
+    private final boolean truncated; // 검색 결과가 상한을 넘어 최신(관련도순 검색은 관련도 상위) 문서만 포함했는지 여부
+}
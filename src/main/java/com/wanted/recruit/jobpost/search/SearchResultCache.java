@@ -0,0 +1,160 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 인덱스 검색 결과 캐시
+ *
+ * 정규화된 검색어(파싱된 구문 트리)를 키로, 검색된 문서와 필드 값별 건수를 보관
+ * "백엔드", "Java"처럼 반복되는 검색어는 구문 트리 후보 계산/최종 확인/집계를 다시 하지 않음
+ *
+ * 무효화
+ * - 결과마다 계산 시작 시점의 색인 버전({@link JobPostSearchIndex#version()})을 기록
+ * - 채용 공고 저장/수정/삭제, 회사 변경이 색인에 반영되면 버전이 바뀌어 이전 결과는 모두 사용하지 않음
+ * - 색인이 바뀌지 않아도 TTL이 지나면 다시 계산
+ *
+ * 용량: 결과 수와 결과에 포함된 문서 수 합(weight)에 상한을 두고, 초과하면 가장 오래 사용되지 않은 결과부터 제거(LRU)
+ * 결과 하나가 너무 크면(전체 문서 대부분이 검색되는 검색어 등) 다른 결과를 밀어내지 않도록 캐시하지 않음
+ */
+@Component
+public class SearchResultCache {
+    private static final int MAX_ENTRIES = 1_000;
+    private static final long MAX_WEIGHT = 500_000; // 캐시 전체의 문서 참조 수 상한
+    private static final long TTL_MILLIS = 60_000;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    // 접근 순서 LinkedHashMap: 가장 오래 사용되지 않은 결과가 맨 앞, 락으로 보호
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lock = new Object();
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SearchResultCache() {
+        this(MAX_ENTRIES, MAX_WEIGHT, TTL_MILLIS, System::currentTimeMillis);
+    }
+
+    SearchResultCache(int maxEntries, long maxWeight, long ttlMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 검색 결과, 없거나 사용할 수 없으면 계산 후 저장
+     * 같은 검색어가 동시에 처음 요청되면 각각 계산할 수 있음 (결과는 같으므로 나중 결과로 교체)
+     *
+     * @param key     정규화된 검색어
+     * @param version 계산 전에 읽은 색인 버전, 계산 중 색인이 바뀌면 다음 조회에서 다시 계산됨
+     * @param loader  검색 결과 계산 함수, 락 밖에서 호출
+     * @return 검색 결과
+     */
+    public SearchResult get(String key, long version, Supplier<SearchResult> loader) {
+        long now = clock.getAsLong();
+
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+
+            if (entry != null) {
+                if (entry.version == version && now < entry.expiresAt) {
+                    hits.incrementAndGet();
+                    return entry.result;
+                }
+
+                if (entry.version == version) {
+                    expirations.incrementAndGet();
+                } else {
+                    invalidations.incrementAndGet();
+                }
+
+                remove(key, entry);
+            }
+        }
+
+        misses.incrementAndGet();
+        SearchResult result = loader.get();
+        put(key, new Entry(result, version, now + ttlMillis));
+        return result;
+    }
+
+    /**
+     * 누적 통계
+     */
+    public SearchCacheStats stats() {
+        synchronized (lock) {
+            return new SearchCacheStats(hits.get(), misses.get(), evictions.get(), expirations.get(),
+                    invalidations.get(), entries.size(), weight);
+        }
+    }
+
+    private void put(String key, Entry entry) {
+        // 결과 하나가 캐시 용량의 1/10을 넘으면 저장하지 않음
+        if (entry.weight > maxWeight / 10) {
+            return;
+        }
+
+        synchronized (lock) {
+            Entry previous = entries.get(key);
+
+            // 계산하는 동안 다른 요청이 더 최신 색인으로 저장했으면 유지
+            if (previous != null && previous.version > entry.version) {
+                return;
+            }
+
+            entries.put(key, entry);
+
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+
+            weight += entry.weight;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+
+            while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+                Entry evicted = eldest.next().getValue();
+                eldest.remove();
+                weight -= evicted.weight;
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        entries.remove(key);
+        weight -= entry.weight;
+    }
+
+    /**
+     * 캐시된 결과와 무효화 기준
+     */
+    private static final class Entry {
+        private final SearchResult result;
+        private final long version; // 계산 시작 시점의 색인 버전
+        private final long expiresAt; // 만료 시각(ms)
+        private final long weight; // 결과 문서 수 + 1 (빈 결과도 한 칸 차지)
+
+        private Entry(SearchResult result, long version, long expiresAt) {
+            this.result = result;
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.weight = result.getMatched().size() + 1L;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색용 텍스트 정규화 및 n-gram 추출
+ *
+ * 공백/문장부호로 토큰을 나눈 뒤, 각 토큰 안에서 1-gram과 2-gram을 추출
+ * 띄어쓰기 없이 조사가 붙는 한글("백엔드와")과 기술명("Vue.js")을 형태소 분석 없이 부분 일치로 찾기 위함
+ * gram은 두 글자를 하나의 int로 묶어 표현 -> 문자열 키보다 메모리 사용량이 적음
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 검색용 정규화 (색인할 텍스트와 검색어에 같은 규칙 적용)
+     * - 소문자 변환: DB의 대소문자 구분 없는 LIKE 검색과 동일한 결과를 내기 위함
+     * - 연속 공백(줄바꿈, 전각 공백 포함)을 공백 하나로, 앞뒤 공백 제거
+     * - 제어 문자와 폭 없는 문자(zero-width space, BOM 등) 제거
+     * - 유니코드 NFC: 조합형(NFD)으로 입력된 한글/악센트 문자를 완성형으로 합침
+     *
+     * 정규식 없이 한 번 순회하며, 이미 정규화된 텍스트(대부분의 검색어)는 새 문자열을 만들지 않고 그대로 반환
+     *
+     * @param text 원문, null 허용
+     * @return 정규화된 문자열, null이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        int length = text.length();
+        int start = 0;
+
+        // 바꿀 필요가 없는 앞부분은 복사만 함
+        while (start < length && isNormalizedChar(text, start)) {
+            start++;
+        }
+
+        if (start == length) {
+            return text;
+        }
+
+        StringBuilder normalized = new StringBuilder(length).append(text, 0, start);
+        boolean pendingSpace = false;
+        boolean composing = false;
+
+        for (int i = start; i < length; ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+                pendingSpace = true;
+            } else if (!isStopChar(codePoint)) {
+                int last = normalized.length() - 1;
+
+                if (pendingSpace && last >= 0 && normalized.charAt(last) != ' ') {
+                    normalized.append(' ');
+                }
+
+                pendingSpace = false;
+                composing |= isCombining(codePoint);
+                normalized.appendCodePoint(Character.toLowerCase(codePoint));
+            }
+        }
+
+        int last = normalized.length() - 1;
+
+        if (last >= 0 && normalized.charAt(last) == ' ') {
+            normalized.setLength(last);
+        }
+
+        // 결합 문자가 있을 때만 NFC 정규화 (드묾)
+        return composing ? Normalizer.normalize(normalized, Normalizer.Form.NFC) : normalized.toString();
+    }
+
+    /**
+     * 정규화해도 바뀌지 않는 문자인지 여부 (앞뒤 문자와의 관계 포함)
+     */
+    private static boolean isNormalizedChar(String text, int index) {
+        char c = text.charAt(index);
+
+        if (c < 0x80) {
+            if (c == ' ') {
+                // 단어 사이의 공백 하나만 허용
+                return index > 0 && index + 1 < text.length() && text.charAt(index - 1) != ' ';
+            }
+
+            return c > ' ' && c != 0x7F && (c < 'A' || c > 'Z');
+        }
+
+        return !Character.isSurrogate(c)
+                && !Character.isWhitespace(c) && !Character.isSpaceChar(c)
+                && !isStopChar(c) && !isCombining(c)
+                && Character.toLowerCase(c) == c;
+    }
+
+    // 제거할 문자: 제어 문자, 서식 문자(폭 없는 공백/결합자, BOM, soft hyphen 등)
+    private static boolean isStopChar(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.CONTROL || type == Character.FORMAT;
+    }
+
+    // NFC로 앞 문자와 합쳐질 수 있는 문자: 결합 부호, 한글 조합형 자모
+    private static boolean isCombining(int codePoint) {
+        if (codePoint >= 0x1100 && codePoint <= 0x11FF) {
+            return true;
+        }
+
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    /**
+     * 색인할 텍스트의 모든 1-gram, 2-gram
+     *
+     * @param normalizedText 정규화된 텍스트
+     * @param sink           추출된 gram을 받을 함수
+     */
+    public static void indexGrams(String normalizedText, GramSink sink) {
+        int length = normalizedText.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = normalizedText.charAt(i);
+
+            if (!isTokenChar(c)) {
+                continue;
+            }
+
+            sink.accept(unigram(c));
+
+            if (i + 1 < length && isTokenChar(normalizedText.charAt(i + 1))) {
+                sink.accept(bigram(c, normalizedText.charAt(i + 1)));
+            }
+        }
+    }
+
+    /**
+     * 검색어 항목을 포함하는 문서가 반드시 가지고 있어야 하는 gram
+     * 한 글자 토큰은 1-gram, 두 글자 이상 토큰은 2-gram만 사용 (2-gram이 1-gram을 함축)
+     *
+     * @param normalizedTerm 정규화된 검색어 항목
+     * @return gram 목록, 문장부호로만 이루어진 경우 빈 목록
+     */
+    public static List<Integer> queryGrams(String normalizedTerm) {
+        List<Integer> grams = new ArrayList<>();
+        int length = normalizedTerm.length();
+        int tokenStart = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && isTokenChar(normalizedTerm.charAt(i));
+
+            if (tokenChar && tokenStart < 0) {
+                tokenStart = i;
+            } else if (!tokenChar && tokenStart >= 0) {
+                if (i - tokenStart == 1) {
+                    grams.add(unigram(normalizedTerm.charAt(tokenStart)));
+                }
+
+                for (int j = tokenStart; j + 1 < i; j++) {
+                    grams.add(bigram(normalizedTerm.charAt(j), normalizedTerm.charAt(j + 1)));
+                }
+
+                tokenStart = -1;
+            }
+        }
+
+        return grams;
+    }
+
+    /**
+     * 토큰을 구성하는 문자인지 여부 (한글, 영문, 숫자 등)
+     * 공백과 문장부호는 토큰 구분자
+     */
+    public static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    // 문자 0('\0')은 토큰 문자가 아니므로 1-gram과 2-gram 키가 겹치지 않음
+    private static int unigram(char c) {
+        return c << 16;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 추출된 gram을 boxing 없이 전달받는 함수형 인터페이스
+     */
+    @FunctionalInterface
+    public interface GramSink {
+        void accept(int gram);
+    }
+}
@@ -0,0 +1,17 @@
+package com.wanted.recruit.jobpost.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 자동완성 후보
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class Suggestion {
+    private final String text; // 표시할 텍스트
+    private final SuggestionType type; // 후보 종류
+    private final int count; // 해당 후보가 포함된 채용 공고 수 (인기도)
+}
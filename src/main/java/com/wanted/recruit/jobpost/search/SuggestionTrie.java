@@ -0,0 +1,308 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자동완성용 불변 trie
+ *
+ * 노드를 배열(CSR 형태)로 압축해 보관: 자식은 연속된 번호에 글자 순으로 배치되어 이진 탐색으로 찾음
+ * 노드마다 하위 트리에서 인기도 상위 k개 후보를 미리 계산해 두므로,
+ * 조회는 접두사 길이만큼 내려간 뒤 해당 노드의 목록을 읽기만 함 -> O(접두사 길이 * log 자식 수 + k)
+ *
+ * 후보 하나를 여러 키(포지션의 단어별 접미사 등)로 등록할 수 있으며, 노드 목록에는 한 번만 포함
+ */
+final class SuggestionTrie {
+    // 키 최대 길이(자모 수), 이보다 긴 키/접두사는 잘라서 사용
+    static final int MAX_KEY_LENGTH = 32;
+
+    static final SuggestionTrie EMPTY = new Builder(1).build();
+
+    private final char[] labels; // 노드로 들어오는 글자, 0번은 루트
+    private final int[] firstChild; // 첫 자식 노드 번호
+    private final int[] childCount; // 자식 수
+    private final int[] topOffsets; // 노드 i의 상위 후보: topEntries[topOffsets[i], topOffsets[i + 1])
+    private final int[] topEntries; // 후보 번호, 인기도 순
+
+    private final String[] texts;
+    private final SuggestionType[] types;
+    private final int[] counts;
+
+    private SuggestionTrie(char[] labels, int[] firstChild, int[] childCount, int[] topOffsets, int[] topEntries,
+                           String[] texts, SuggestionType[] types, int[] counts) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffsets = topOffsets;
+        this.topEntries = topEntries;
+        this.texts = texts;
+        this.types = types;
+        this.counts = counts;
+    }
+
+    /**
+     * 접두사로 시작하는 키의 후보 중 인기도 상위 limit개
+     *
+     * @param prefix 자모로 분해된 접두사
+     * @param limit  최대 후보 수 (빌드 시 k보다 크면 k개)
+     * @return 후보, 인기도 내림차순 (같으면 텍스트 오름차순)
+     */
+    List<Suggestion> suggest(String prefix, int limit) {
+        int node = 0;
+        int length = Math.min(prefix.length(), MAX_KEY_LENGTH);
+
+        for (int i = 0; i < length; i++) {
+            node = child(node, prefix.charAt(i));
+
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        int from = topOffsets[node];
+        int to = Math.min(topOffsets[node + 1], from + limit);
+        List<Suggestion> suggestions = new ArrayList<>(Math.max(to - from, 0));
+
+        for (int i = from; i < to; i++) {
+            int entry = topEntries[i];
+            suggestions.add(new Suggestion(texts[entry], types[entry], counts[entry]));
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * 노드 수 (루트 포함)
+     */
+    int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * trie 생성기, 한 스레드에서만 사용
+     */
+    static final class Builder {
+        private final int topK;
+        private final Node root = new Node('\0');
+        private final List<String> texts = new ArrayList<>();
+        private final List<SuggestionType> types = new ArrayList<>();
+        private final List<Integer> counts = new ArrayList<>();
+
+        /**
+         * @param topK 노드마다 미리 계산할 상위 후보 수 (조회 가능한 최대 후보 수)
+         */
+        Builder(int topK) {
+            this.topK = topK;
+        }
+
+        /**
+         * 후보 추가
+         *
+         * @return 후보 번호, 키 등록에 사용
+         */
+        int addEntry(String text, SuggestionType type, int count) {
+            texts.add(text);
+            types.add(type);
+            counts.add(count);
+            return texts.size() - 1;
+        }
+
+        /**
+         * 후보를 키로 등록
+         *
+         * @param key   자모로 분해된 키, MAX_KEY_LENGTH보다 길면 잘림
+         * @param entry 후보 번호
+         */
+        void addKey(String key, int entry) {
+            Node node = root;
+            int length = Math.min(key.length(), MAX_KEY_LENGTH);
+
+            for (int i = 0; i < length; i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+
+            node.addEntry(entry);
+        }
+
+        SuggestionTrie build() {
+            // 인기도 순위: 건수 내림차순, 같으면 텍스트 오름차순 -> 순위가 작을수록 앞
+            Integer[] byRank = new Integer[texts.size()];
+
+            for (int i = 0; i < byRank.length; i++) {
+                byRank[i] = i;
+            }
+
+            Arrays.sort(byRank, Comparator.<Integer>comparingInt(counts::get).reversed().thenComparing(texts::get));
+            int[] rank = new int[byRank.length]; // 후보 번호 -> 순위
+            int[] entryByRank = new int[byRank.length]; // 순위 -> 후보 번호
+
+            for (int i = 0; i < byRank.length; i++) {
+                rank[byRank[i]] = i;
+                entryByRank[i] = byRank[i];
+            }
+
+            // 너비 우선으로 번호를 매기면 한 노드의 자식이 연속된 번호를 가짐
+            List<Node> nodes = new ArrayList<>();
+            ArrayDeque<Node> queue = new ArrayDeque<>();
+            queue.add(root);
+
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                node.id = nodes.size();
+                nodes.add(node);
+
+                for (int i = 0; i < node.childCount; i++) {
+                    queue.add(node.children[i]);
+                }
+            }
+
+            int size = nodes.size();
+            char[] labels = new char[size];
+            int[] firstChild = new int[size];
+            int[] childCount = new int[size];
+            int[][] tops = new int[size][];
+
+            // 자식의 번호가 항상 부모보다 크므로 뒤에서부터 계산하면 자식 목록이 먼저 준비됨
+            for (int id = size - 1; id >= 0; id--) {
+                Node node = nodes.get(id);
+                labels[id] = node.label;
+                childCount[id] = node.childCount;
+                firstChild[id] = node.childCount == 0 ? 0 : node.children[0].id;
+                tops[id] = topOf(node, tops, rank, entryByRank);
+            }
+
+            int[] topOffsets = new int[size + 1];
+
+            for (int id = 0; id < size; id++) {
+                topOffsets[id + 1] = topOffsets[id] + tops[id].length;
+            }
+
+            int[] topEntries = new int[topOffsets[size]];
+
+            for (int id = 0; id < size; id++) {
+                System.arraycopy(tops[id], 0, topEntries, topOffsets[id], tops[id].length);
+            }
+
+            return new SuggestionTrie(labels, firstChild, childCount, topOffsets, topEntries,
+                    texts.toArray(new String[0]), types.toArray(new SuggestionType[0]),
+                    counts.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * 노드 자신의 후보와 자식들의 상위 후보 중 순위 상위 topK개 (중복 제거)
+         */
+        private int[] topOf(Node node, int[][] tops, int[] rank, int[] entryByRank) {
+            int total = node.entryCount;
+
+            for (int i = 0; i < node.childCount; i++) {
+                total += tops[node.children[i].id].length;
+            }
+
+            int[] candidates = Arrays.copyOf(node.entries, total);
+            int size = node.entryCount;
+
+            for (int i = 0; i < node.childCount; i++) {
+                int[] childTop = tops[node.children[i].id];
+                System.arraycopy(childTop, 0, candidates, size, childTop.length);
+                size += childTop.length;
+            }
+
+            // 순위 값으로 바꿔 정렬 후 중복 제거
+            for (int i = 0; i < size; i++) {
+                candidates[i] = rank[candidates[i]];
+            }
+
+            Arrays.sort(candidates, 0, size);
+
+            int[] top = new int[Math.min(size, topK)];
+            int count = 0;
+
+            for (int i = 0; i < size && count < top.length; i++) {
+                if (i == 0 || candidates[i] != candidates[i - 1]) {
+                    top[count++] = entryByRank[candidates[i]];
+                }
+            }
+
+            return Arrays.copyOf(top, count);
+        }
+    }
+
+    /**
+     * 생성 중인 trie 노드
+     */
+    private static final class Node {
+        private final char label;
+        private char[] childLabels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private int[] entries = new int[0];
+        private int entryCount;
+        private int id;
+
+        private Node(char label) {
+            this.label = label;
+        }
+
+        private Node childOrCreate(char childLabel) {
+            int idx = Arrays.binarySearch(childLabels, 0, childCount, childLabel);
+
+            if (idx >= 0) {
+                return children[idx];
+            }
+
+            int insertionPoint = -idx - 1;
+
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                childLabels = Arrays.copyOf(childLabels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+
+            System.arraycopy(childLabels, insertionPoint, childLabels, insertionPoint + 1, childCount - insertionPoint);
+            System.arraycopy(children, insertionPoint, children, insertionPoint + 1, childCount - insertionPoint);
+
+            Node child = new Node(childLabel);
+            childLabels[insertionPoint] = childLabel;
+            children[insertionPoint] = child;
+            childCount++;
+
+            return child;
+        }
+
+        private void addEntry(int entry) {
+            for (int i = 0; i < entryCount; i++) {
+                if (entries[i] == entry) {
+                    return;
+                }
+            }
+
+            if (entryCount == entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(2, entryCount * 2));
+            }
+
+            entries[entryCount++] = entry;
+        }
+    }
+}
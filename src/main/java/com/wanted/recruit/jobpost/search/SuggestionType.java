@@ -0,0 +1,12 @@
+package com.wanted.recruit.jobpost.search;
+
+/**
+ * 자동완성 후보 종류
+ * 같은 텍스트가 여러 종류로 나오면 앞에 선언된 종류로 표시
+ */
+public enum SuggestionType {
+    TAG, // 기술 태그
+    COMPANY, // 회사명
+    POSITION, // 채용 포지션 전체
+    KEYWORD // 채용 포지션의 단어
+}
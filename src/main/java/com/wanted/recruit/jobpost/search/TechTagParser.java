@@ -0,0 +1,74 @@
+package com.wanted.recruit.jobpost.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 사용 기술 문자열을 정규화된 기술 태그 목록으로 변환
+ * "Python/Django, Java/Spring" -> [python, django, java, spring]
+ *
+ * DB 태그 테이블과 검색 인덱스가 같은 규칙을 사용해야 태그 검색 결과가 일치
+ */
+public final class TechTagParser {
+    // 태그 구분자: 콤마, 슬래시, 세미콜론, 파이프, 줄바꿈 (요청마다 정규식을 다시 컴파일하지 않도록 미리 컴파일)
+    private static final Pattern SEPARATORS = Pattern.compile("[,/;|\\n]");
+
+    // 태그 최대 길이 (tech_tag.name 컬럼 길이)
+    public static final int MAX_TAG_LENGTH = 50;
+
+    // 같은 기술의 다른 표기
+    private static final Map<String, String> ALIASES = Map.of(
+            "react.js", "react",
+            "reactjs", "react",
+            "vue.js", "vue",
+            "vuejs", "vue",
+            "node", "node.js",
+            "nodejs", "node.js",
+            "js", "javascript",
+            "ts", "typescript",
+            "golang", "go",
+            "k8s", "kubernetes"
+    );
+
+    private TechTagParser() {
+    }
+
+    /**
+     * 사용 기술 문자열의 태그 목록
+     *
+     * @param techStack 사용 기술 원문, null 허용
+     * @return 정규화된 태그 목록, 입력 순서 유지, 중복 제거
+     */
+    public static List<String> parse(String techStack) {
+        List<String> tags = new ArrayList<>();
+
+        if (techStack == null) {
+            return tags;
+        }
+
+        for (String part : SEPARATORS.split(techStack)) {
+            String tag = normalize(part);
+
+            if (!tag.isEmpty() && !tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+
+        return tags;
+    }
+
+    /**
+     * 태그 하나 정규화: 검색어와 같은 정규화({@link SearchTokenizer#normalize}), 별칭 치환, 최대 길이로 자름
+     *
+     * @param tag 태그 원문
+     * @return 정규화된 태그, 비어 있으면 빈 문자열
+     */
+    public static String normalize(String tag) {
+        String normalized = SearchTokenizer.normalize(tag);
+        normalized = ALIASES.getOrDefault(normalized, normalized);
+
+        return normalized.length() > MAX_TAG_LENGTH ? normalized.substring(0, MAX_TAG_LENGTH) : normalized;
+    }
+}
@@ -0,0 +1,34 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 모든 하위 조건을 만족 (AND, 공백으로 나열한 조건)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class AndQuery implements QueryNode {
+    private final List<QueryNode> children;
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        for (QueryNode child : children) {
+            if (!child.matches(document)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitAnd(this);
+    }
+}
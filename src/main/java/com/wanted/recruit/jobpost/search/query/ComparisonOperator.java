@@ -0,0 +1,56 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 숫자 필드 비교 연산자
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ComparisonOperator {
+    EQ("="),
+    GT(">"),
+    GOE(">="),
+    LT("<"),
+    LOE("<=");
+
+    private final String symbol; // 검색어에서 사용하는 기호
+
+    /**
+     * left (연산자) right
+     */
+    public boolean test(int left, int right) {
+        switch (this) {
+            case GT:
+                return left > right;
+            case GOE:
+                return left >= right;
+            case LT:
+                return left < right;
+            case LOE:
+                return left <= right;
+            default:
+                return left == right;
+        }
+    }
+
+    /**
+     * 기호로 연산자 조회, ':'는 '='와 동일
+     *
+     * @return 연산자, 없으면 null
+     */
+    static ComparisonOperator fromSymbol(String symbol) {
+        if (":".equals(symbol)) {
+            return EQ;
+        }
+
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+
+        return null;
+    }
+}
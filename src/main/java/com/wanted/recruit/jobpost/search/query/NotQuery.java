@@ -0,0 +1,26 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 하위 조건을 만족하지 않음 (NOT)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class NotQuery implements QueryNode {
+    private final QueryNode child;
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        return !child.matches(document);
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitNot(this);
+    }
+}
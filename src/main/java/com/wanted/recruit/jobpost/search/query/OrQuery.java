@@ -0,0 +1,34 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 하위 조건 중 하나 이상을 만족 (OR)
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class OrQuery implements QueryNode {
+    private final List<QueryNode> children;
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        for (QueryNode child : children) {
+            if (child.matches(document)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitOr(this);
+    }
+}
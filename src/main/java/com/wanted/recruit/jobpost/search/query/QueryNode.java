@@ -0,0 +1,16 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+
+/**
+ * 구조화된 검색어의 구문 트리 노드
+ * 인덱스 검색은 {@link #matches(JobPostDocument)}로 최종 확인, DB 검색은 {@link QueryVisitor}로 SQL 조건 생성
+ */
+public interface QueryNode {
+    /**
+     * 검색 문서가 조건을 만족하는지 여부
+     */
+    boolean matches(JobPostDocument document);
+
+    <R> R accept(QueryVisitor<R> visitor);
+}
@@ -0,0 +1,20 @@
+package com.wanted.recruit.jobpost.search.query;
+
+/**
+ * 검색어 구문 트리를 다른 형태(인덱스 후보 집합, SQL 조건 등)로 변환하는 방문자
+ *
+ * @param <R> 변환 결과 타입
+ */
+public interface QueryVisitor<R> {
+    R visitTerm(TermQuery query);
+
+    R visitTag(TagQuery query);
+
+    R visitReward(RewardQuery query);
+
+    R visitAnd(AndQuery query);
+
+    R visitOr(OrQuery query);
+
+    R visitNot(NotQuery query);
+}
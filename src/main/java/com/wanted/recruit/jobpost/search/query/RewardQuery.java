@@ -0,0 +1,28 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 채용 보상금 비교 조건
+ * {@code reward>=1000000}
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class RewardQuery implements QueryNode {
+    private final ComparisonOperator operator; // 비교 연산자
+    private final int value; // 비교할 보상금
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        return operator.test(document.getReward(), value);
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitReward(this);
+    }
+}
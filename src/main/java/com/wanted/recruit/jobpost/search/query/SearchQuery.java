@@ -0,0 +1,102 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 파싱된 검색어
+ *
+ * 문법 (대문자 AND/OR/NOT만 연산자, 우선순위 NOT > AND > OR)
+ * <pre>
+ * 백엔드 개발자                    공백으로 나열한 조건은 AND
+ * techStack:Java region:판교        필드 지정 (position, techStack, content, company, nation, region)
+ * tag:java NOT tag:php            기술 태그 단위 일치 (JavaScript는 tag:java에 불일치)
+ * "백엔드 개발자"                   따옴표로 묶으면 공백 포함 구문
+ * reward>=1000000                 보상금 비교 (=, :, >, >=, <, <=)
+ * (java OR kotlin) NOT 인턴        괄호, OR, NOT
+ * </pre>
+ */
+@Getter
+@ToString
+public final class SearchQuery {
+    private final QueryNode root; // 구문 트리
+    private final List<String> scoringTerms; // NOT 밖의 검색어, 관련도 점수 계산용
+
+    SearchQuery(QueryNode root) {
+        this.root = root;
+        this.scoringTerms = new ArrayList<>();
+        collectScoringTerms(root, false);
+    }
+
+    /**
+     * 검색어 파싱
+     *
+     * @param query 검색어
+     * @return 파싱된 검색어
+     * @throws InvalidSearchQueryException 문법에 맞지 않는 경우
+     */
+    public static SearchQuery parse(String query) {
+        return new SearchQuery(new SearchQueryParser(query).parse());
+    }
+
+    /**
+     * 검색어 항목마다 비슷한 단어를 OR 조건으로 추가한 검색어 (오타 허용 검색)
+     * NOT 안의 검색어는 그대로 둠 (오타 후보까지 제외하면 의도보다 많은 결과가 빠짐)
+     *
+     * @param similarTerms 검색어 항목 -> 함께 찾을 정규화된 단어, 없으면 빈 목록
+     * @return 확장된 검색어, 추가된 단어도 관련도 점수 계산에 사용
+     */
+    public SearchQuery expandTerms(Function<TermQuery, List<String>> similarTerms) {
+        return new SearchQuery(expand(root, false, similarTerms));
+    }
+
+    private static QueryNode expand(QueryNode node, boolean negated, Function<TermQuery, List<String>> similarTerms) {
+        if (node instanceof TermQuery && !negated) {
+            TermQuery term = (TermQuery) node;
+            List<String> similar = similarTerms.apply(term);
+
+            if (similar.isEmpty()) {
+                return term;
+            }
+
+            List<QueryNode> children = new ArrayList<>();
+            children.add(term);
+            similar.forEach(text -> children.add(new TermQuery(term.getField(), text)));
+            return new OrQuery(children);
+        } else if (node instanceof AndQuery) {
+            return new AndQuery(expandAll(((AndQuery) node).getChildren(), negated, similarTerms));
+        } else if (node instanceof OrQuery) {
+            return new OrQuery(expandAll(((OrQuery) node).getChildren(), negated, similarTerms));
+        } else if (node instanceof NotQuery) {
+            return new NotQuery(expand(((NotQuery) node).getChild(), !negated, similarTerms));
+        }
+
+        return node;
+    }
+
+    private static List<QueryNode> expandAll(List<QueryNode> nodes, boolean negated,
+                                             Function<TermQuery, List<String>> similarTerms) {
+        List<QueryNode> expanded = new ArrayList<>(nodes.size());
+        nodes.forEach(child -> expanded.add(expand(child, negated, similarTerms)));
+        return expanded;
+    }
+
+    private void collectScoringTerms(QueryNode node, boolean negated) {
+        if (node instanceof TermQuery) {
+            if (!negated) {
+                scoringTerms.add(((TermQuery) node).getText());
+            }
+        } else if (node instanceof AndQuery) {
+            ((AndQuery) node).getChildren().forEach(child -> collectScoringTerms(child, negated));
+        } else if (node instanceof OrQuery) {
+            ((OrQuery) node).getChildren().forEach(child -> collectScoringTerms(child, negated));
+        } else if (node instanceof NotQuery) {
+            collectScoringTerms(((NotQuery) node).getChild(), !negated);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
+import com.wanted.recruit.jobpost.search.SearchField;
+import com.wanted.recruit.jobpost.search.SearchTokenizer;
+import com.wanted.recruit.jobpost.search.TechTagParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색어 문법({@link SearchQuery})의 재귀 하향 파서
+ * 한 번 쓰고 버리는 객체 (스레드 안전 X)
+ *
+ * 검색 비용을 제한하기 위해 길이, 조건 수, 괄호 깊이에 상한을 둠
+ */
+final class SearchQueryParser {
+    private static final int MAX_LENGTH = 200; // 검색어 최대 길이
+    private static final int MAX_CLAUSES = 20; // 최대 조건 수
+    private static final int MAX_DEPTH = 8; // 최대 괄호 깊이
+
+    private static final String REWARD_FIELD = "reward";
+    private static final String TAG_FIELD = "tag";
+
+    // 필드 이름(소문자) -> 검색 필드
+    private static final Map<String, SearchField> FIELDS = Map.of(
+            "position", SearchField.POSITION,
+            "techstack", SearchField.TECH_STACK,
+            "tech", SearchField.TECH_STACK,
+            "content", SearchField.CONTENT,
+            "company", SearchField.COMPANY_NAME,
+            "companyname", SearchField.COMPANY_NAME,
+            "nation", SearchField.NATION,
+            "region", SearchField.REGION
+    );
+
+    private final List<Token> tokens;
+    private int position;
+    private int depth;
+    private int clauses;
+
+    SearchQueryParser(String query) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("검색어를 입력해주세요.");
+        }
+
+        if (query.length() > MAX_LENGTH) {
+            throw new InvalidSearchQueryException("검색어는 " + MAX_LENGTH + "자까지 입력할 수 있어요.");
+        }
+
+        this.tokens = tokenize(query);
+    }
+
+    /**
+     * 검색어 전체를 파싱
+     */
+    QueryNode parse() {
+        QueryNode node = parseOr();
+
+        if (peek().type != TokenType.EOF) {
+            throw error("')' 위치가 올바르지 않아요.");
+        }
+
+        return node;
+    }
+
+    // or := and ("OR" and)*
+    private QueryNode parseOr() {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseAnd());
+
+        while (peek().isKeyword("OR")) {
+            position++;
+            children.add(parseAnd());
+        }
+
+        return children.size() == 1 ? children.get(0) : new OrQuery(children);
+    }
+
+    // and := unary (["AND"] unary)*
+    private QueryNode parseAnd() {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseUnary());
+
+        while (true) {
+            Token next = peek();
+
+            if (next.type == TokenType.EOF || next.type == TokenType.RIGHT_PAREN || next.isKeyword("OR")) {
+                break;
+            }
+
+            if (next.isKeyword("AND")) {
+                position++;
+            }
+
+            children.add(parseUnary());
+        }
+
+        return children.size() == 1 ? children.get(0) : new AndQuery(children);
+    }
+
+    // unary := "NOT" unary | primary
+    private QueryNode parseUnary() {
+        if (peek().isKeyword("NOT")) {
+            position++;
+            return new NotQuery(parseUnary());
+        }
+
+        return parsePrimary();
+    }
+
+    // primary := "(" or ")" | field operator value | value
+    private QueryNode parsePrimary() {
+        Token token = next();
+
+        switch (token.type) {
+            case LEFT_PAREN:
+                if (++depth > MAX_DEPTH) {
+                    throw error("괄호는 " + MAX_DEPTH + "단계까지 사용할 수 있어요.");
+                }
+
+                QueryNode node = parseOr();
+
+                if (next().type != TokenType.RIGHT_PAREN) {
+                    throw error("괄호가 닫히지 않았어요.");
+                }
+
+                depth--;
+                return node;
+            case PHRASE:
+                return term(null, token.text);
+            case WORD:
+                if (token.isKeyword("AND") || token.isKeyword("OR") || token.isKeyword("NOT")) {
+                    throw error(token.text + " 앞뒤에 검색 조건이 필요해요.");
+                }
+
+                if (peek().type == TokenType.OPERATOR) {
+                    return parseField(token.text, next().text);
+                }
+
+                return term(null, token.text);
+            default:
+                throw error("검색 조건이 필요한 위치예요.");
+        }
+    }
+
+    private QueryNode parseField(String name, String operatorSymbol) {
+        Token value = next();
+
+        if (value.type != TokenType.WORD && value.type != TokenType.PHRASE) {
+            throw error(name + " 필드의 값이 필요해요.");
+        }
+
+        String fieldName = name.toLowerCase(Locale.ROOT);
+
+        if (REWARD_FIELD.equals(fieldName)) {
+            return reward(ComparisonOperator.fromSymbol(operatorSymbol), value.text);
+        }
+
+        if (!":".equals(operatorSymbol) && !"=".equals(operatorSymbol)) {
+            throw error("비교 연산자(" + operatorSymbol + ")는 reward 필드에만 사용할 수 있어요.");
+        }
+
+        if (TAG_FIELD.equals(fieldName)) {
+            return tag(value.text);
+        }
+
+        SearchField field = FIELDS.get(fieldName);
+
+        if (field == null) {
+            throw error("알 수 없는 검색 필드예요: " + name);
+        }
+
+        return term(field, value.text);
+    }
+
+    private QueryNode term(SearchField field, String text) {
+        String normalized = SearchTokenizer.normalize(text);
+
+        if (normalized.isEmpty()) {
+            throw error("빈 검색어는 사용할 수 없어요.");
+        }
+
+        countClause();
+        return new TermQuery(field, normalized);
+    }
+
+    private QueryNode tag(String text) {
+        String normalized = TechTagParser.normalize(text);
+
+        if (normalized.isEmpty()) {
+            throw error("빈 태그는 사용할 수 없어요.");
+        }
+
+        countClause();
+        return new TagQuery(normalized);
+    }
+
+    private QueryNode reward(ComparisonOperator operator, String text) {
+        try {
+            int value = Integer.parseInt(text.replace(",", "").replace("_", ""));
+            countClause();
+            return new RewardQuery(operator, value);
+        } catch (NumberFormatException e) {
+            throw error("reward 값은 숫자여야 해요: " + text);
+        }
+    }
+
+    private void countClause() {
+        if (++clauses > MAX_CLAUSES) {
+            throw error("검색 조건은 " + MAX_CLAUSES + "개까지 사용할 수 있어요.");
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+
+        if (token.type != TokenType.EOF) {
+            position++;
+        }
+
+        return token;
+    }
+
+    private static InvalidSearchQueryException error(String message) {
+        return new InvalidSearchQueryException(message);
+    }
+
+    /**
+     * 검색어를 토큰으로 분리
+     * 단어: 공백, 따옴표, 괄호, 비교 연산자(:, =, <, >)가 아닌 문자의 연속
+     */
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int length = query.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = query.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isISOControl(c)) {
+                throw error("검색어에 사용할 수 없는 문자가 있어요.");
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LEFT_PAREN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RIGHT_PAREN, ")"));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+
+                if (end < 0) {
+                    throw error("따옴표가 닫히지 않았어요.");
+                }
+
+                tokens.add(new Token(TokenType.PHRASE, query.substring(i + 1, end)));
+                i = end + 1;
+            } else if (isOperatorChar(c)) {
+                boolean withEquals = (c == '<' || c == '>') && i + 1 < length && query.charAt(i + 1) == '=';
+                int end = withEquals ? i + 2 : i + 1;
+                tokens.add(new Token(TokenType.OPERATOR, query.substring(i, end)));
+                i = end;
+            } else {
+                int start = i;
+
+                while (i < length && isWordChar(query.charAt(i))) {
+                    i++;
+                }
+
+                tokens.add(new Token(TokenType.WORD, query.substring(start, i)));
+            }
+        }
+
+        tokens.add(new Token(TokenType.EOF, ""));
+        return tokens;
+    }
+
+    private static boolean isOperatorChar(char c) {
+        return c == ':' || c == '=' || c == '<' || c == '>';
+    }
+
+    private static boolean isWordChar(char c) {
+        return !Character.isWhitespace(c) && !Character.isISOControl(c)
+                && c != '(' && c != ')' && c != '"' && !isOperatorChar(c);
+    }
+
+    private enum TokenType {
+        WORD, PHRASE, LEFT_PAREN, RIGHT_PAREN, OPERATOR, EOF
+    }
+
+    private static final class Token {
+        private final TokenType type;
+        private final String text;
+
+        private Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        // 연산자 키워드는 대문자만 인정 -> 소문자 and/or/not은 일반 검색어
+        private boolean isKeyword(String keyword) {
+            return type == TokenType.WORD && keyword.equals(text);
+        }
+    }
+}
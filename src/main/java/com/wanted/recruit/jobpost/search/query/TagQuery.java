@@ -0,0 +1,27 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 기술 태그 일치 조건: 사용 기술에 해당 태그가 있음 (부분 문자열이 아닌 태그 단위 일치)
+ * {@code tag:java} -> Java는 일치, JavaScript는 불일치
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class TagQuery implements QueryNode {
+    private final String tag; // 정규화된 태그
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        return document.hasTag(tag);
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitTag(this);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.SearchField;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 검색어 포함 조건: 필드 값에 text가 부분 문자열로 포함
+ * {@code 백엔드}, {@code techStack:Java}, {@code "백엔드 개발자"}
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public final class TermQuery implements QueryNode {
+    private final SearchField field; // 검색할 필드, null이면 전체 필드
+    private final String text; // 정규화된 검색어
+
+    @Override
+    public boolean matches(JobPostDocument document) {
+        return field == null ? document.containsInAnyField(text) : document.contains(field, text);
+    }
+
+    @Override
+    public <R> R accept(QueryVisitor<R> visitor) {
+        return visitor.visitTerm(this);
+    }
+}
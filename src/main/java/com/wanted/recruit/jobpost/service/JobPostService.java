@@ -1,39 +1,98 @@
 package com.wanted.recruit.jobpost.service;
 
+import com.wanted.recruit.common.dto.CursorPage;
+import com.wanted.recruit.common.exception.exception.CompanyNotFoundException;
+import com.wanted.recruit.common.exception.exception.InvalidCursorException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostRequest;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
+import com.wanted.recruit.jobpost.dto.JobPostSearchPage;
 import com.wanted.recruit.jobpost.dto.JobPostUpdateRequest;
+import com.wanted.recruit.jobpost.search.SearchCacheStats;
+import com.wanted.recruit.jobpost.search.Suggestion;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 채용 공고 서비스 인터페이스
  */
 public interface JobPostService {
     /**
-     * 전체 채용 공고 리스트
-     * @return 전체 채용 공고 리스트
+     * 채용 공고 목록 페이지
+     * @param cursor 이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit 페이지 크기
+     * @return 채용 공고 목록 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
-    List<JobPostResponse> getAll();
+    CursorPage<JobPostResponse> getAll(String cursor, int limit);
 
     /**
-     * 검색된 채용 공고 리스트
+     * 검색된 채용 공고 목록 페이지
      * @param searchQuery 검색어
-     * @return 검색된 채용 공고 리스트
+     * @param cursor 이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit 페이지 크기
+     * @param fuzzy 오타 허용 여부
+     * @return 검색된 채용 공고 목록 페이지, 필드 값별 건수(facets)와 결과 잘림 여부(truncated) 포함
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
-    List<JobPostResponse> search(String searchQuery);
+    JobPostSearchPage search(String searchQuery, String cursor, int limit, boolean fuzzy);
+
+    /**
+     * 관련도순 검색 결과 상위 limit개
+     * @param searchQuery 검색어
+     * @param limit 반환할 최대 공고 수
+     * @param fuzzy 오타 허용 여부
+     * @return 관련도 점수가 포함된 채용 공고 목록, 다음 페이지 커서 없음, 필드 값별 건수(facets)와 결과 잘림 여부(truncated) 포함
+     */
+    JobPostSearchPage searchByRelevance(String searchQuery, int limit, boolean fuzzy);
+
+    /**
+     * 검색창 자동완성 후보
+     * @param prefix 입력 중인 검색어, 한글 자모 입력 허용 ("백ㅇ")
+     * @param limit 최대 후보 수
+     * @return 채용 포지션/회사명/기술 태그 후보, 인기도(채용 공고 수) 내림차순
+     */
+    List<Suggestion> suggest(String prefix, int limit);
+
+    /**
+     * 검색 결과 캐시 통계
+     * @return 적중/미적중/제거 건수와 현재 캐시 크기
+     */
+    SearchCacheStats searchCacheStats();
+
+    /**
+     * 전체 채용 공고를 한 건씩 전달 (NDJSON 내보내기용)
+     * 전체 목록을 메모리에 올리지 않고 DB 커서에서 읽는 즉시 consumer에 전달
+     * @param consumer 채용 공고를 한 건씩 받아 처리할 함수
+     */
+    void exportAll(Consumer<JobPostResponse> consumer);
 
     /**
      * 채용 공고의 세부 정보
      *
-     * @param id 조회할 채용 공고의 ID
-     * @return 채용 공고의 세부 정보
+     * @param id           조회할 채용 공고의 ID
+     * @param othersCursor 이전 응답의 다른 채용 공고 다음 페이지 커서 토큰, 첫 페이지면 null
+     * @param othersLimit  다른 채용 공고 id 페이지 크기
+     * @param expandOthers 다른 채용 공고 요약(id, 포지션, 보상금) 포함 여부
+     * @return 채용 공고의 세부 정보, 회사의 다른 채용 공고 id는 최신순 한 페이지
      * @throws JobPostNotFoundException 해당 채용 공고가 존재하지 않는 경우
+     * @throws InvalidCursorException   커서 형식이 올바르지 않은 경우
+     */
+    JobPostDetail getDetail(Long id, String othersCursor, int othersLimit, boolean expandOthers);
+
+    /**
+     * 회사의 채용 공고 목록 페이지
+     * @param companyId 회사 id
+     * @param cursor 이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit 페이지 크기
+     * @return 회사의 채용 공고 목록 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     * @throws CompanyNotFoundException 회사가 존재하지 않는 경우
      */
-    JobPostDetail getDetail(Long id);
+    CursorPage<JobPostResponse> getByCompany(Long companyId, String cursor, int limit);
 
     /**
      * 새로운 채용 공고 저장
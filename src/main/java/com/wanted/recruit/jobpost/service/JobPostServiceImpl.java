@@ -1,5 +1,7 @@
 package com.wanted.recruit.jobpost.service;
 
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.common.dto.CursorPage;
 import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
 import com.wanted.recruit.company.entity.Company;
 import com.wanted.recruit.common.exception.exception.CompanyNotFoundException;
@@ -9,15 +11,42 @@ import com.wanted.recruit.jobpost.entity.JobPost;
 import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostRequest;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
+import com.wanted.recruit.jobpost.dto.JobPostSearchHit;
+import com.wanted.recruit.jobpost.dto.JobPostSearchPage;
+import com.wanted.recruit.jobpost.dto.JobPostSummary;
 import com.wanted.recruit.jobpost.dto.JobPostUpdateRequest;
+import com.wanted.recruit.jobpost.dto.OtherJobPostIds;
+import com.wanted.recruit.jobpost.event.JobPostChangedEvent;
+import com.wanted.recruit.jobpost.event.JobPostDeletedEvent;
 import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import com.wanted.recruit.jobpost.search.CompanyJobPosts;
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.JobPostSearchIndex;
+import com.wanted.recruit.jobpost.search.JobPostSuggester;
+import com.wanted.recruit.jobpost.search.JobPostTermDictionary;
+import com.wanted.recruit.jobpost.search.ScoredDocument;
+import com.wanted.recruit.jobpost.search.SearchCacheStats;
+import com.wanted.recruit.jobpost.search.SearchFacets;
+import com.wanted.recruit.jobpost.search.SearchResult;
+import com.wanted.recruit.jobpost.search.SearchResultCache;
+import com.wanted.recruit.jobpost.search.Suggestion;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * {@link JobPostService} 구현체
@@ -28,60 +57,283 @@ import java.util.stream.Collectors;
 public class JobPostServiceImpl implements JobPostService {
     private final JobPostRepository jobPostRepository;
     private final CompanyRepository companyRepository;
+    private final TechTagService techTagService;
+    private final JobPostSearchIndex searchIndex;
+    private final JobPostSuggester suggester;
+    private final JobPostTermDictionary termDictionary;
+    private final SearchResultCache resultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 검색어 검사용 정규표현식
-    // 알파벳, 숫자, 한글, 공백, 하이픈(-), 언더스코어(_), 콤마(,), 슬래시(/), 괄호((), {}, [])만 허용
-    private static final String SAFE_QUERY_PATTERN = "^[a-zA-Z0-9가-힣\\s\\-_,./()\\[\\]{}]*$";
+    // 한 페이지에 조회할 수 있는 최대 채용 공고 수
+    private static final int MAX_PAGE_SIZE = 100;
 
+    // 인덱스 검색 결과 중 페이지 이동/집계에 사용할 최대 공고 수 (최신순, 관련도순 검색은 관련도 상위)
+    // 한 글자 검색어처럼 대부분의 공고가 검색되는 경우 정렬/집계/캐시 비용이 결과 수에 비례하지 않도록
+    // 검색하면서 상위 공고만 남김 (검색된 공고 전체를 모아 정렬한 뒤 자르지 않음)
+    static final int MAX_SEARCH_RESULTS = 10_000;
 
     /**
-     * 전체 채용 공고 리스트
+     * 채용 공고 목록 페이지
      *
-     * @return 전체 채용 공고 리스트
+     * @param cursor 이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit  페이지 크기
+     * @return 채용 공고 목록 페이지
      */
     @Override
     @Transactional(readOnly = true)
-    public List<JobPostResponse> getAll() {
-        return jobPostRepository.findAll().stream()
-                .map(JobPostResponse::new)
-                .collect(Collectors.toList());
+    public CursorPage<JobPostResponse> getAll(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<JobPostResponse> rows = jobPostRepository.findPage(Cursor.decode(cursor), pageSize + 1);
+
+        return CursorPage.of(rows, pageSize, JobPostServiceImpl::cursorOf);
+    }
+
+    /**
+     * 검색된 채용 공고 목록 페이지
+     * 인덱스 검색 시 같은 검색 결과로 필드 값별 건수(facets)도 함께 계산
+     *
+     * @param searchQuery 검색어 ({@link SearchQuery} 문법)
+     * @param cursor      이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit       페이지 크기
+     * @param fuzzy       오타 허용 여부, 인덱스 로딩 전(DB 검색)에는 무시
+     * @return 검색된 채용 공고 목록 페이지, 인덱스 로딩 전에는 facets 없음
+     *         검색 비용 상한(DB 실행 시간, 인덱스 결과 수)에 걸리면 truncated = true
+     * @throws InvalidSearchQueryException 검색어가 문법에 맞지 않는 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public JobPostSearchPage search(String searchQuery, String cursor, int limit, boolean fuzzy) {
+        SearchQuery query = SearchQuery.parse(searchQuery);
+        int pageSize = pageSize(limit);
+        Cursor after = Cursor.decode(cursor);
+
+        // 기동 직후 인덱스 로딩이 끝나기 전에는 DB에서 검색 (건수 집계는 GROUP BY 비용이 커서 생략)
+        if (!searchIndex.isReady()) {
+            return searchDatabase(query, after, pageSize + 1)
+                    .map(rows -> new JobPostSearchPage(CursorPage.of(rows, pageSize, JobPostServiceImpl::cursorOf), null))
+                    .orElseGet(JobPostServiceImpl::timedOutPage);
+        }
+
+        // 인덱스에서 검색된 문서 중 이번 페이지(+1건)에 해당하는 문서만 골라 페이지 공고만 DB에서 조회
+        SearchResult result = searchIndexed(fuzzy ? termDictionary.expand(query) : query);
+        List<JobPostDocument> pageDocuments = pageDocuments(result.getMatched(), after, pageSize + 1);
+
+        return new JobPostSearchPage(indexedPage(pageDocuments, pageSize), result.getFacets(), result.isTruncated());
     }
 
     /**
-     * 검색된 채용 공고 리스트
+     * 관련도순 검색 결과 상위 limit개
+     * 인덱스에서 BM25 점수 상위 limit개만 고른 뒤 해당 공고만 DB에서 조회
+     * 같은 검색 결과로 필드 값별 건수(facets)도 함께 계산
      *
-     * @param searchQuery 검색어
-     * @return 검색된 채용 공고 리스트
+     * @param searchQuery 검색어 ({@link SearchQuery} 문법)
+     * @param limit       반환할 최대 공고 수
+     * @param fuzzy       오타 허용 여부, 인덱스 로딩 전(DB 검색)에는 무시
+     * @return 관련도 점수가 포함된 채용 공고 목록, 다음 페이지 커서 없음
+     *         검색 비용 상한(DB 실행 시간, 인덱스 결과 수)에 걸리면 truncated = true
+     * @throws InvalidSearchQueryException 검색어가 문법에 맞지 않는 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public List<JobPostResponse> search(String searchQuery) {
-        // 검색어 유효성 검사
-        if (!searchQuery.matches(SAFE_QUERY_PATTERN)) {
-            throw new InvalidSearchQueryException();
+    public JobPostSearchPage searchByRelevance(String searchQuery, int limit, boolean fuzzy) {
+        SearchQuery query = SearchQuery.parse(searchQuery);
+        int pageSize = pageSize(limit);
+
+        // 인덱스 로딩 전에는 점수를 계산할 수 없으므로 DB 검색 결과를 최신순으로 반환
+        if (!searchIndex.isReady()) {
+            return searchDatabase(query, null, pageSize)
+                    .map(rows -> new JobPostSearchPage(new CursorPage<>(rows, null), null))
+                    .orElseGet(JobPostServiceImpl::timedOutPage);
+        }
+
+        if (fuzzy) {
+            query = termDictionary.expand(query);
+        }
+
+        // 캐시된 결과는 관련도순으로 정렬된 상위 공고이므로 앞에서 pageSize개가 전체 검색 결과의 상위 pageSize개
+        SearchResult result = searchRanked(query);
+        List<ScoredDocument> ranked = result.getRanked().subList(0, Math.min(pageSize, result.getRanked().size()));
+        SearchFacets facets = result.getFacets();
+
+        if (ranked.isEmpty()) {
+            return new JobPostSearchPage(new CursorPage<>(List.of(), null), facets, result.isTruncated());
+        }
+
+        List<Long> ids = ranked.stream().map(scored -> scored.getDocument().getId()).collect(Collectors.toList());
+        Map<Long, JobPostResponse> byId = jobPostRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(JobPostResponse::getJobPostId, Function.identity()));
+
+        // 인덱스에는 있지만 그 사이 삭제된 공고는 제외
+        List<JobPostResponse> hits = ranked.stream()
+                .filter(scored -> byId.containsKey(scored.getDocument().getId()))
+                .map(scored -> new JobPostSearchHit(byId.get(scored.getDocument().getId()), scored.getScore()))
+                .collect(Collectors.toList());
+
+        return new JobPostSearchPage(new CursorPage<>(hits, null), facets, result.isTruncated());
+    }
+
+    /**
+     * 인덱스 로딩 전 DB 검색, 실행 시간 제한을 넘으면 empty
+     * 오래 걸리는 검색어 하나가 커넥션 풀을 점유하지 않도록 쿼리를 중단하고 빈 결과로 응답
+     */
+    private Optional<List<JobPostResponse>> searchDatabase(SearchQuery query, Cursor after, int limit) {
+        try {
+            return Optional.of(jobPostRepository.search(query, after, limit));
+        } catch (QueryTimeoutException e) {
+            log.warn("검색 쿼리 실행 시간 초과: {}", query.getRoot());
+            return Optional.empty();
         }
+    }
 
-        return jobPostRepository.search(searchQuery);
+    /**
+     * 실행 시간 제한으로 중단된 검색의 응답: 결과 없음, 다음 페이지 없음, truncated
+     * 시간 제한은 JDBC statement timeout이라 DB가 쿼리를 중단하면 드라이버가 결과 집합을 버리므로
+     * 그때까지 찾은 행을 돌려줄 수 없음 (인덱스 로딩 전에만 사용되는 경로)
+     */
+    private static JobPostSearchPage timedOutPage() {
+        return new JobPostSearchPage(new CursorPage<>(List.of(), null), null, true);
+    }
+
+    /**
+     * 인덱스 검색 결과와 필드 값별 건수, 같은 검색어는 색인이 바뀌기 전까지 캐시된 결과 사용
+     * 키는 파싱된 구문 트리이므로 대소문자/공백만 다른 검색어는 같은 결과를 공유하고,
+     * 오타 허용 검색은 확장된 검색어가 키가 됨 (사전이 다시 만들어지면 키도 바뀜)
+     * 결과가 MAX_SEARCH_RESULTS개를 넘으면 최신 MAX_SEARCH_RESULTS개만 사용 (truncated)
+     */
+    private SearchResult searchIndexed(SearchQuery query) {
+        // 검색 전에 버전을 읽어야 검색 중 색인이 바뀐 경우 다음 요청에서 다시 검색
+        return resultCache.get(query.getRoot().toString(), searchIndex.version(), () -> {
+            // 한 건 더 검색해 상한을 넘었는지 확인
+            List<JobPostDocument> newest = searchIndex.search(query, MAX_SEARCH_RESULTS + 1);
+            return truncatedResult(newest);
+        });
+    }
+
+    /**
+     * 관련도순 인덱스 검색 결과와 필드 값별 건수, 캐시는 최신순 검색과 같은 방식 (키만 구분)
+     * 검색된 공고 전체에 점수를 매긴 뒤 관련도 상위 MAX_SEARCH_RESULTS개만 사용 (truncated)
+     * -> 상한을 넘어도 최신 공고가 아니라 점수가 가장 높은 공고가 남음
+     * 점수와 순서도 함께 캐시하므로 페이지를 만들 때 다시 점수를 매기지 않음
+     */
+    private SearchResult searchRanked(SearchQuery query) {
+        return resultCache.get("relevance " + query.getRoot(), searchIndex.version(), () -> {
+            // 한 건 더 검색해 상한을 넘었는지 확인
+            List<ScoredDocument> best = searchIndex.rank(query, MAX_SEARCH_RESULTS + 1);
+            boolean truncated = best.size() > MAX_SEARCH_RESULTS;
+            List<ScoredDocument> ranked = List.copyOf(truncated ? best.subList(0, MAX_SEARCH_RESULTS) : best);
+            List<JobPostDocument> matched = ranked.stream()
+                    .map(ScoredDocument::getDocument)
+                    .collect(Collectors.toUnmodifiableList());
+            return new SearchResult(matched, ranked, searchIndex.facets(matched), truncated);
+        });
+    }
+
+    /**
+     * 상한보다 한 건 더 검색한 결과를 MAX_SEARCH_RESULTS개로 자르고 집계
+     */
+    private SearchResult truncatedResult(List<JobPostDocument> searched) {
+        boolean truncated = searched.size() > MAX_SEARCH_RESULTS;
+        List<JobPostDocument> matched = List.copyOf(truncated ? searched.subList(0, MAX_SEARCH_RESULTS) : searched);
+        return new SearchResult(matched, List.of(), searchIndex.facets(matched), truncated);
+    }
+
+    /**
+     * 검색창 자동완성 후보
+     * DB를 조회하지 않고 메모리의 trie에서 접두사 노드의 미리 계산된 상위 후보만 읽음
+     *
+     * @param prefix 입력 중인 검색어, 한글 자모 입력 허용 ("백ㅇ")
+     * @param limit  최대 후보 수
+     * @return 채용 포지션/회사명/기술 태그 후보, 인기도(채용 공고 수) 내림차순
+     */
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return suggester.suggest(prefix, limit);
+    }
+
+    /**
+     * 검색 결과 캐시 통계
+     *
+     * @return 적중/미적중/제거 건수와 현재 캐시 크기
+     */
+    @Override
+    public SearchCacheStats searchCacheStats() {
+        return resultCache.stats();
+    }
+
+    /**
+     * 전체 채용 공고를 한 건씩 전달 (NDJSON 내보내기용)
+     * 전체 목록을 메모리에 올리지 않고 DB 커서에서 읽는 즉시 consumer에 전달
+     *
+     * @param consumer 채용 공고를 한 건씩 받아 처리할 함수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<JobPostResponse> consumer) {
+        // 스트림을 닫아야 DB 커서(ResultSet)가 반환됨
+        try (Stream<JobPostResponse> jobPosts = jobPostRepository.streamAll()) {
+            jobPosts.forEach(consumer);
+        }
     }
 
     /**
      * 채용 공고의 세부 정보
+     * 검색 인덱스가 준비되었으면 공고와 회사만 조회하고, 회사의 다른 채용 공고 id는 인덱스의 회사별 배열로 제공
+     * 준비 전에는 공고, 회사, 같은 회사의 다른 채용 공고 id를 쿼리 한 번으로 조회
+     * 다른 채용 공고 id는 회사 채용 공고 목록과 같은 최신순(생성일, id 내림차순) othersLimit개씩 제공하여
+     * 회사의 공고 수와 무관하게 응답 크기 일정
+     * expandOthers면 다른 채용 공고 요약을 IN 쿼리 한 번으로 함께 조회 (클라이언트가 공고마다 상세를 다시 요청하지 않도록)
      *
-     * @param id 조회할 채용 공고의 ID
+     * @param id           조회할 채용 공고의 ID
+     * @param othersCursor 이전 응답의 다른 채용 공고 다음 페이지 커서 토큰, 첫 페이지면 null
+     * @param othersLimit  다른 채용 공고 id 페이지 크기
+     * @param expandOthers 다른 채용 공고 요약(id, 포지션, 보상금) 포함 여부
      * @return 채용 공고의 세부 정보
      * @throws JobPostNotFoundException 해당 채용 공고가 존재하지 않는 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public JobPostDetail getDetail(Long id) {
-        JobPost jobPost = jobPostRepository.findById(id).orElseThrow(JobPostNotFoundException::new);
-        List<Long> otherJobPost = jobPostRepository.getOtherJobPost(jobPost.getCompany().getId(), jobPost.getId());
+    public JobPostDetail getDetail(Long id, String othersCursor, int othersLimit, boolean expandOthers) {
+        JobPostDetail detail = findDetail(id, Cursor.decode(othersCursor), pageSize(othersLimit));
+
+        if (expandOthers) {
+            detail.expandOtherJobPosts(findSummariesInOrder(detail.getOtherJotPostByCompany().toArray()));
+        }
+
+        return detail;
+    }
+
+    /**
+     * 회사의 채용 공고 목록 페이지
+     * 최신순(생성일, id 내림차순) 커서 기반 페이지네이션
+     *
+     * @param companyId 회사 id
+     * @param cursor    이전 페이지 응답의 다음 페이지 커서, 첫 페이지면 null
+     * @param limit     페이지 크기
+     * @return 회사의 채용 공고 목록 페이지
+     * @throws CompanyNotFoundException 첫 페이지가 비어 있고 회사도 존재하지 않는 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobPostResponse> getByCompany(Long companyId, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        Cursor after = Cursor.decode(cursor);
 
-        return new JobPostDetail(jobPost, otherJobPost);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<JobPostResponse> rows = jobPostRepository.findPageByCompanyId(companyId, after, pageSize + 1);
+
+        // 공고가 있으면 회사도 존재하므로 회사 존재 여부는 빈 첫 페이지에서만 확인
+        if (rows.isEmpty() && after == null && !companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException();
+        }
+
+        return CursorPage.of(rows, pageSize, JobPostServiceImpl::cursorOf);
     }
 
     /**
      * 새로운 채용 공고 저장
+     * 사용 기술의 기술 태그도 함께 저장하고, 커밋 후 {@link JobPostChangedEvent} 전달
      *
      * @param request 저장할 채용 공고의 요청 데이터
      * @return 저장된 채용 공고의 응답 데이터
@@ -93,12 +345,15 @@ public class JobPostServiceImpl implements JobPostService {
                 .orElseThrow(CompanyNotFoundException::new);
 
         JobPost jobPost = jobPostRepository.save(request.toEntity(company));
+        techTagService.replaceTags(jobPost);
+        eventPublisher.publishEvent(new JobPostChangedEvent(jobPost.getId()));
 
         return new JobPostResponse(jobPost);
     }
 
     /**
      * 기존 채용 공고 업데이트
+     * 바뀐 기술 태그 연결도 함께 교체하고, 커밋 후 {@link JobPostChangedEvent} 전달
      *
      * @param request 업데이트할 채용 공고의 요청 데이터
      * @param id      업데이트할 채용 공고 ID
@@ -111,12 +366,15 @@ public class JobPostServiceImpl implements JobPostService {
         JobPost jobPost = jobPostRepository.findById(id).orElseThrow(JobPostNotFoundException::new);
 
         jobPost.update(request.getPosition(), request.getReward(), request.getContent(), request.getTechStack());
+        techTagService.replaceTags(jobPost);
+        eventPublisher.publishEvent(new JobPostChangedEvent(jobPost.getId()));
 
         return new JobPostResponse(jobPost);
     }
 
     /**
      * 채용 공고 삭제
+     * 커밋 후 {@link JobPostDeletedEvent} 전달
      *
      * @param id 삭제할 채용 공고 ID
      * @throws JobPostNotFoundException 해당 채용 공고가 존재하지 않는 경우
@@ -130,5 +388,108 @@ public class JobPostServiceImpl implements JobPostService {
         }
 
         jobPostRepository.deleteById(id);
+        eventPublisher.publishEvent(new JobPostDeletedEvent(id));
+    }
+
+    /**
+     * 요청된 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정
+     */
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 최신순으로 정렬된 검색 결과에서 커서 이후의 문서를 최대 count개 추출
+     */
+    private static List<JobPostDocument> pageDocuments(List<JobPostDocument> matched, Cursor after, int count) {
+        return matched.stream()
+                .filter(document -> after == null || document.isAfter(after.getCreatedDate(), after.getId()))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 인덱스에서 고른 pageSize + 1개까지의 문서로 페이지 생성
+     * 다음 페이지 여부와 커서는 인덱스 문서 기준으로 정하고, 그 사이 DB에서 삭제된 공고는 응답 항목에서만 제외
+     * (DB 조회 결과로 정하면 삭제된 공고만큼 행이 줄어 다음 페이지가 있어도 마지막 페이지로 판단됨)
+     */
+    private CursorPage<JobPostResponse> indexedPage(List<JobPostDocument> documents, int pageSize) {
+        boolean hasNext = documents.size() > pageSize;
+        List<JobPostDocument> page = hasNext ? documents.subList(0, pageSize) : documents;
+        List<JobPostResponse> content = findByIdsInOrder(page.stream()
+                .map(JobPostDocument::getId)
+                .collect(Collectors.toList()));
+
+        if (!hasNext) {
+            return new CursorPage<>(content, null);
+        }
+
+        JobPostDocument last = page.get(pageSize - 1);
+        return new CursorPage<>(content, new Cursor(last.getCreatedDate(), last.getId()).encode());
+    }
+
+    /**
+     * 채용 공고 상세와 다른 채용 공고 id 한 페이지
+     * 인덱스가 준비되었으면 다른 채용 공고 id는 인덱스에서, 준비 전이면 공고와 함께 DB에서 조회
+     */
+    private JobPostDetail findDetail(Long id, Cursor othersAfter, int othersPageSize) {
+        if (!searchIndex.isReady()) {
+            return jobPostRepository.findDetail(id, othersAfter, othersPageSize).orElseThrow(JobPostNotFoundException::new);
+        }
+
+        List<JobPostResponse> found = jobPostRepository.findByIds(List.of(id));
+
+        if (found.isEmpty()) {
+            throw new JobPostNotFoundException();
+        }
+
+        JobPostResponse response = found.get(0);
+        CompanyJobPosts companyJobPosts = searchIndex.jobPostsOfCompany(response.getCompany().getCompanyId());
+
+        return new JobPostDetail(response, OtherJobPostIds.page(companyJobPosts, id, othersAfter, othersPageSize));
+    }
+
+    /**
+     * id 목록 순서대로 채용 공고 요약 조회
+     * 그 사이 삭제된 공고는 제외
+     */
+    private List<JobPostSummary> findSummariesInOrder(long[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        List<Long> idList = Arrays.stream(ids).boxed().collect(Collectors.toList());
+        Map<Long, JobPostSummary> byId = jobPostRepository.findSummariesByIds(idList).stream()
+                .collect(Collectors.toMap(JobPostSummary::getJobPostId, Function.identity()));
+
+        return idList.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * id 목록 순서대로 채용 공고 조회
+     * 인덱스에는 있지만 그 사이 삭제된 공고는 제외
+     */
+    private List<JobPostResponse> findByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobPostResponse> byId = jobPostRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(JobPostResponse::getJobPostId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 응답 항목의 (생성일, id)로 커서 생성
+     */
+    private static Cursor cursorOf(JobPostResponse response) {
+        return new Cursor(response.getCreateDate(), response.getJobPostId());
     }
 }
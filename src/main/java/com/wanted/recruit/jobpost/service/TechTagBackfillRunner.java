@@ -0,0 +1,45 @@
+package com.wanted.recruit.jobpost.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 기동 시 태그가 연결되지 않은 기존 채용 공고에 태그 연결
+ * 태그 테이블 도입 이전에 저장된 채용 공고용, 이미 모두 연결되어 있으면 조회 한 번으로 끝남
+ * 한 번에 BATCH_SIZE건씩 별도 트랜잭션으로 처리하여 트랜잭션과 영속성 컨텍스트가 커지지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TechTagBackfillRunner {
+    private static final int BATCH_SIZE = 500;
+
+    private final TechTagService techTagService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0;
+        int count = 0;
+        List<Long> tagged;
+
+        try {
+            while (!(tagged = techTagService.tagUntaggedJobPosts(lastId, BATCH_SIZE)).isEmpty()) {
+                lastId = tagged.get(tagged.size() - 1);
+                count += tagged.size();
+            }
+        } catch (RuntimeException e) {
+            // 태그 연결은 다음 기동 때 이어서 처리되므로 기동은 계속 진행
+            log.error("기존 채용 공고 기술 태그 연결 실패: {}건 처리 후 중단", count, e);
+            return;
+        }
+
+        if (count > 0) {
+            log.info("기존 채용 공고 기술 태그 연결 완료: {}건", count);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.wanted.recruit.jobpost.service;
+
+import com.wanted.recruit.jobpost.entity.JobPost;
+
+import java.util.List;
+
+/**
+ * 기술 태그 서비스 인터페이스
+ * 채용 공고의 사용 기술 문자열을 정규화된 태그(tech_tag)와 연결(job_post_tech_tag)로 저장
+ */
+public interface TechTagService {
+    /**
+     * 채용 공고의 태그 연결을 현재 사용 기술에 맞게 교체
+     * 바뀐 태그의 연결만 추가/삭제하며, 처음 쓰이는 태그는 새로 저장
+     *
+     * @param jobPost 저장/수정된 채용 공고
+     */
+    void replaceTags(JobPost jobPost);
+
+    /**
+     * 태그가 연결되지 않은 기존 채용 공고에 태그 연결 (한 번에 limit건)
+     *
+     * @param afterId 이 id보다 큰 채용 공고만 처리
+     * @param limit   최대 처리 수
+     * @return 처리한 채용 공고 id, 오름차순, 더 없으면 빈 목록
+     */
+    List<Long> tagUntaggedJobPosts(long afterId, int limit);
+}
@@ -0,0 +1,98 @@
+package com.wanted.recruit.jobpost.service;
+
+import com.wanted.recruit.jobpost.entity.JobPost;
+import com.wanted.recruit.jobpost.entity.JobPostTechTag;
+import com.wanted.recruit.jobpost.entity.TechTag;
+import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import com.wanted.recruit.jobpost.repository.JobPostTechTagRepository;
+import com.wanted.recruit.jobpost.repository.TechTagRepository;
+import com.wanted.recruit.jobpost.search.TechTagParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TechTagService} 구현체
+ */
+@Service
+@RequiredArgsConstructor
+public class TechTagServiceImpl implements TechTagService {
+    private final TechTagRepository techTagRepository;
+    private final JobPostTechTagRepository jobPostTechTagRepository;
+    private final JobPostRepository jobPostRepository;
+
+    /**
+     * 채용 공고의 태그 연결을 현재 사용 기술에 맞게 교체
+     *
+     * @param jobPost 저장/수정된 채용 공고
+     */
+    @Override
+    @Transactional
+    public void replaceTags(JobPost jobPost) {
+        List<String> names = TechTagParser.parse(jobPost.getTechStack());
+        List<JobPostTechTag> current = jobPostTechTagRepository.findWithTagByJobPostId(jobPost.getId());
+
+        List<JobPostTechTag> removed = current.stream()
+                .filter(link -> !names.contains(link.getTechTag().getName()))
+                .collect(Collectors.toList());
+
+        List<String> currentNames = current.stream()
+                .map(link -> link.getTechTag().getName())
+                .collect(Collectors.toList());
+
+        List<String> added = names.stream()
+                .filter(name -> !currentNames.contains(name))
+                .collect(Collectors.toList());
+
+        if (!removed.isEmpty()) {
+            jobPostTechTagRepository.deleteAll(removed);
+        }
+
+        if (!added.isEmpty()) {
+            jobPostTechTagRepository.saveAll(findOrCreate(added).stream()
+                    .map(tag -> new JobPostTechTag(jobPost, tag))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * 태그가 연결되지 않은 기존 채용 공고에 태그 연결 (한 번에 limit건)
+     *
+     * @param afterId 이 id보다 큰 채용 공고만 처리
+     * @param limit   최대 처리 수
+     * @return 처리한 채용 공고 id, 오름차순, 더 없으면 빈 목록
+     */
+    @Override
+    @Transactional
+    public List<Long> tagUntaggedJobPosts(long afterId, int limit) {
+        List<Long> ids = jobPostTechTagRepository.findUntaggedJobPostIds(afterId, limit);
+
+        if (!ids.isEmpty()) {
+            jobPostRepository.findAllByIdIn(ids).forEach(this::replaceTags);
+        }
+
+        return ids;
+    }
+
+    /**
+     * 이름으로 태그 조회, 없는 태그는 저장 후 조회
+     */
+    private List<TechTag> findOrCreate(List<String> names) {
+        List<TechTag> tags = techTagRepository.findByNameIn(names);
+
+        if (tags.size() == names.size()) {
+            return tags;
+        }
+
+        List<String> existing = tags.stream().map(TechTag::getName).collect(Collectors.toList());
+
+        names.stream()
+                .filter(name -> !existing.contains(name))
+                .forEach(techTagRepository::insertIfAbsent);
+
+        return techTagRepository.findByNameIn(names);
+    }
+}
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 @Getter
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long id;
 
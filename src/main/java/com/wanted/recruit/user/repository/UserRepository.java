@@ -13,4 +13,8 @@ public interface UserRepository extends Repository<User, Long> {
     User save(User user);
     List<User> findAll();
     Optional<User> findById(Long id);
+    boolean existsById(Long id);
+
+    // 조회 없이 id만 가진 프록시 반환 (연관 관계 저장용)
+    User getReferenceById(Long id);
 }
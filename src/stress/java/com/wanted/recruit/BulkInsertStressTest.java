@@ -0,0 +1,139 @@
+package com.wanted.recruit;
+
+import com.wanted.recruit.apply.entity.Apply;
+import com.wanted.recruit.company.entity.Company;
+import com.wanted.recruit.jobpost.entity.JobPost;
+import com.wanted.recruit.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT 처리량 비교: 한 행씩 INSERT vs JDBC 배치 INSERT
+ *
+ * IDENTITY id는 id를 받기 위해 persist마다 INSERT를 바로 실행하므로 배치가 불가능했음 (한 행씩)
+ * 시퀀스 id(pooled)로 바꾼 뒤에는 INSERT가 flush까지 모여 hibernate.jdbc.batch_size건씩 전송됨
+ * 같은 엔티티로 세션 배치 크기만 1과 설정값으로 바꿔 두 방식을 비교하고, 처리량과 실행한 statement 수를 출력
+ *
+ * 실행: ./gradlew stressTest --tests '*BulkInsertStressTest' -Dstress.bulk-rows=20000
+ * DB 설정: src/stress/resources/application-stress.properties
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("stress")
+@DisplayName("대량 INSERT 처리량 비교")
+class BulkInsertStressTest {
+    private static final int ROWS = Integer.getInteger("stress.bulk-rows", 10_000);
+    private static final int WARM_UP_ROWS = 1_000;
+    private static final int FLUSH_INTERVAL = 1_000; // 영속성 컨텍스트가 커지지 않도록 이 건수마다 flush/clear
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("사용자, 지원 내역 대량 INSERT: 배치 INSERT가 statement 수를 batch_size배 줄임")
+    void bulkInsert_WhenBatched_ShouldReduceStatements() {
+        // JIT, 커넥션 풀 준비
+        insert("warm-up", WARM_UP_ROWS, 1, i -> new User("warm-up-" + i));
+        insert("warm-up", WARM_UP_ROWS, null, i -> new User("warm-up-" + i));
+
+        Result unbatchedUsers = insert("user, row by row", ROWS, 1, i -> new User("row-" + i));
+        Result batchedUsers = insert("user, jdbc batch", ROWS, null, i -> new User("batch-" + i));
+
+        // 지원 내역: 사용자마다 한 건씩 같은 공고에 지원
+        Long jobPostId = transactionTemplate.execute(status -> {
+            Company company = Company.builder().name("원티드").nation("한국").region("서울").build();
+            entityManager.persist(company);
+
+            JobPost jobPost = JobPost.builder()
+                    .position("신입 백엔드 개발자")
+                    .reward(500000)
+                    .techStack("Java/Spring")
+                    .content("공고 상세 내용")
+                    .company(company)
+                    .build();
+            entityManager.persist(jobPost);
+            return jobPost.getId();
+        });
+
+        List<Long> userIds = transactionTemplate.execute(status -> entityManager
+                .createQuery("select u.id from User u order by u.id", Long.class)
+                .setMaxResults(ROWS * 2)
+                .getResultList());
+
+        Result unbatchedApplies = insert("apply, row by row", ROWS, 1,
+                i -> apply(jobPostId, userIds.get(i)));
+        Result batchedApplies = insert("apply, jdbc batch", ROWS, null,
+                i -> apply(jobPostId, userIds.get(ROWS + i)));
+
+        assertThat(batchedUsers.statements).isLessThan(unbatchedUsers.statements / 10);
+        assertThat(batchedApplies.statements).isLessThan(unbatchedApplies.statements / 10);
+    }
+
+    /**
+     * 한 트랜잭션에서 rows건 INSERT 후 처리량 출력
+     *
+     * @param batchSize 세션 JDBC 배치 크기, 1이면 한 행씩 (IDENTITY와 같은 방식), null이면 설정값
+     */
+    private Result insert(String name, int rows, Integer batchSize, IntFunction<Object> entity) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long begin = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(entity.apply(i));
+
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        long elapsed = System.nanoTime() - begin;
+        Result result = new Result(statistics.getPrepareStatementCount());
+
+        System.out.printf("[%s] rows=%d batch=%s elapsed=%.1fms throughput=%.0f rows/s statements=%d%n",
+                name, rows, batchSize == null ? "default" : batchSize, elapsed / 1e6,
+                rows / (elapsed / 1e9), result.statements);
+        return result;
+    }
+
+    private Apply apply(Long jobPostId, Long userId) {
+        return new Apply(entityManager.getReference(JobPost.class, jobPostId), entityManager.getReference(User.class, userId));
+    }
+
+    private static class Result {
+        private final long statements;
+
+        private Result(long statements) {
+            this.statements = statements;
+        }
+    }
+}
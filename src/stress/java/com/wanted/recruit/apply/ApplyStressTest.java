@@ -0,0 +1,208 @@
+package com.wanted.recruit.apply;
+
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.service.ApplyService;
+import com.wanted.recruit.common.exception.exception.AlreadyAppliedException;
+import com.wanted.recruit.company.entity.Company;
+import com.wanted.recruit.company.repository.CompanyRepository;
+import com.wanted.recruit.jobpost.entity.JobPost;
+import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import com.wanted.recruit.user.entity.User;
+import com.wanted.recruit.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 공고 하나에 지원이 몰리는 상황의 동시성/처리량 측정
+ *
+ * 애플리케이션 전체를 내장 DB(H2, MariaDB 호환 모드)로 띄우고 ApplyService를 여러 스레드에서 동시에 호출
+ * - 서로 다른 사용자가 같은 공고에 지원: 모두 성공
+ * - 같은 사용자가 같은 공고에 여러 번 지원: 사용자당 정확히 한 건만 저장, 나머지는 AlreadyAppliedException
+ * 처리량과 지연 시간 백분위(p50/p99/p999), 구간별 히스토그램을 출력
+ *
+ * 실행: ./gradlew stressTest -Dstress.users=2000 -Dstress.duplicates=5 -Dstress.threads=64 -Dstress.pool-size=10
+ * -Dstress.write-behind=true 로 일괄 저장(write-behind) 모드와 비교
+ * DB 설정: src/stress/resources/application-stress.properties
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("stress")
+@DisplayName("채용공고 지원 동시성 스트레스 테스트")
+class ApplyStressTest {
+    private static final int USERS = Integer.getInteger("stress.users", 1000);
+    private static final int DUPLICATES = Integer.getInteger("stress.duplicates", 5);
+    private static final int THREADS = Integer.getInteger("stress.threads", 64);
+
+    @Autowired
+    private ApplyService applyService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long jobPostId;
+    private List<Long> userIds;
+
+    /**
+     * 테스트마다 인기 공고 하나와 지원할 사용자 USERS명 준비
+     */
+    @BeforeEach
+    void setUp() {
+        Company company = companyRepository.save(Company.builder().name("원티드").nation("한국").region("서울").build());
+
+        jobPostId = jobPostRepository.save(JobPost.builder()
+                .position("신입 백엔드 개발자")
+                .reward(500000)
+                .techStack("Java/Spring")
+                .content("공고 상세 내용")
+                .company(company)
+                .build()).getId();
+
+        userIds = new ArrayList<>(USERS);
+
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(new User("stress-" + i)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자가 같은 공고에 동시에 지원: 모두 한 번씩 저장")
+    void apply_WhenConcurrentUsers_ShouldSaveEveryApply() throws InterruptedException {
+        List<ApplyRequest> requests = new ArrayList<>(USERS);
+
+        for (Long userId : userIds) {
+            requests.add(new ApplyRequest(userId, jobPostId));
+        }
+
+        Result result = run("concurrent-apply", requests);
+
+        assertThat(result.errors.get()).as("unexpected error: %s", result.firstError.get()).isZero();
+        assertThat(result.applied.get()).isEqualTo(USERS);
+        assertThat(result.duplicated.get()).isZero();
+        assertThat(countApplies()).isEqualTo(USERS);
+        assertThat(countDistinctApplicants()).isEqualTo(USERS);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 공고에 동시에 여러 번 지원: 사용자당 정확히 한 건만 저장")
+    void apply_WhenConcurrentDuplicates_ShouldSaveExactlyOnce() throws InterruptedException {
+        List<ApplyRequest> requests = new ArrayList<>(USERS * DUPLICATES);
+
+        for (Long userId : userIds) {
+            for (int i = 0; i < DUPLICATES; i++) {
+                requests.add(new ApplyRequest(userId, jobPostId));
+            }
+        }
+
+        // 같은 사용자의 요청이 서로 다른 스레드에서 겹치도록 섞음
+        Collections.shuffle(requests);
+
+        Result result = run("duplicate-apply", requests);
+
+        assertThat(result.errors.get()).as("unexpected error: %s", result.firstError.get()).isZero();
+        assertThat(result.applied.get()).isEqualTo(USERS);
+        assertThat(result.duplicated.get()).isEqualTo(USERS * (DUPLICATES - 1));
+        assertThat(countApplies()).isEqualTo(USERS);
+        assertThat(countDistinctApplicants()).isEqualTo(USERS);
+    }
+
+    /**
+     * 모든 스레드가 준비된 뒤 동시에 시작해 요청을 처리하고 결과/지연 시간을 집계
+     */
+    private Result run(String name, List<ApplyRequest> requests) throws InterruptedException {
+        Result result = new Result();
+        LatencyRecorder recorder = new LatencyRecorder(requests.size());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests.size());
+
+        for (ApplyRequest request : requests) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+
+                    try {
+                        applyService.apply(request);
+                        result.applied.incrementAndGet();
+                    } catch (AlreadyAppliedException e) {
+                        result.duplicated.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        result.errors.incrementAndGet();
+                        result.firstError.compareAndSet(null, e);
+                    } finally {
+                        recorder.record(System.nanoTime() - begin);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdownNow();
+
+        assertThat(finished).as("%s did not finish within 5 minutes", name).isTrue();
+        report(name, requests.size(), elapsed, result, recorder.snapshot());
+        return result;
+    }
+
+    private void report(String name, int requests, long elapsedNanos, Result result, LatencyRecorder.Snapshot latency) {
+        System.out.printf("%n[%s] requests=%d threads=%d pool=%s write-behind=%s%n", name, requests, THREADS,
+                System.getProperty("stress.pool-size", "10"), System.getProperty("stress.write-behind", "false"));
+        System.out.printf("  applied=%d duplicated=%d errors=%d%n",
+                result.applied.get(), result.duplicated.get(), result.errors.get());
+        System.out.printf("  elapsed=%.1fms throughput=%.1f req/s%n",
+                elapsedNanos / 1e6, requests / (elapsedNanos / 1e9));
+        System.out.printf("  latency p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                latency.percentile(50) / 1e6, latency.percentile(99) / 1e6,
+                latency.percentile(99.9) / 1e6, latency.max() / 1e6);
+        System.out.print(latency.histogram());
+    }
+
+    private int countApplies() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM apply WHERE job_post_id = ?", Integer.class, jobPostId);
+    }
+
+    private int countDistinctApplicants() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM apply WHERE job_post_id = ?", Integer.class, jobPostId);
+    }
+
+    private static class Result {
+        private final AtomicInteger applied = new AtomicInteger();
+        private final AtomicInteger duplicated = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        private final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+    }
+}
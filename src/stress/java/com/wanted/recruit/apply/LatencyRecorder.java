@@ -0,0 +1,82 @@
+package com.wanted.recruit.apply;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청별 지연 시간(ns) 기록 및 백분위/히스토그램 집계
+ * 요청 수만큼 미리 할당한 배열에 기록하므로 측정 중에는 할당/락 없음
+ */
+class LatencyRecorder {
+    private final long[] latencies;
+    private final AtomicInteger count = new AtomicInteger();
+
+    LatencyRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    void record(long nanos) {
+        latencies[count.getAndIncrement()] = nanos;
+    }
+
+    /**
+     * 측정 종료 후 집계 (기록이 모두 끝난 뒤 한 번만 호출)
+     */
+    Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(latencies, count.get());
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    static class Snapshot {
+        private final long[] sorted;
+
+        private Snapshot(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        /**
+         * 백분위 지연 시간(ns), nearest-rank 방식
+         *
+         * @param percentile 0 ~ 100 (예: 99.9)
+         */
+        long percentile(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+
+        long max() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        /**
+         * 2배 간격 구간별 요청 수 (1ms 미만, 1~2ms, 2~4ms, ...)
+         */
+        String histogram() {
+            StringBuilder builder = new StringBuilder();
+            long upper = 1_000_000L; // 1ms
+            int from = 0;
+
+            while (from < sorted.length) {
+                int to = from;
+
+                while (to < sorted.length && sorted[to] < upper) {
+                    to++;
+                }
+
+                if (to > from) {
+                    builder.append(String.format("  < %6dms : %6d%n", upper / 1_000_000L, to - from));
+                }
+
+                from = to;
+                upper <<= 1;
+            }
+
+            return builder.toString();
+        }
+    }
+}
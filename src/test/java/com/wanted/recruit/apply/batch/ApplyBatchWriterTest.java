@@ -0,0 +1,263 @@
+package com.wanted.recruit.apply.batch;
+
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.repository.ApplyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplyBatchWriter 테스트")
+class ApplyBatchWriterTest {
+    @Mock
+    private ApplyRepository applyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplyBatchWriter batchWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (batchWriter != null) {
+            batchWriter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청을 INSERT 한 번으로 저장하고 요청마다 응답 전달")
+    void write_WhenConcurrentRequests_ShouldInsertInSingleBatch() {
+        batchWriter = writer(true, 3, 1_000);
+
+        List<ApplyRequest> requests = List.of(new ApplyRequest(1L, 10L), new ApplyRequest(2L, 10L), new ApplyRequest(3L, 10L));
+
+        when(applyRepository.insertAll(anyList())).thenReturn(List.of(101L, 102L, 103L));
+        when(applyRepository.findResponses(List.of(101L, 102L, 103L))).thenReturn(requests.stream()
+                .map(request -> response(request.getUserId(), request.getJobPostId()))
+                .collect(Collectors.toList()));
+
+        List<ApplyResponse> results = writeConcurrently(requests);
+
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals(requests.get(i).getUserId(), results.get(i).getUserId());
+            assertEquals(requests.get(i).getJobPostId(), results.get(i).getJobPostId());
+        }
+
+        verify(applyRepository, times(1)).insertAll(anyList());
+        verify(applyRepository, times(1)).findResponses(anyCollection());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 중 모든 요청이 제약 조건 위반: 모든 요청이 null (단건 저장으로 원인 판별)")
+    void write_WhenBatchViolatesConstraint_ShouldReturnNull() {
+        batchWriter = writer(true, 2, 1_000);
+
+        when(applyRepository.insertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        List<ApplyResponse> results = writeConcurrently(List.of(new ApplyRequest(1L, 10L), new ApplyRequest(2L, 10L)));
+
+        assertNull(results.get(0));
+        assertNull(results.get(1));
+        verify(applyRepository, never()).findResponses(anyCollection());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 중 한 요청만 제약 조건 위반: 나눠서 다시 저장, 위반한 요청만 null")
+    void write_WhenOneRequestViolatesConstraint_ShouldBisectAndSaveOthers() {
+        batchWriter = writer(true, 4, 1_000);
+        ApplyRequest invalid = new ApplyRequest(3L, 10L);
+
+        // 위반한 요청이 포함된 INSERT는 전체 롤백, 지원 id는 사용자 id + 100
+        when(applyRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<ApplyRequest> saved = invocation.getArgument(0);
+
+            if (saved.contains(invalid)) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+
+            return saved.stream().map(request -> request.getUserId() + 100).collect(Collectors.toList());
+        });
+        when(applyRepository.findResponses(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> applyIds = invocation.getArgument(0);
+            return applyIds.stream().map(applyId -> response(applyId - 100, 10L)).collect(Collectors.toList());
+        });
+
+        List<ApplyResponse> results = writeConcurrently(List.of(
+                new ApplyRequest(1L, 10L), new ApplyRequest(2L, 10L), invalid, new ApplyRequest(4L, 10L)));
+
+        assertEquals(3, results.stream().filter(result -> result != null).count());
+        assertTrue(results.stream().filter(result -> result != null).noneMatch(result -> result.getUserId() == 3L));
+        // 4건 실패 -> 2건씩(성공, 실패) -> 1건씩(실패, 성공), 응답 조회는 성공한 저장에서만
+        verify(applyRepository, times(5)).insertAll(anyList());
+        verify(applyRepository, times(2)).findResponses(anyCollection());
+    }
+
+    @Test
+    @DisplayName("같은 일괄 안의 중복 요청: 첫 요청만 저장, 나머지는 null")
+    void write_WhenDuplicatedInBatch_ShouldSaveOnce() {
+        batchWriter = writer(true, 2, 1_000);
+
+        when(applyRepository.insertAll(anyList())).thenReturn(List.of(101L));
+        when(applyRepository.findResponses(List.of(101L))).thenReturn(List.of(response(1L, 10L)));
+
+        List<ApplyResponse> results = writeConcurrently(List.of(new ApplyRequest(1L, 10L), new ApplyRequest(1L, 10L)));
+
+        assertEquals(1, results.stream().filter(result -> result != null).count());
+        verify(applyRepository, times(1)).insertAll(argThat(saved -> saved.size() == 1));
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과: 저장 스레드가 아직 가져가지 않은 요청은 취소하고 null (단건 저장)")
+    void write_WhenWaitTimedOutBeforeFlush_ShouldCancelAndReturnNull() {
+        // 일괄이 차거나 10초가 지나야 저장
+        batchWriter = writer(true, 500, 10_000, 50);
+
+        assertNull(batchWriter.write(new ApplyRequest(1L, 10L)));
+        batchWriter.shutdown();
+        verifyNoInteractions(applyRepository);
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과: 이미 저장 중인 요청은 취소하지 않고 결과를 기다림 (같은 지원을 두 번 INSERT 하지 않음)")
+    void write_WhenWaitTimedOutDuringFlush_ShouldWaitForResult() {
+        batchWriter = writer(true, 1, 1_000, 50);
+
+        when(applyRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(300); // 대기 시간보다 오래 걸리는 INSERT
+            return List.of(101L);
+        });
+        when(applyRepository.findResponses(List.of(101L))).thenReturn(List.of(response(1L, 10L)));
+
+        ApplyResponse result = batchWriter.write(new ApplyRequest(1L, 10L));
+
+        assertNotNull(result);
+        assertEquals(1L, result.getUserId());
+    }
+
+    @Test
+    @DisplayName("이미 저장 중인 요청이 트랜잭션 제한 시간이 지나도 끝나지 않음: 더 기다리지 않고 null (단건 저장)")
+    void write_WhenFlushOutlastsTransactionTimeout_ShouldReturnNull() {
+        // 트랜잭션 제한 시간 1초 + 여유 1초
+        batchWriter = writer(true, 1, 1_000, 50);
+        AtomicBoolean released = new AtomicBoolean();
+
+        try {
+            when(applyRepository.insertAll(anyList())).thenAnswer(invocation -> hangUntil(released, null));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertNull(batchWriter.write(new ApplyRequest(1L, 10L))));
+        } finally {
+            released.set(true);
+        }
+    }
+
+    @Test
+    @DisplayName("종료: 저장 스레드가 끝나지 않아도 결과를 기다리는 요청은 바로 null (단건 저장), 이후 요청도 null")
+    void shutdown_WhenFlushHangs_ShouldReleaseWaitingRequests() throws Exception {
+        batchWriter = writer(true, 1, 1_000);
+        AtomicBoolean released = new AtomicBoolean();
+        CountDownLatch inserting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            when(applyRepository.insertAll(anyList())).thenAnswer(invocation -> hangUntil(released, inserting));
+
+            Future<ApplyResponse> result = executor.submit(() -> batchWriter.write(new ApplyRequest(1L, 10L)));
+            assertTrue(inserting.await(1, TimeUnit.SECONDS));
+
+            batchWriter.shutdown();
+
+            assertNull(result.get(1, TimeUnit.SECONDS));
+            assertNull(batchWriter.write(new ApplyRequest(2L, 10L)));
+        } finally {
+            released.set(true);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 저장 미사용: 저장하지 않고 null")
+    void write_WhenDisabled_ShouldReturnNull() {
+        batchWriter = writer(false, 500, 5);
+
+        assertFalse(batchWriter.isEnabled());
+        assertNull(batchWriter.write(new ApplyRequest(1L, 10L)));
+        verifyNoInteractions(applyRepository);
+    }
+
+    private ApplyBatchWriter writer(boolean enabled, int batchSize, long maxDelayMillis) {
+        return writer(enabled, batchSize, maxDelayMillis, 10_000);
+    }
+
+    private ApplyBatchWriter writer(boolean enabled, int batchSize, long maxDelayMillis, long waitTimeoutMillis) {
+        return new ApplyBatchWriter(applyRepository, new TransactionTemplate(transactionManager),
+                enabled, 100, batchSize, maxDelayMillis, waitTimeoutMillis);
+    }
+
+    /**
+     * 요청마다 다른 스레드에서 동시에 저장 요청, 요청 순서대로 결과 반환
+     */
+    private List<ApplyResponse> writeConcurrently(List<ApplyRequest> requests) {
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+
+        try {
+            List<CompletableFuture<ApplyResponse>> futures = requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(() -> batchWriter.write(request), executor))
+                    .collect(Collectors.toList());
+
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 인터럽트에 응답하지 않는 JDBC 호출처럼 released가 true가 될 때까지 INSERT를 끝내지 않음
+     */
+    private static List<Long> hangUntil(AtomicBoolean released, CountDownLatch inserting) {
+        if (inserting != null) {
+            inserting.countDown();
+        }
+
+        while (!released.get()) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ignored) {
+                // 저장 스레드 중단(shutdownNow)을 무시
+            }
+        }
+
+        return List.of(101L);
+    }
+
+    private static ApplyResponse response(Long userId, Long jobPostId) {
+        return new ApplyResponse(userId, "유저" + userId, jobPostId, "신입 백엔드 개발자", LocalDateTime.now());
+    }
+}
@@ -3,6 +3,7 @@ package com.wanted.recruit.apply.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wanted.recruit.apply.dto.ApplyRequest;
 import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.filter.AppliedFilterStats;
 import com.wanted.recruit.apply.service.ApplyService;
 import com.wanted.recruit.common.exception.exception.AlreadyAppliedException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
@@ -23,6 +24,7 @@ import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -136,4 +138,18 @@ class ApplyControllerTest {
                 .andExpect(status().isNotFound()) // 응답 코드
                 .andExpect(jsonPath("$.title").value("UserNotFoundException")); // 필드값 검사
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지원 내역 필터 통계: 설정값과 집계 반환(200)")
+    void appliedFilterStats_ShouldReturnStats() throws Exception {
+        when(applyService.appliedFilterStats())
+                .thenReturn(new AppliedFilterStats(true, 1000, 0.01, 9600, 7, 10, 90, 12, 2));
+
+        mockMvc.perform(get("/apply/filter-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.hashFunctions").value(7))
+                .andExpect(jsonPath("$.negatives").value(90))
+                .andExpect(jsonPath("$.observedFalsePositiveRate").value(2.0 / 92));
+    }
+}
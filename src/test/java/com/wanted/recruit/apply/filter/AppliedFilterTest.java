@@ -0,0 +1,103 @@
+package com.wanted.recruit.apply.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AppliedFilter 테스트")
+class AppliedFilterTest {
+
+    @Test
+    @DisplayName("채우기 완료 전: 판단하지 않고 모두 바로 INSERT (false)")
+    void mightContain_WhenNotReady_ShouldReturnFalse() {
+        AppliedFilter filter = new AppliedFilter(1_000, 0.01);
+        filter.put(1L, 2L);
+
+        assertFalse(filter.mightContain(1L, 2L));
+
+        filter.markReady();
+        assertTrue(filter.mightContain(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("추가한 쌍은 항상 true (false negative 없음)")
+    void mightContain_WhenPut_ShouldAlwaysReturnTrue() {
+        AppliedFilter filter = new AppliedFilter(10_000, 0.01);
+
+        for (long userId = 1; userId <= 100; userId++) {
+            for (long jobPostId = 1; jobPostId <= 100; jobPostId++) {
+                filter.put(userId, jobPostId);
+            }
+        }
+
+        filter.markReady();
+
+        for (long userId = 1; userId <= 100; userId++) {
+            for (long jobPostId = 1; jobPostId <= 100; jobPostId++) {
+                assertTrue(filter.mightContain(userId, jobPostId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("예상 지원 수만큼 추가했을 때 오탐률이 목표 근처")
+    void mightContain_WhenFull_ShouldKeepFalsePositiveRateNearTarget() {
+        AppliedFilter filter = new AppliedFilter(10_000, 0.01);
+
+        for (long userId = 1; userId <= 10_000; userId++) {
+            filter.put(userId, 1L);
+        }
+
+        filter.markReady();
+        int falsePositives = 0;
+
+        // 같은 사용자가 다른 공고에, 다른 사용자가 같은 공고에 지원하는 경우
+        for (long userId = 1; userId <= 10_000; userId++) {
+            if (filter.mightContain(userId, 2L)) {
+                falsePositives++;
+            }
+
+            if (filter.mightContain(userId + 10_000, 1L)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 20_000 * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("통계: 설정값, 추가 수, 조회 결과 집계")
+    void stats_ShouldReportConfigurationAndCounts() {
+        AppliedFilter filter = new AppliedFilter(1_000, 0.01);
+        filter.put(1L, 2L);
+        filter.put(1L, 2L); // 같은 쌍은 한 번만 셈
+        filter.markReady();
+
+        filter.mightContain(1L, 2L);
+        filter.mightContain(3L, 4L);
+        filter.recordFalsePositive(); // DB 확인 결과 지원 내역 없음으로 가정
+
+        AppliedFilterStats stats = filter.stats();
+
+        assertTrue(stats.isReady());
+        assertEquals(1_000, stats.getExpectedInsertions());
+        assertEquals(0.01, stats.getFalsePositiveRate());
+        assertTrue(stats.getBitSize() >= 9_585); // -n ln p / (ln 2)^2
+        assertEquals(7, stats.getHashFunctions());
+        assertEquals(1, stats.getInsertions());
+        assertEquals(1, stats.getPositives()); // DB 확인
+        assertEquals(1, stats.getNegatives()); // 조회 없이 INSERT
+        assertEquals(1, stats.getFalsePositives());
+        assertEquals(0.5, stats.getObservedFalsePositiveRate()); // 오탐 / (조회 생략 + 오탐)
+        assertTrue(stats.getExpectedFalsePositiveRate() < 0.01);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정: IllegalArgumentException")
+    void constructor_WhenInvalidConfiguration_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AppliedFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new AppliedFilter(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AppliedFilter(1_000, 1));
+    }
+}
@@ -1,5 +1,7 @@
 package com.wanted.recruit.apply.repository;
 
+import com.wanted.recruit.apply.dto.ApplyRequest;
+import com.wanted.recruit.apply.dto.ApplyResponse;
 import com.wanted.recruit.apply.entity.Apply;
 import com.wanted.recruit.company.entity.Company;
 import com.wanted.recruit.user.entity.User;
@@ -15,9 +17,14 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -79,7 +86,7 @@ class ApplyRepositoryTest {
     void save_WhenUserIsNull_ShouldThrowConstraintViolationException() {
         Apply invalidApply = new Apply(jobPost, null); // User 엔티티 값 없음
 
-        assertThatThrownBy(() -> applyRepository.save(invalidApply))
+        assertThatThrownBy(() -> applyRepository.saveAndFlush(invalidApply))
                 .isInstanceOf(ConstraintViolationException.class); // @NotNull 제약조건 위반
     }
 
@@ -88,7 +95,7 @@ class ApplyRepositoryTest {
     void save_WhenJobPostIsNull_ShouldThrowConstraintViolationException() {
         Apply invalidApply = new Apply(null, user); // JobPost 값 없음
 
-        assertThatThrownBy(() -> applyRepository.save(invalidApply))
+        assertThatThrownBy(() -> applyRepository.saveAndFlush(invalidApply))
                 .isInstanceOf(ConstraintViolationException.class); // @NotNull 제약조건 위반
     }
 
@@ -108,4 +115,110 @@ class ApplyRepositoryTest {
         boolean result = applyRepository.existsByUserIdAndJobPostId(apply.getUser().getId(), apply.getJobPost().getId());
         assertThat(result).isEqualTo(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지원 저장 실패: 같은 사용자가 같은 공고에 다시 지원 -> 유니크 제약 조건 위반")
+    void save_WhenDuplicated_ShouldThrowDataIntegrityViolationException() {
+        applyRepository.save(apply);
+
+        assertThatThrownBy(() -> applyRepository.saveAndFlush(new Apply(jobPost, user)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining(Apply.UNIQUE_USER_JOB_POST); // 중복 지원 판별에 쓰는 제약 조건 이름
+    }
+
+    @Test
+    @DisplayName("지원 응답 조회: 사용자 이름, 채용 공고 포지션 포함")
+    void findResponse_ShouldReturnApplyResponse() {
+        entityManager.persist(apply);
+        entityManager.flush();
+        entityManager.clear();
+
+        ApplyResponse result = applyRepository.findResponse(apply.getId()).orElseThrow();
+
+        assertThat(result.getUserId()).isEqualTo(user.getId());
+        assertThat(result.getName()).isEqualTo("유저1");
+        assertThat(result.getJobPostId()).isEqualTo(jobPost.getId());
+        assertThat(result.getPosition()).isEqualTo("신입 백엔드 개발자");
+    }
+
+    @Test
+    @DisplayName("지원 응답 조회: 지원 내역 없음 -> empty")
+    void findResponse_WhenNotFound_ShouldReturnEmpty() {
+        assertThat(applyRepository.findResponse(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지원 내역 (사용자 ID, 채용 공고 ID) 스트림 조회")
+    void streamUserJobPostIds_ShouldReturnSavedPairs() {
+        entityManager.persist(apply);
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<ApplyRequest> pairs = applyRepository.streamUserJobPostIds()) {
+            assertThat(pairs.filter(pair -> pair.getUserId().equals(user.getId())))
+                    .singleElement()
+                    .satisfies(pair -> assertThat(pair.getJobPostId()).isEqualTo(jobPost.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 일괄 저장 후 지원 응답 일괄 조회")
+    void insertAll_ShouldSaveAllRowsInSingleBatch() {
+        User other = new User("유저2");
+        entityManager.persist(other);
+
+        List<Long> applyIds = applyRepository.insertAll(List.of(
+                new ApplyRequest(user.getId(), jobPost.getId()),
+                new ApplyRequest(other.getId(), jobPost.getId())));
+
+        assertThat(applyIds).hasSize(2).doesNotContainNull();
+        assertThat(applyRepository.findResponses(applyIds))
+                .extracting(ApplyResponse::getName)
+                .containsExactlyInAnyOrder("유저1", "유저2");
+    }
+
+    @Test
+    @DisplayName("일괄 저장한 지원 응답 조회: 사용자/채용 공고의 다른 조합(기존 지원 내역)은 조회하지 않음")
+    void findResponses_ShouldReturnOnlyInsertedApplies() {
+        JobPost otherJobPost = JobPost.builder()
+                .position("프론트엔드 개발자")
+                .reward(300000)
+                .techStack("React")
+                .content("공고 상세 내용")
+                .company(jobPost.getCompany())
+                .build();
+        entityManager.persist(otherJobPost);
+
+        User other = new User("유저2");
+        entityManager.persist(other);
+
+        // 기존 지원 내역: (유저1, 다른 공고)
+        entityManager.persist(new Apply(otherJobPost, user));
+        entityManager.flush();
+
+        List<Long> applyIds = applyRepository.insertAll(List.of(
+                new ApplyRequest(user.getId(), jobPost.getId()),
+                new ApplyRequest(other.getId(), otherJobPost.getId())));
+
+        assertThat(applyRepository.findResponses(applyIds))
+                .extracting(ApplyResponse::getUserId, ApplyResponse::getJobPostId)
+                .containsExactlyInAnyOrder(
+                        tuple(user.getId(), jobPost.getId()),
+                        tuple(other.getId(), otherJobPost.getId()));
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 중 한 건이라도 중복: 예외 (트랜잭션 롤백으로 전체 저장 실패)")
+    void insertAll_WhenAnyDuplicated_ShouldThrowDataIntegrityViolationException() {
+        entityManager.persist(apply);
+        entityManager.flush();
+
+        User other = new User("유저2");
+        entityManager.persist(other);
+
+        assertThatThrownBy(() -> applyRepository.insertAll(List.of(
+                new ApplyRequest(other.getId(), jobPost.getId()),
+                new ApplyRequest(user.getId(), jobPost.getId()))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -1,8 +1,10 @@
 package com.wanted.recruit.apply.service;
 
+import com.wanted.recruit.apply.batch.ApplyBatchWriter;
 import com.wanted.recruit.apply.entity.Apply;
 import com.wanted.recruit.apply.dto.ApplyRequest;
 import com.wanted.recruit.apply.dto.ApplyResponse;
+import com.wanted.recruit.apply.filter.AppliedFilter;
 import com.wanted.recruit.apply.repository.ApplyRepository;
 import com.wanted.recruit.company.entity.Company;
 import com.wanted.recruit.user.entity.User;
@@ -12,18 +14,27 @@ import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.common.exception.exception.UserNotFoundException;
 import com.wanted.recruit.jobpost.entity.JobPost;
 import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +49,15 @@ class ApplyServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AppliedFilter appliedFilter;
+
+    @Mock
+    private ApplyBatchWriter batchWriter;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private ApplyServiceImpl applyService;
 
@@ -64,90 +84,189 @@ class ApplyServiceImplTest {
     }
 
     @Test
-    @DisplayName("공고 지원: 성공 시나리오")
+    @DisplayName("공고 지원: 성공 시나리오 - 사전 조회 없이 INSERT 후 응답 조회")
     void apply_WhenValid_ShouldSaveApplyAndReturnApplyResponse() {
         User user = new User("유저1");
         Apply apply = new Apply(jobPost, user);
+        ReflectionTestUtils.setField(apply, "id", 10L);
 
-        // 해당 공고에 지원 내역 없음
-        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId()))
-                .thenReturn(false);
-
-        // 지원 공고 존재
-        when(jobPostRepository.findById(request.getJobPostId())).thenReturn(Optional.of(jobPost));
+        ApplyResponse response = new ApplyResponse(request.getUserId(), "유저1", request.getJobPostId(),
+                "신입 백엔드 개발자", LocalDateTime.now());
 
-        // 사용자 정보 존재
-        when(userRepository.findById(request.getUserId())).thenReturn(Optional.of(user));
+        // id만 가진 프록시
+        when(jobPostRepository.getReferenceById(request.getJobPostId())).thenReturn(jobPost);
+        when(userRepository.getReferenceById(request.getUserId())).thenReturn(user);
 
         // 지원 내역 저장
-        when(applyRepository.save(any(Apply.class))).thenReturn(apply);
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenReturn(apply);
+
+        // 응답 조회
+        when(applyRepository.findResponse(10L)).thenReturn(Optional.of(response));
 
         ApplyResponse result = applyService.apply(request);
 
-        // 호출 횟수 확인
-        verify(applyRepository, times(1)).existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId());
-        verify(jobPostRepository, times(1)).findById(request.getJobPostId());
-        verify(userRepository, times(1)).findById(request.getUserId());
-        verify(applyRepository, times(1)).save(any(Apply.class));
+        assertEquals(response, result);
+
+        // 중복/존재 여부 사전 조회 없음
+        verify(applyRepository, never()).existsByUserIdAndJobPostId(anyLong(), anyLong());
+        verify(jobPostRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
+        verify(jobPostRepository, never()).existsById(anyLong());
+        verify(userRepository, never()).existsById(anyLong());
+        verify(applyRepository, times(1)).saveAndFlush(any(Apply.class));
+        verify(transactionTemplate, times(1)).execute(any()); // 저장과 응답 조회를 한 트랜잭션에서
+        verify(appliedFilter, times(1)).put(request.getUserId(), request.getJobPostId()); // 저장 후 필터에 추가
+    }
+
+    @Test
+    @DisplayName("공고 지원: 일괄 저장 사용 - 일괄 저장 성공 시 단건 저장 없음")
+    void apply_WhenBatchWritten_ShouldNotSaveIndividually() {
+        ApplyResponse response = new ApplyResponse(request.getUserId(), "유저1", request.getJobPostId(),
+                "신입 백엔드 개발자", LocalDateTime.now());
+
+        when(batchWriter.isEnabled()).thenReturn(true);
+        when(batchWriter.write(request)).thenReturn(response);
+
+        assertEquals(response, applyService.apply(request));
+
+        verify(applyRepository, never()).saveAndFlush(any(Apply.class));
+        verify(applyRepository, never()).findResponse(anyLong());
+        verify(appliedFilter, times(1)).put(request.getUserId(), request.getJobPostId());
     }
 
     @Test
-    @DisplayName("공고 지원: 이미 지원한 공고 -> AlreadyAppliedException")
+    @DisplayName("공고 지원: 일괄 저장 사용 - 일괄 저장하지 못한 요청은 단건 저장으로 원인 판별")
+    void apply_WhenBatchNotWritten_ShouldFallBackToIndividualSave() {
+        when(batchWriter.isEnabled()).thenReturn(true);
+        when(batchWriter.write(request)).thenReturn(null);
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation(Apply.UNIQUE_USER_JOB_POST));
+
+        assertThrows(AlreadyAppliedException.class, () -> applyService.apply(request));
+
+        verify(applyRepository, times(1)).saveAndFlush(any(Apply.class));
+    }
+
+    @Test
+    @DisplayName("공고 지원: 필터가 지원했을 수 있다고 판단, 실제 지원 내역 있음 -> INSERT 없이 AlreadyAppliedException")
+    void apply_WhenFilterPositiveAndApplied_ShouldThrowWithoutInsert() {
+        when(appliedFilter.mightContain(request.getUserId(), request.getJobPostId())).thenReturn(true);
+        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId())).thenReturn(true);
+
+        assertThrows(AlreadyAppliedException.class, () -> applyService.apply(request));
+
+        verify(applyRepository, never()).saveAndFlush(any(Apply.class));
+        verify(appliedFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("공고 지원: 필터 오탐 (지원 내역 없음) -> 오탐 기록 후 저장")
+    void apply_WhenFilterFalsePositive_ShouldRecordAndSave() {
+        User user = new User("유저1");
+        Apply apply = new Apply(jobPost, user);
+        ReflectionTestUtils.setField(apply, "id", 10L);
+
+        when(appliedFilter.mightContain(request.getUserId(), request.getJobPostId())).thenReturn(true);
+        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId())).thenReturn(false);
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenReturn(apply);
+        when(applyRepository.findResponse(10L)).thenReturn(Optional.of(new ApplyResponse(request.getUserId(), "유저1",
+                request.getJobPostId(), "신입 백엔드 개발자", LocalDateTime.now())));
+
+        applyService.apply(request);
+
+        verify(appliedFilter, times(1)).recordFalsePositive();
+        verify(applyRepository, times(1)).saveAndFlush(any(Apply.class));
+    }
+
+    @Test
+    @DisplayName("공고 지원: 이미 지원한 공고 (유니크 제약 조건 위반) -> AlreadyAppliedException")
     void apply_WhenAlreadyApplied_ShouldThrowAlreadyAppliedException() {
         // 이미 지원한 공고
-        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId()))
-                .thenReturn(true);
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation(Apply.UNIQUE_USER_JOB_POST.toUpperCase()));
 
         // AlreadyAppliedException 발생 여부 확인
         assertThrows(AlreadyAppliedException.class, () -> applyService.apply(request));
 
         // 메소드 호출 횟수 확인
-        verify(applyRepository, times(1)).existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId());
-        verify(jobPostRepository, times(0)).findById(request.getJobPostId());
-        verify(userRepository, times(0)).findById(request.getUserId());
-        verify(applyRepository, times(0)).save(any(Apply.class));
+        verify(jobPostRepository, never()).existsById(anyLong());
+        verify(userRepository, never()).existsById(anyLong());
+        verify(applyRepository, never()).findResponse(anyLong());
+        verify(appliedFilter, times(1)).put(request.getUserId(), request.getJobPostId()); // 다음 요청은 INSERT 전에 걸러짐
+    }
+
+    @Test
+    @DisplayName("공고 지원: 필터를 통과한 중복 지원, 드라이버가 제약 조건 이름을 주지 않는 경우 (MariaDB 1062) -> AlreadyAppliedException")
+    void apply_WhenDuplicateWithoutConstraintName_ShouldThrowAlreadyAppliedException() {
+        // 필터는 지원 내역 없음으로 판단 (다른 서버에서 저장된 지원), INSERT에서 중복 키 오류
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation(null,
+                new SQLException("Duplicate entry '2-1' for key 'uk_apply_user_job_post'", "23000", 1062)));
+
+        assertThrows(AlreadyAppliedException.class, () -> applyService.apply(request));
+
+        verify(applyRepository, never()).existsByUserIdAndJobPostId(anyLong(), anyLong());
+        verify(jobPostRepository, never()).existsById(anyLong());
+        verify(userRepository, never()).existsById(anyLong());
+        verify(appliedFilter, times(1)).put(request.getUserId(), request.getJobPostId());
     }
 
     @Test
-    @DisplayName("공고 지원: 해당 채용 공고가 존재하지 않는 경우 -> JobPostNotFoundException")
+    @DisplayName("공고 지원: 제약 조건 이름 없이 외래 키 위반 (MariaDB 1452, 같은 SQLState 23000) -> 중복 지원으로 판단하지 않음")
+    void apply_WhenForeignKeyViolationWithoutConstraintName_ShouldThrowJobPostNotFoundException() {
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation(null,
+                new SQLException("Cannot add or update a child row: a foreign key constraint fails", "23000", 1452)));
+        when(jobPostRepository.existsById(request.getJobPostId())).thenReturn(false);
+
+        assertThrows(JobPostNotFoundException.class, () -> applyService.apply(request));
+
+        verify(appliedFilter, never()).put(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("공고 지원: 해당 채용 공고가 존재하지 않는 경우 (외래 키 위반) -> JobPostNotFoundException")
     void apply_WhenJobPostNotFound_ShouldThrowJobPostNotFoundException() {
-        // 지원 내역 없음
-        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId()))
-                .thenReturn(false);
+        // 외래 키 위반
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation("fk_apply_job_post"));
 
         // 채용 공고 존재하지 않음
-        when(jobPostRepository.findById(request.getJobPostId())).thenReturn(Optional.empty());
+        when(jobPostRepository.existsById(request.getJobPostId())).thenReturn(false);
 
         // JobPostNotFoundException 발생 여부 확인
         assertThrows(JobPostNotFoundException.class, () -> applyService.apply(request));
 
         // 메소드 호출 횟수 확인
-        verify(applyRepository, times(1)).existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId());
-        verify(jobPostRepository, times(1)).findById(request.getJobPostId());
-        verify(userRepository, times(0)).findById(request.getUserId());
-        verify(applyRepository, times(0)).save(any(Apply.class));
+        verify(jobPostRepository, times(1)).existsById(request.getJobPostId());
+        verify(userRepository, never()).existsById(anyLong());
+        verify(applyRepository, never()).findResponse(anyLong());
     }
 
     @Test
-    @DisplayName("공고 지원: 해당 사용자가 존재하지 않는 경우 -> UserNotFoundException")
+    @DisplayName("공고 지원: 해당 사용자가 존재하지 않는 경우 (외래 키 위반) -> UserNotFoundException")
     void apply_WhenUserNotFound_ShouldThrowUserNotFoundException() {
-        // 지원 내역 없음
-        when(applyRepository.existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId()))
-                .thenReturn(false);
-
-        // 채용 공고 존재
-        when(jobPostRepository.findById(request.getJobPostId())).thenReturn(Optional.of(jobPost));
+        // 외래 키 위반
+        when(applyRepository.saveAndFlush(any(Apply.class))).thenThrow(violation("fk_apply_user"));
 
-        // 사용자 정보 존재하지 않음
-        when(userRepository.findById(request.getUserId())).thenReturn(Optional.empty());
+        // 채용 공고 존재, 사용자 존재하지 않음
+        when(jobPostRepository.existsById(request.getJobPostId())).thenReturn(true);
+        when(userRepository.existsById(request.getUserId())).thenReturn(false);
 
         // UserNotFoundException 발생 여부 확인
         assertThrows(UserNotFoundException.class, () -> applyService.apply(request));
 
         // 메소드 호출 횟수 확인
-        verify(applyRepository, times(1)).existsByUserIdAndJobPostId(request.getUserId(), request.getJobPostId());
-        verify(jobPostRepository, times(1)).findById(request.getJobPostId());
-        verify(userRepository, times(1)).findById(request.getUserId());
-        verify(applyRepository, times(0)).save(any(Apply.class));
+        verify(jobPostRepository, times(1)).existsById(request.getJobPostId());
+        verify(userRepository, times(1)).existsById(request.getUserId());
+        verify(applyRepository, never()).findResponse(anyLong());
+    }
+
+    /**
+     * 리파지토리가 던지는 제약 조건 위반 예외 (Spring 변환 예외 + Hibernate 원인 예외)
+     */
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return violation(constraintName, new SQLException("constraint violation"));
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName, SQLException sqlException) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+                "could not execute statement", sqlException, constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,22 @@
 package com.wanted.recruit.jobpost.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.common.dto.CursorPage;
+import com.wanted.recruit.common.exception.exception.CompanyNotFoundException;
+import com.wanted.recruit.common.exception.exception.InvalidCursorException;
 import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
 import com.wanted.recruit.company.entity.Company;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.jobpost.entity.JobPost;
 import com.wanted.recruit.jobpost.dto.*;
+import com.wanted.recruit.jobpost.search.CompanyJobPosts;
+import com.wanted.recruit.jobpost.search.FacetCount;
+import com.wanted.recruit.jobpost.search.RewardBandCount;
+import com.wanted.recruit.jobpost.search.SearchCacheStats;
+import com.wanted.recruit.jobpost.search.SearchFacets;
+import com.wanted.recruit.jobpost.search.Suggestion;
+import com.wanted.recruit.jobpost.search.SuggestionType;
 import com.wanted.recruit.jobpost.service.JobPostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,8 +32,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -152,15 +166,37 @@ class JobPostControllerTest {
     }
 
     @Test
-    @DisplayName("채용 공고 목록: 검색어가 없는 경우, 전체 공고 반환")
+    @DisplayName("채용 공고 목록: 검색어가 없는 경우, 전체 공고 첫 페이지 반환")
     void getList_WhenNoSearchQuery_ShouldReturnEntireList() throws Exception {
         String searchQuery = null; // 검색어 없음
-        when(jobPostService.getAll()).thenReturn(List.of(jobPostResponse));
+        when(jobPostService.getAll(null, 20)).thenReturn(new CursorPage<>(List.of(jobPostResponse), "next"));
 
         mockMvc.perform(get("/job"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].jobPostId").value(jobPostResponse.getJobPostId()))
-                .andExpect(jsonPath("$[0].position").value(jobPostResponse.getPosition()));
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()))
+                .andExpect(jsonPath("$.content[0].position").value(jobPostResponse.getPosition()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 커서와 페이지 크기를 전달하는 경우, 해당 페이지 반환")
+    void getList_WhenHasCursor_ShouldReturnNextPage() throws Exception {
+        when(jobPostService.getAll("cursor", 5)).thenReturn(new CursorPage<>(List.of(jobPostResponse), null));
+
+        mockMvc.perform(get("/job?cursor=cursor&limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 커서가 올바르지 않은 경우, InvalidCursorException(400)")
+    void getList_WhenInvalidCursor_ShouldThrowInvalidCursorException() throws Exception {
+        when(jobPostService.getAll(anyString(), anyInt())).thenThrow(new InvalidCursorException());
+
+        mockMvc.perform(get("/job?cursor=invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("InvalidCursorException"));
     }
 
     @Test
@@ -168,12 +204,24 @@ class JobPostControllerTest {
     void getList_WhenHasSearchQuery_ShouldReturnSearchedList() throws Exception {
         String searchQuery = "검색어"; // 검색어 있음!
 
-        when(jobPostService.search(searchQuery)).thenReturn(List.of(jobPostResponse));
+        SearchFacets facets = new SearchFacets(
+                List.of(new FacetCount("한국", 1)),
+                List.of(new FacetCount("서울", 1)),
+                List.of(new FacetCount("java", 1)),
+                List.of(new RewardBandCount(500000, 1000000, 1)));
+
+        when(jobPostService.search(searchQuery, null, 20, false))
+                .thenReturn(new JobPostSearchPage(new CursorPage<>(List.of(jobPostResponse), null), facets));
 
         mockMvc.perform(get("/job?search=" + searchQuery)) // request param
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].jobPostId").value(jobPostResponse.getJobPostId()))
-                .andExpect(jsonPath("$[0].position").value(jobPostResponse.getPosition()));
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()))
+                .andExpect(jsonPath("$.content[0].position").value(jobPostResponse.getPosition()))
+                // 검색 결과와 함께 필드 값별 건수 반환
+                .andExpect(jsonPath("$.facets.regions[0].value").value("서울"))
+                .andExpect(jsonPath("$.facets.tags[0].count").value(1))
+                .andExpect(jsonPath("$.facets.rewards[0].min").value(500000))
+                .andExpect(jsonPath("$.truncated").value(false));
     }
 
     @Test
@@ -181,33 +229,182 @@ class JobPostControllerTest {
     void getList_WhenInvalidSearchQuery_ShouldThrowInvalidSearchQueryException() throws Exception {
         String searchQuery = "원티드$"; // 검색어 유효성 검사 통과 X
 
-        when(jobPostService.search(searchQuery)).thenThrow(InvalidSearchQueryException.class);
+        when(jobPostService.search(searchQuery, null, 20, false)).thenThrow(InvalidSearchQueryException.class);
 
         mockMvc.perform(get("/job?search=" + searchQuery)) // request param
                 .andExpect(status().isBadRequest()) // 상태 코드 반환
                 .andExpect(jsonPath("$.title").value("InvalidSearchQueryException"));
     }
 
+    @Test
+    @DisplayName("채용 공고 목록: 관련도순 검색 시 점수 포함, 다음 페이지 없음")
+    void getList_WhenSortByRelevance_ShouldReturnScoredHits() throws Exception {
+        String searchQuery = "백엔드";
+
+        when(jobPostService.searchByRelevance(searchQuery, 5, false))
+                .thenReturn(new JobPostSearchPage(
+                        new CursorPage<>(List.of(new JobPostSearchHit(jobPostResponse, 3.5)), null), null));
+
+        mockMvc.perform(get("/job?search=" + searchQuery + "&sort=relevance&limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()))
+                .andExpect(jsonPath("$.content[0].score").value(3.5))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: fuzzy=true면 오타 허용 검색")
+    void getList_WhenFuzzy_ShouldSearchWithTypoTolerance() throws Exception {
+        when(jobPostService.search("sprng", null, 20, true))
+                .thenReturn(new JobPostSearchPage(new CursorPage<>(List.of(jobPostResponse), null), null));
+
+        mockMvc.perform(get("/job?search=sprng&fuzzy=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()));
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 지원하지 않는 정렬 기준인 경우, InvalidSearchQueryException")
+    void getList_WhenUnknownSort_ShouldThrowInvalidSearchQueryException() throws Exception {
+        mockMvc.perform(get("/job?search=백엔드&sort=popular"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("InvalidSearchQueryException"));
+    }
+
+    @Test
+    @DisplayName("검색어 자동완성: 입력 중인 접두사로 후보 목록 반환")
+    void suggest_ShouldReturnSuggestions() throws Exception {
+        when(jobPostService.suggest("백ㅇ", 5))
+                .thenReturn(List.of(new Suggestion("백엔드", SuggestionType.KEYWORD, 3)));
+
+        mockMvc.perform(get("/job/suggest").param("prefix", "백ㅇ").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("백엔드"))
+                .andExpect(jsonPath("$[0].type").value("KEYWORD"))
+                .andExpect(jsonPath("$[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("검색 결과 캐시 통계: 적중/미적중 건수와 적중률 반환")
+    void searchCacheStats_ShouldReturnStats() throws Exception {
+        when(jobPostService.searchCacheStats()).thenReturn(new SearchCacheStats(3, 1, 0, 0, 1, 1, 5));
+
+        mockMvc.perform(get("/job/search/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRate").value(0.75));
+    }
+
+    @Test
+    @DisplayName("채용 공고 내보내기: 한 줄에 공고 하나씩 NDJSON으로 반환")
+    void export_ShouldWriteOneJsonLinePerJobPost() throws Exception {
+        JobPostResponse other = JobPostResponse.builder().jobPostId(3L).position("경력 백엔드 개발자").build();
+
+        // 서비스가 공고를 한 건씩 전달
+        doAnswer(invocation -> {
+            Consumer<JobPostResponse> consumer = invocation.getArgument(0);
+            consumer.accept(jobPostResponse);
+            consumer.accept(other);
+            return null;
+        }).when(jobPostService).exportAll(any());
+
+        String body = mockMvc.perform(get("/job/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(jobPostResponse.getJobPostId(), objectMapper.readValue(lines[0], JobPostResponse.class).getJobPostId());
+        assertEquals(other.getJobPostId(), objectMapper.readValue(lines[1], JobPostResponse.class).getJobPostId());
+    }
+
     @Test
     @DisplayName("채용 공고 상세: JobPostId가 유효한 경우, 상세 정보를 반환")
     void getDetail_WhenAllValid_ShouldReturnJobPostDetail() throws Exception {
-        when(jobPostService.getDetail(anyLong())).thenReturn(jobPostDetail);
+        when(jobPostService.getDetail(1L, null, 20, false)).thenReturn(jobPostDetail);
 
         mockMvc.perform(get("/job/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.jobPostId").value(jobPostDetail.getJobPostId()));
     }
 
+    @Test
+    @DisplayName("채용 공고 상세: 회사의 다른 채용 공고 id는 상세 조회한 공고를 제외한 최신순 숫자 배열과 다음 페이지 커서로 응답")
+    void getDetail_ShouldWriteOtherJobPostIdsAsNumberArray() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        JobPostDetail detail = new JobPostDetail(jobPostResponse, OtherJobPostIds.page(
+                CompanyJobPosts.of(new long[]{1L, 2L, 7L, 9L}, new LocalDateTime[]{now, now, now, now}), 2L, null, 2));
+        when(jobPostService.getDetail(2L, null, 2, false)).thenReturn(detail);
+
+        mockMvc.perform(get("/job/2?othersLimit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.otherJotPostByCompany.length()").value(2))
+                .andExpect(jsonPath("$.otherJotPostByCompany[0]").value(9))
+                .andExpect(jsonPath("$.otherJotPostByCompany[1]").value(7))
+                .andExpect(jsonPath("$.otherJobPostNextCursor").value(new Cursor(now, 7L).encode()));
+    }
+
+    @Test
+    @DisplayName("채용 공고 상세: 다른 채용 공고 커서가 올바르지 않은 경우, InvalidCursorException(400)")
+    void getDetail_WhenInvalidOthersCursor_ShouldThrowInvalidCursorException() throws Exception {
+        when(jobPostService.getDetail(1L, "7", 20, false)).thenThrow(new InvalidCursorException());
+
+        mockMvc.perform(get("/job/1?othersCursor=7"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("InvalidCursorException"));
+    }
+
+    @Test
+    @DisplayName("채용 공고 상세: expand=others면 다른 채용 공고 요약 포함, 아니면 필드 생략")
+    void getDetail_WhenExpandOthers_ShouldReturnOtherJobPostSummaries() throws Exception {
+        JobPostDetail expanded = new JobPostDetail(jobPostResponse, List.of(7L));
+        expanded.expandOtherJobPosts(List.of(new JobPostSummary(7L, "프론트엔드 개발자", 300000)));
+        when(jobPostService.getDetail(2L, null, 20, true)).thenReturn(expanded);
+        when(jobPostService.getDetail(2L, null, 20, false)).thenReturn(new JobPostDetail(jobPostResponse, List.of(7L)));
+
+        mockMvc.perform(get("/job/2?expand=others"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.otherJobPosts[0].jobPostId").value(7))
+                .andExpect(jsonPath("$.otherJobPosts[0].position").value("프론트엔드 개발자"))
+                .andExpect(jsonPath("$.otherJobPosts[0].reward").value(300000));
+
+        mockMvc.perform(get("/job/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.otherJobPosts").doesNotExist());
+    }
+
     @Test
     @DisplayName("채용 공고 상세: 해당 JobPost가 없는 경우, JobPostNotFoundException(404)")
     void getDetail_WhenJobPostNotFound_ThrowJobPostNotFoundExceptionWith404() throws Exception {
-        when(jobPostService.getDetail(anyLong())).thenThrow(new JobPostNotFoundException());
+        when(jobPostService.getDetail(anyLong(), any(), anyInt(), anyBoolean())).thenThrow(new JobPostNotFoundException());
 
         mockMvc.perform(get("/job/325237"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.title").value("JobPostNotFoundException"));
     }
 
+    @Test
+    @DisplayName("회사의 채용 공고 목록: 커서와 페이지 크기를 전달하는 경우, 해당 페이지 반환")
+    void getByCompany_ShouldReturnCursorPage() throws Exception {
+        when(jobPostService.getByCompany(1L, "cursor", 5)).thenReturn(new CursorPage<>(List.of(jobPostResponse), "next"));
+
+        mockMvc.perform(get("/company/1/jobs?cursor=cursor&limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].jobPostId").value(jobPostResponse.getJobPostId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("회사의 채용 공고 목록: 회사가 없는 경우, CompanyNotFoundException(404)")
+    void getByCompany_WhenCompanyNotFound_ThrowCompanyNotFoundExceptionWith404() throws Exception {
+        when(jobPostService.getByCompany(anyLong(), any(), anyInt())).thenThrow(new CompanyNotFoundException());
+
+        mockMvc.perform(get("/company/325237/jobs"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("공고 정보 삭제")
     void delete_WhenValid_ShouldReturnNoContent() throws Exception {
@@ -2,10 +2,20 @@ package com.wanted.recruit.jobpost.repository;
 
 import com.wanted.recruit.common.config.JpaConfig;
 import com.wanted.recruit.common.config.QueryDslConfig;
+import com.wanted.recruit.common.dto.Cursor;
 import com.wanted.recruit.jobpost.entity.JobPost;
+import com.wanted.recruit.jobpost.entity.JobPostTechTag;
+import com.wanted.recruit.jobpost.entity.TechTag;
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.SearchField;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
 import com.wanted.recruit.company.entity.Company;
+import com.wanted.recruit.jobpost.dto.JobPostDetail;
 import com.wanted.recruit.jobpost.dto.JobPostResponse;
+import com.wanted.recruit.jobpost.dto.JobPostSummary;
 import jakarta.validation.ConstraintViolationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +29,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,7 +39,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // 실행된 SQL 수 검증용
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Import({QueryDslConfig.class, JpaConfig.class})
 @DisplayName("JobPostRepository 테스트")
@@ -81,7 +93,7 @@ class JobPostRepositoryTest {
         // 불충분한 필드의 Builder를 영속화된 Company 엔티티와 함께 Build
         JobPost invalidJobPost = invalidJobPostBuilder.company(company).build();
 
-        assertThatThrownBy(() -> jobPostRepository.save(invalidJobPost))
+        assertThatThrownBy(() -> jobPostRepository.saveAndFlush(invalidJobPost))
                 .isInstanceOf(ConstraintViolationException.class);
     }
 
@@ -96,7 +108,7 @@ class JobPostRepositoryTest {
                 .company(null) // 회사 정보 없음
                 .build();
 
-        assertThatThrownBy(() -> jobPostRepository.save(invalidJobPost))
+        assertThatThrownBy(() -> jobPostRepository.saveAndFlush(invalidJobPost))
                 .isInstanceOf(ConstraintViolationException.class);
     }
 
@@ -195,51 +207,311 @@ class JobPostRepositoryTest {
     @MethodSource("provideSearchQueryAndResultSize")
     @DisplayName("JobPost 검색")
     void search(String searchQuery, int size) {
-        List<JobPostResponse> searchResults = jobPostRepository.search(TEST_PREFIX + searchQuery);
+        List<JobPostResponse> searchResults = jobPostRepository.search(SearchQuery.parse(TEST_PREFIX + searchQuery), null, 100);
         assertThat(searchResults).hasSize(size);
     }
 
+    static Stream<Arguments> provideStructuredQueryAndResultSize() {
+        return Stream.of(
+                // 필드 지정
+                Arguments.of("region:{P}판교 techStack:{P}Angular", 1),
+                // NOT
+                Arguments.of("company:{P}원티드 NOT techStack:{P}React", 1),
+                // OR, 괄호
+                Arguments.of("({P}Java OR {P}TypeScript) position:{P}백엔드", 3),
+                // 보상금 비교
+                Arguments.of("{P}원티드 reward>=3000000", 3),
+                Arguments.of("{P}원티드 reward>3000000", 0),
+                // 따옴표 구문
+                Arguments.of("\"{P}채용 {P}공고\"", 2)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStructuredQueryAndResultSize")
+    @DisplayName("JobPost 검색: 필드 지정, AND/OR/NOT, 보상금 비교 검색어를 SQL 조건으로 변환")
+    void search_WithStructuredQuery(String searchQuery, int size) {
+        SearchQuery query = SearchQuery.parse(searchQuery.replace("{P}", TEST_PREFIX));
+        assertThat(jobPostRepository.search(query, null, 100)).hasSize(size);
+    }
+
     @Test
-    @DisplayName("회사가 올린 다른 채용공고")
-    void testGetOtherJobPost() {
-        JobPost wantedJobPost2 = JobPost.builder()
-                .position("신입 프론트엔드 개발자")
-                .techStack("React")
-                .content("공고 상세 내용")
-                .company(company)
-                .build();
+    @DisplayName("JobPost 검색: 커서 이후 페이지만 조회")
+    void search_WhenHasCursor_ShouldReturnRowsAfterCursor() {
+        // 원티드 공고 3건을 2건씩 나누어 조회
+        List<JobPostResponse> firstPage = jobPostRepository.search(SearchQuery.parse(TEST_PREFIX + "원티드"), null, 2);
+        JobPostResponse last = firstPage.get(firstPage.size() - 1);
+
+        List<JobPostResponse> secondPage = jobPostRepository.search(SearchQuery.parse(TEST_PREFIX + "원티드"),
+                new Cursor(last.getCreateDate(), last.getJobPostId()), 2);
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).extracting(JobPostResponse::getJobPostId)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(JobPostResponse::getJobPostId).toList());
+    }
 
-        JobPost wantedJobPost3 = JobPost.builder()
-                .position("경력 백엔드 개발자")
-                .techStack("Spring")
-                .content("공고 상세 내용")
-                .company(company)
-                .build();
+    @Test
+    @DisplayName("JobPost 목록 페이지: (생성일, id) 내림차순으로 중복 없이 순회")
+    void findPage_WhenFollowingCursor_ShouldTraverseWithoutDuplicates() {
+        List<JobPostResponse> firstPage = jobPostRepository.findPage(null, 3);
+        JobPostResponse last = firstPage.get(firstPage.size() - 1);
 
-        // 포함되면 안되는 데이터(==네이버 채용공고) 모킹
-        Company naver = entityManager.persist(new Company("네이버", "한국", "판교"));
-        JobPost naverJobPost = JobPost.builder()
-                .position("신입 프론트엔드 개발자")
-                .techStack("React")
-                .content("공고 상세 내용")
-                .company(naver)
-                .build();
+        List<JobPostResponse> secondPage = jobPostRepository.findPage(new Cursor(last.getCreateDate(), last.getJobPostId()), 3);
+
+        assertThat(firstPage).hasSize(3);
+
+        // 다음 페이지의 모든 행은 커서보다 앞서지 않아야 함
+        assertThat(secondPage).allSatisfy(row -> {
+            boolean olderThanCursor = row.getCreateDate().isBefore(last.getCreateDate())
+                    || (row.getCreateDate().isEqual(last.getCreateDate()) && row.getJobPostId() < last.getJobPostId());
+            assertThat(olderThanCursor).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("JobPost 목록 페이지: 회사 정보까지 단일 쿼리로 조회(N+1 방지)")
+    void findPage_ShouldLoadCompanyWithinSingleStatement() {
+        // 영속성 컨텍스트를 비워 회사 엔티티가 캐시되지 않은 상태에서 조회
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<JobPostResponse> page = jobPostRepository.findPage(null, 100);
+        page.forEach(response -> assertThat(response.getCompany().getName()).isNotNull());
+
+        // 여러 회사의 공고가 있어도 목록 조회는 SELECT 한 번
+        assertThat(page).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JobPost 검색: 회사 정보까지 단일 쿼리로 조회(N+1 방지)")
+    void search_ShouldLoadCompanyWithinSingleStatement() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<JobPostResponse> searchResults = jobPostRepository.search(SearchQuery.parse(TEST_PREFIX + "한국"), null, 100);
+        searchResults.forEach(response -> assertThat(response.getCompany().getName()).isNotNull());
+
+        assertThat(searchResults).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JobPost 검색: 태그 조건을 태그 연결 테이블 EXISTS 조건으로 변환")
+    void search_WithTag_ShouldMatchTagLinks() {
+        JobPost saved = jobPostRepository.save(wantedJobPost);
+        TechTag java = entityManager.persist(new TechTag(TEST_PREFIX + "java"));
+        entityManager.persist(new TechTag(TEST_PREFIX + "php"));
+        entityManager.persist(new JobPostTechTag(saved, java));
+
+        assertThat(jobPostRepository.search(SearchQuery.parse("tag:" + TEST_PREFIX + "java"), null, 100))
+                .extracting(JobPostResponse::getJobPostId)
+                .containsExactly(saved.getId());
+        assertThat(jobPostRepository.search(
+                SearchQuery.parse("tag:" + TEST_PREFIX + "java NOT tag:" + TEST_PREFIX + "php"), null, 100))
+                .hasSize(1);
+        assertThat(jobPostRepository.search(SearchQuery.parse("tag:" + TEST_PREFIX + "php"), null, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 문서 조회: id 또는 회사로 조회, 없는 id면 empty")
+    void findDocument_ShouldReturnSearchDocument() {
+        JobPost saved = jobPostRepository.save(wantedJobPost);
+        entityManager.flush();
+        entityManager.clear();
+
+        JobPostDocument document = jobPostRepository.findDocument(saved.getId()).orElseThrow();
+
+        assertThat(document.getCompanyId()).isEqualTo(company.getId());
+        assertThat(document.text(SearchField.COMPANY_NAME)).isEqualTo("원티드");
+        assertThat(document.text(SearchField.TECH_STACK)).isEqualTo("java/spring");
+        assertThat(jobPostRepository.findDocument(-1L)).isEmpty();
+
+        assertThat(jobPostRepository.findDocumentsByCompanyId(company.getId()))
+                .extracting(JobPostDocument::getId)
+                .containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 수정된 채용 공고만 검색 문서로 조회")
+    void streamDocumentsUpdatedSince_ShouldReturnRecentlyUpdatedDocuments() {
+        JobPost saved = jobPostRepository.save(wantedJobPost);
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<JobPostDocument> documents = jobPostRepository.streamDocumentsUpdatedSince(LocalDateTime.now().minusMinutes(1))) {
+            assertThat(documents).extracting(JobPostDocument::getId).contains(saved.getId());
+        }
+
+        try (Stream<JobPostDocument> documents = jobPostRepository.streamDocumentsUpdatedSince(LocalDateTime.now().plusMinutes(1))) {
+            assertThat(documents).extracting(JobPostDocument::getId).doesNotContain(saved.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("모든 채용 공고 id를 오름차순으로 조회")
+    void streamIds_ShouldReturnAllIdsInAscendingOrder() {
+        JobPost saved = jobPostRepository.save(wantedJobPost);
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<Long> ids = jobPostRepository.streamIds()) {
+            assertThat(ids.toList()).contains(saved.getId()).isSorted();
+        }
+    }
 
-        entityManager.persist(wantedJobPost); // 원티드 -> 현재 조회한 공고
-        entityManager.persist(wantedJobPost2); // 원티드 -> 회사가올린다른채용공고에 포함되어야 함
-        entityManager.persist(wantedJobPost3); // 원티드 -> 회사가올린다른채용공고에 포함되어야 함
-        entityManager.persist(naverJobPost); // 네이버 -> 포함X
+    @Test
+    @DisplayName("JobPost 상세: 회사 정보와 같은 회사의 다른 채용 공고 id까지 단일 쿼리로 조회")
+    void findDetail_ShouldLoadCompanyAndOtherJobPostsWithinSingleStatement() {
+        entityManager.persist(wantedJobPost);
+        JobPost wantedJobPost2 = JobPost.builder().position("시니어 백엔드 개발자").reward(1000000)
+                .techStack("Java/Spring").content("공고 상세 내용").company(company).build();
+        entityManager.persist(wantedJobPost2);
+
+        Company naver = Company.builder().name("네이버").nation("한국").region("판교").build();
+        entityManager.persist(naver);
+        JobPost naverJobPost = JobPost.builder().position("프론트엔드 개발자").reward(300000)
+                .techStack("React").content("공고 상세 내용").company(naver).build();
+        entityManager.persist(naverJobPost);
+
+        entityManager.flush();
+        entityManager.clear();
 
-        List<Long> otherJobPostIds = jobPostRepository.getOtherJobPost(company.getId(), wantedJobPost.getId());
+        Statistics statistics = statistics();
+        statistics.clear();
 
-        assertThat(otherJobPostIds).hasSize(2);
+        JobPostDetail detail = jobPostRepository.findDetail(wantedJobPost.getId(), null, 20).orElseThrow();
 
-        // 포함 되어야 할 데이터들
-        assertThat(otherJobPostIds).contains(wantedJobPost2.getId());
-        assertThat(otherJobPostIds).contains(wantedJobPost3.getId());
+        assertThat(detail.getJobPostId()).isEqualTo(wantedJobPost.getId());
+        assertThat(detail.getCompany().getName()).isEqualTo("원티드");
+        assertThat(detail.getOtherJotPostByCompany().toArray()).containsExactly(wantedJobPost2.getId());
+
+        // 공고 + 회사 + 다른 공고 id를 SELECT 한 번으로 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JobPost 상세: 같은 회사의 다른 채용 공고가 없으면 빈 목록")
+    void findDetail_WhenNoOtherJobPost_ShouldReturnEmptyList() {
+        Company company = Company.builder().name(TEST_PREFIX + "단독").nation("한국").region("서울").build();
+        entityManager.persist(company);
+        JobPost jobPost = JobPost.builder().position("백엔드 개발자").reward(500000)
+                .techStack("Java").content("공고 상세 내용").company(company).build();
+        entityManager.persist(jobPost);
+
+        JobPostDetail detail = jobPostRepository.findDetail(jobPost.getId(), null, 20).orElseThrow();
+
+        assertThat(detail.getOtherJotPostByCompany().isEmpty()).isTrue();
+        assertThat(jobPostRepository.findDetail(-1L, null, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JobPost 상세: 다른 채용 공고 id는 최신순 limit개씩, 커서 다음부터 조회")
+    void findDetail_WhenManyOtherJobPosts_ShouldReturnBoundedPage() {
+        entityManager.persist(wantedJobPost);
+        List<Long> otherIds = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            JobPost other = JobPost.builder().position("백엔드 개발자 " + i).reward(500000)
+                    .techStack("Java").content("공고 상세 내용").company(company).build();
+            entityManager.persist(other);
+            otherIds.add(0, other.getId()); // 최신순
+        }
+
+        JobPostDetail first = jobPostRepository.findDetail(wantedJobPost.getId(), null, 2).orElseThrow();
+        assertThat(first.getOtherJotPostByCompany().toArray()).containsExactly(otherIds.get(0), otherIds.get(1));
+        assertThat(Cursor.decode(first.getOtherJobPostNextCursor()).getId()).isEqualTo(otherIds.get(1));
+
+        JobPostDetail second = jobPostRepository.findDetail(wantedJobPost.getId(),
+                Cursor.decode(first.getOtherJobPostNextCursor()), 2).orElseThrow();
+        assertThat(second.getOtherJotPostByCompany().toArray()).containsExactly(otherIds.get(2), otherIds.get(3));
+
+        JobPostDetail last = jobPostRepository.findDetail(wantedJobPost.getId(),
+                Cursor.decode(second.getOtherJobPostNextCursor()), 2).orElseThrow();
+        assertThat(last.getOtherJotPostByCompany().toArray()).containsExactly(otherIds.get(4));
+        assertThat(last.getOtherJobPostNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("JobPost 상세: 다른 채용 공고는 id가 아닌 생성일 최신순 (시퀀스 id는 생성 순서와 다를 수 있음)")
+    void findDetail_WhenIdOrderDiffersFromCreation_ShouldOrderByCreatedDate() {
+        entityManager.persist(wantedJobPost);
+        JobPost lowerId = JobPost.builder().position("백엔드 개발자").reward(500000)
+                .techStack("Java").content("공고 상세 내용").company(company).build();
+        JobPost higherId = JobPost.builder().position("프론트엔드 개발자").reward(500000)
+                .techStack("React").content("공고 상세 내용").company(company).build();
+        entityManager.persist(lowerId);
+        entityManager.persist(higherId);
+        entityManager.flush();
+
+        // 다른 인스턴스가 먼저 받은 id 블록으로 나중에 저장된 경우: id는 작지만 더 최신
+        entityManager.getEntityManager().createNativeQuery("UPDATE job_post SET created_date = ? WHERE job_post_id = ?")
+                .setParameter(1, LocalDateTime.now().plusDays(1))
+                .setParameter(2, lowerId.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        JobPostDetail detail = jobPostRepository.findDetail(wantedJobPost.getId(), null, 20).orElseThrow();
+
+        assertThat(detail.getOtherJotPostByCompany().toArray()).containsExactly(lowerId.getId(), higherId.getId());
+    }
+
+    @Test
+    @DisplayName("JobPost 요약: id 목록의 요약을 단일 쿼리로 조회")
+    void findSummariesByIds_ShouldLoadWithinSingleStatement() {
+        entityManager.persist(wantedJobPost);
+        JobPost wantedJobPost2 = JobPost.builder().position("시니어 백엔드 개발자").reward(1000000)
+                .techStack("Java/Spring").content("공고 상세 내용").company(company).build();
+        entityManager.persist(wantedJobPost2);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<JobPostSummary> summaries = jobPostRepository.findSummariesByIds(
+                List.of(wantedJobPost.getId(), wantedJobPost2.getId(), -1L));
+
+        assertThat(summaries).extracting(JobPostSummary::getJobPostId)
+                .containsExactlyInAnyOrder(wantedJobPost.getId(), wantedJobPost2.getId());
+        assertThat(summaries).extracting(JobPostSummary::getPosition)
+                .containsExactlyInAnyOrder("신입 백엔드 개발자", "시니어 백엔드 개발자");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회사의 JobPost 목록 페이지: 해당 회사 공고만 (생성일, id) 내림차순, 커서 이후 조회")
+    void findPageByCompanyId_ShouldReturnCompanyJobPostsAfterCursor() {
+        entityManager.persist(wantedJobPost);
+        JobPost wantedJobPost2 = JobPost.builder().position("시니어 백엔드 개발자").reward(1000000)
+                .techStack("Java/Spring").content("공고 상세 내용").company(company).build();
+        entityManager.persist(wantedJobPost2);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<JobPostResponse> firstPage = jobPostRepository.findPageByCompanyId(company.getId(), null, 1);
+        JobPostResponse last = firstPage.get(0);
+        List<JobPostResponse> secondPage = jobPostRepository.findPageByCompanyId(company.getId(),
+                new Cursor(last.getCreateDate(), last.getJobPostId()), 10);
+
+        assertThat(firstPage).hasSize(1);
+        assertThat(secondPage).hasSize(1);
+        assertThat(List.of(last.getJobPostId(), secondPage.get(0).getJobPostId()))
+                .containsExactlyInAnyOrder(wantedJobPost.getId(), wantedJobPost2.getId());
+        assertThat(secondPage).allSatisfy(row -> assertThat(row.getCompany().getCompanyId()).isEqualTo(company.getId()));
+    }
 
-        // 포함되지 말아야할 데이터
-        assertThat(otherJobPostIds).doesNotContain(naverJobPost.getId());
-        assertThat(otherJobPostIds).doesNotContain(wantedJobPost.getId());
+    private Statistics statistics() {
+        return entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
     }
 }
@@ -0,0 +1,26 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HangulJamo 테스트")
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("분해: 음절을 초성/중성/종성 자모로, 한글이 아닌 문자는 그대로")
+    void decompose_ShouldSplitSyllables() {
+        assertEquals("ㅂㅐㄱㅇㅔㄴㄷㅡ", HangulJamo.decompose("백엔드"));
+        assertEquals("javaㄱㅐㅂㅏㄹ", HangulJamo.decompose("java개발"));
+    }
+
+    @Test
+    @DisplayName("분해: 입력 중인 글자가 완성된 단어의 접두사가 되도록 겹받침/이중 모음도 분해")
+    void decompose_ShouldMatchTypingOrder() {
+        assertTrue(HangulJamo.decompose("백엔드").startsWith(HangulJamo.decompose("백ㅇ")));
+        assertTrue(HangulJamo.decompose("닭갈비").startsWith(HangulJamo.decompose("달ㄱ")));
+        assertTrue(HangulJamo.decompose("과제").startsWith(HangulJamo.decompose("고")));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+    }
+}
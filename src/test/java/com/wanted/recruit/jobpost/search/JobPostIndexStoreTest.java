@@ -0,0 +1,185 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobPostIndexStore 테스트")
+class JobPostIndexStoreTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+    private Path directory;
+    private JobPostSearchIndex searchIndex;
+    private JobPostIndexStore indexStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("job-post-index");
+
+        // 첫 기동: 저장된 색인이 없으므로 전체 색인 후 체크포인트
+        searchIndex = new JobPostSearchIndex();
+        indexStore = new JobPostIndexStore(searchIndex, directory.toString());
+        assertTrue(indexStore.restore().isEmpty());
+
+        searchIndex.load(document(1L, "백엔드 개발자", "Java, Spring", "원티드랩"));
+        searchIndex.load(document(2L, "프론트엔드 개발자", "React", "네이버"));
+        searchIndex.load(document(3L, "Android 개발자", "Kotlin", "카카오"));
+        searchIndex.markReady();
+        indexStore.checkpoint();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        indexStore.shutdown();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 세그먼트와 로그로 복원: 체크포인트 이후 변경까지 같은 검색 결과")
+    void restore_ShouldRebuildSameIndexFromSegmentAndLog() throws IOException {
+        update(document(4L, "데이터 엔지니어", "Python, Java", "토스"));
+        update(document(1L, "시니어 백엔드 개발자", "Kotlin, Spring", "원티드랩"));
+        searchIndex.remove(2L);
+        indexStore.logRemoved(2L);
+
+        JobPostSearchIndex restored = restart();
+
+        assertEquals(ids(searchIndex, "개발자"), ids(restored, "개발자"));
+        assertEquals(List.of(4L), ids(restored, "tag:java"));
+        assertEquals(List.of(3L, 1L), ids(restored, "tag:kotlin"));
+        assertEquals(List.of(), ids(restored, "네이버"));
+        assertEquals(searchIndex.size(), restored.size());
+        assertEquals(searchIndex.rank(SearchQuery.parse("개발자"), 10).size(), restored.rank(SearchQuery.parse("개발자"), 10).size());
+    }
+
+    @Test
+    @DisplayName("로그 끝이 잘려 있으면 온전한 레코드까지만 재실행")
+    void restore_WhenLogTruncated_ShouldReplayCompleteRecords() throws IOException {
+        update(document(4L, "데이터 엔지니어", "Python", "토스"));
+
+        try (Stream<Path> logs = Files.list(directory)) {
+            Path log = logs.filter(path -> path.toString().endsWith(".wal")).findFirst().orElseThrow();
+            Files.write(log, new byte[]{0, 0, 0, 0, 0, 0, 0, 9, 1, 0}, StandardOpenOption.APPEND); // 기록 도중 종료
+        }
+
+        JobPostSearchIndex restored = restart();
+
+        assertEquals(List.of(4L), ids(restored, "엔지니어"));
+        assertEquals(4, restored.size());
+    }
+
+    @Test
+    @DisplayName("세그먼트가 손상되었으면 복원하지 않고 빈 색인으로 시작")
+    void restore_WhenSegmentCorrupted_ShouldStartEmpty() throws IOException {
+        Path segment = directory.resolve("segment.jpix");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(segment, bytes);
+
+        indexStore.shutdown();
+        JobPostSearchIndex restarted = new JobPostSearchIndex();
+        indexStore = new JobPostIndexStore(restarted, directory.toString());
+
+        assertEquals(Optional.empty(), indexStore.restore());
+        assertEquals(0, restarted.size());
+    }
+
+    @Test
+    @DisplayName("복원 전에 이벤트로 반영된 변경은 세그먼트의 이전 상태로 덮어쓰지 않고 합침")
+    void restore_WhenChangedBeforeRestore_ShouldMergeEarlyChanges() {
+        indexStore.shutdown();
+        JobPostSearchIndex restarted = new JobPostSearchIndex();
+        indexStore = new JobPostIndexStore(restarted, directory.toString());
+
+        // 복원 전에 도착한 커밋 후 이벤트
+        restarted.index(document(1L, "데이터 분석가", "SQL", "원티드랩"));
+        restarted.index(document(5L, "백엔드 개발자", "Go", "토스"));
+        restarted.remove(3L);
+
+        assertTrue(indexStore.restore().isPresent());
+        restarted.markReady();
+
+        assertEquals(List.of(1L), ids(restarted, "분석가"));
+        assertEquals(List.of(5L), ids(restarted, "백엔드"));
+        assertEquals(List.of(5L, 2L), ids(restarted, "개발자"));
+        assertEquals(List.of(), ids(restarted, "카카오"));
+        assertEquals(3, restarted.size());
+    }
+
+    @Test
+    @DisplayName("로그에 남지 않은 삭제는 DB id 목록과 비교해 제거")
+    void removeMissing_ShouldRemoveDocumentsDeletedAfterCheckpoint() {
+        indexStore.shutdown();
+        JobPostSearchIndex restarted = new JobPostSearchIndex();
+        indexStore = new JobPostIndexStore(restarted, directory.toString());
+        assertTrue(indexStore.restore().isPresent());
+
+        assertEquals(1, restarted.removeMissing(new long[]{1L, 3L}));
+        restarted.markReady();
+
+        assertEquals(List.of(3L, 1L), ids(restarted, "개발자"));
+        assertEquals(List.of(), ids(restarted, "네이버"));
+    }
+
+    @Test
+    @DisplayName("DB 따라잡기 기준 시각은 체크포인트 시각보다 이전")
+    void restore_ShouldReturnCatchUpTimeBeforeCheckpoint() throws IOException {
+        LocalDateTime beforeRestart = LocalDateTime.now();
+        indexStore.shutdown();
+        indexStore = new JobPostIndexStore(new JobPostSearchIndex(), directory.toString());
+
+        assertTrue(indexStore.restore().orElseThrow().isBefore(beforeRestart));
+    }
+
+    /**
+     * 변경 이벤트 처리와 같이 색인 반영 후 로그 기록
+     */
+    private void update(JobPostDocument document) {
+        searchIndex.index(document);
+        indexStore.logIndexed(document);
+    }
+
+    /**
+     * 현재 저장소를 닫고 같은 디렉토리로 새 색인을 복원
+     */
+    private JobPostSearchIndex restart() {
+        indexStore.shutdown();
+
+        JobPostSearchIndex restored = new JobPostSearchIndex();
+        indexStore = new JobPostIndexStore(restored, directory.toString());
+        assertTrue(indexStore.restore().isPresent());
+        restored.markReady();
+        return restored;
+    }
+
+    private static List<Long> ids(JobPostSearchIndex index, String query) {
+        return index.search(SearchQuery.parse(query), Integer.MAX_VALUE).stream()
+                .map(JobPostDocument::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static JobPostDocument document(long id, String position, String techStack, String companyName) {
+        return new JobPostDocument(id, 1L, NOW.plusMinutes(id), 500000,
+                position, techStack, "", companyName, "한국", "서울");
+    }
+}
@@ -0,0 +1,367 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobPostSearchIndex 테스트")
+class JobPostSearchIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+    private JobPostSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new JobPostSearchIndex();
+
+        searchIndex.index(document(1L, 0, "백엔드 주니어 개발자", "Python", "원티드랩에서 백엔드와 함께", "원티드랩", "서울"));
+        searchIndex.index(document(2L, 1, "프론트엔드 개발자", "JavaScript, Vue.js", "Vue.js 개발", "네이버", "판교"));
+        searchIndex.index(document(3L, 2, "Django 백엔드 개발자", "Django", "네이버 백엔드", "네이버", "판교"));
+    }
+
+    @Test
+    @DisplayName("검색: 검색어가 포함된 공고를 최신순으로 반환")
+    void search_ShouldReturnMatchedDocumentsNewestFirst() {
+        assertEquals(List.of(3L, 1L), ids(search("백엔드")));
+    }
+
+    @Test
+    @DisplayName("검색: 대소문자 구분 없이 문장부호가 포함된 검색어도 부분 일치")
+    void search_ShouldMatchCaseInsensitiveWithPunctuation() {
+        assertEquals(List.of(2L), ids(search("VUE.JS")));
+    }
+
+    @Test
+    @DisplayName("검색: 띄어쓰기 없이 조사가 붙은 단어도 부분 일치")
+    void search_ShouldMatchSubstringInsideWord() {
+        assertEquals(List.of(1L), ids(search("백엔드와")));
+    }
+
+    @Test
+    @DisplayName("검색: 공백으로 구분된 모든 항목이 포함된 공고만 반환")
+    void search_WhenMultipleTerms_ShouldMatchAllTerms() {
+        assertEquals(List.of(3L), ids(search("판교 백엔드")));
+    }
+
+    @Test
+    @DisplayName("검색: 일치하는 공고가 없으면 빈 목록")
+    void search_WhenNoMatch_ShouldReturnEmpty() {
+        assertTrue(search("자바").isEmpty());
+    }
+
+    @Test
+    @DisplayName("색인: 같은 id로 다시 색인하면 이전 내용은 검색되지 않음")
+    void index_WhenSameId_ShouldReplaceDocument() {
+        searchIndex.index(document(3L, 2, "Spring 개발자", "Java", "네이버", "네이버", "판교"));
+
+        assertEquals(List.of(1L), ids(search("백엔드")));
+        assertEquals(List.of(3L), ids(search("spring")));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("제거: 제거된 공고는 검색되지 않음")
+    void remove_ShouldExcludeDocument() {
+        searchIndex.remove(1L);
+
+        assertEquals(List.of(3L), ids(search("백엔드")));
+        assertEquals(2, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("색인: 이미 색인된 문서보다 먼저 수정된 문서는 반영하지 않음 (늦게 도착한 이벤트)")
+    void index_WhenOlderThanIndexed_ShouldKeepNewerDocument() {
+        assertTrue(searchIndex.index(versionedDocument(5L, "Spring 개발자", NOW.plusMinutes(2))));
+        assertFalse(searchIndex.index(versionedDocument(5L, "Django 개발자", NOW.plusMinutes(1))));
+
+        assertEquals(List.of(5L), ids(search("spring")));
+        assertTrue(search("django 개발자").stream().noneMatch(document -> document.getId() == 5L));
+    }
+
+    @Test
+    @DisplayName("색인: 제거된 공고를 삭제 전에 읽은 문서가 뒤늦게 도착해도 다시 색인하지 않음")
+    void index_WhenRemovedAfterReady_ShouldNotResurrect() {
+        searchIndex.markReady();
+        searchIndex.remove(3L);
+
+        assertFalse(searchIndex.index(document(3L, 2, "Django 백엔드 개발자", "Django", "네이버 백엔드", "네이버", "판교")));
+        assertEquals(List.of(1L), ids(search("백엔드")));
+        assertArrayEquals(new long[]{1L, 2L}, searchIndex.jobPostIdsOfCompany(1L));
+    }
+
+    @Test
+    @DisplayName("기동 시 색인: 이미 색인된 공고는 덮어쓰지 않음")
+    void load_WhenAlreadyIndexed_ShouldKeepExistingDocument() {
+        searchIndex.load(document(1L, 0, "예전 공고", "", "", "원티드랩", "서울"));
+
+        assertEquals(List.of(3L, 1L), ids(search("백엔드")));
+        assertTrue(search("예전").isEmpty());
+    }
+
+    @Test
+    @DisplayName("기동 시 색인: 색인 도중 삭제된 공고는 다시 색인하지 않음")
+    void load_WhenRemovedWhileLoading_ShouldSkipDocument() {
+        searchIndex.remove(4L);
+        searchIndex.load(document(4L, 3, "백엔드 개발자", "", "", "카카오", "판교"));
+
+        assertEquals(List.of(3L, 1L), ids(search("백엔드")));
+    }
+
+    @Test
+    @DisplayName("교체: 바뀌지 않은 필드로도 계속 검색됨")
+    void index_WhenPartiallyChanged_ShouldKeepUnchangedTerms() {
+        searchIndex.index(document(1L, 0, "백엔드 시니어 개발자", "Python", "원티드랩에서 백엔드와 함께", "원티드랩", "서울"));
+
+        assertEquals(List.of(1L), ids(search("python 시니어")));
+        assertTrue(search("주니어").isEmpty());
+    }
+
+    @Test
+    @DisplayName("관련도순: 포지션에 일치하는 공고가 채용 내용에만 일치하는 공고보다 앞")
+    void rank_ShouldPreferBoostedFields() {
+        searchIndex.index(document(4L, 3, "프론트엔드 개발자", "React", "백엔드 팀과 협업", "카카오", "판교"));
+
+        List<ScoredDocument> ranked = searchIndex.rank(SearchQuery.parse("백엔드"), 10);
+
+        assertEquals(3, ranked.size());
+        assertEquals(4L, ranked.get(2).getDocument().getId()); // 채용 내용에만 포함
+        assertTrue(ranked.get(0).getScore() >= ranked.get(1).getScore());
+        assertTrue(ranked.get(1).getScore() > ranked.get(2).getScore());
+    }
+
+    @Test
+    @DisplayName("관련도순: 상위 k개만 반환")
+    void rank_ShouldReturnOnlyTopK() {
+        List<ScoredDocument> ranked = searchIndex.rank(SearchQuery.parse("개발자"), 2);
+
+        assertEquals(2, ranked.size());
+        assertTrue(ranked.get(0).getScore() >= ranked.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("관련도순: 일치하는 공고가 없으면 빈 목록")
+    void rank_WhenNoMatch_ShouldReturnEmpty() {
+        assertTrue(searchIndex.rank(SearchQuery.parse("자바"), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("병렬 검색: 구간으로 나눠 처리해도 호출 스레드에서 처리한 결과와 같음")
+    void search_WhenOverParallelThreshold_ShouldReturnSameResults() {
+        JobPostSearchIndex sequential = new JobPostSearchIndex(Integer.MAX_VALUE);
+        JobPostSearchIndex parallel = new JobPostSearchIndex(1);
+
+        for (long id = 1; id <= 5_000; id++) {
+            JobPostDocument document = document(id, (int) (id % 97), (id % 3 == 0 ? "백엔드 " : "프론트엔드 ") + "개발자",
+                    id % 5 == 0 ? "Java" : "React", "백엔드".repeat((int) (id % 4)), "회사" + id, "판교");
+            sequential.index(document);
+            parallel.index(document);
+        }
+
+        for (String query : List.of("백엔드", "개발자 NOT java", "reward>=0")) {
+            assertEquals(ids(sequential.search(SearchQuery.parse(query), 5_000)), ids(parallel.search(SearchQuery.parse(query), 5_000)));
+            assertEquals(rankedIds(sequential.rank(SearchQuery.parse(query), 20)),
+                    rankedIds(parallel.rank(SearchQuery.parse(query), 20)));
+            assertEquals(ids(sequential.search(SearchQuery.parse(query), 100)),
+                    ids(parallel.search(SearchQuery.parse(query), 100)));
+        }
+    }
+
+    @Test
+    @DisplayName("결과 수 상한: 전체 검색 결과의 최신 limit개와 같음")
+    void search_WithLimit_ShouldReturnNewestMatches() {
+        assertEquals(ids(search("개발자")).subList(0, 2), ids(searchIndex.search(SearchQuery.parse("개발자"), 2)));
+        assertEquals(ids(search("개발자")), ids(searchIndex.search(SearchQuery.parse("개발자"), 100)));
+        assertTrue(searchIndex.search(SearchQuery.parse("개발자"), 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("필드 지정: 해당 필드에 포함된 공고만 반환")
+    void search_WhenFieldScoped_ShouldMatchOnlyThatField() {
+        // 3번 공고는 채용 내용에도 '네이버'가 있지만 회사 필드로만 검색
+        assertEquals(List.of(3L, 2L), ids(search("company:네이버")));
+        assertEquals(List.of(3L), ids(search("content:네이버")));
+        assertEquals(List.of(2L), ids(search("techStack:vue region:판교")));
+    }
+
+    @Test
+    @DisplayName("OR/NOT/괄호: 조건 조합")
+    void search_WithBooleanOperators_ShouldCombineConditions() {
+        assertEquals(List.of(3L, 2L), ids(search("django OR vue.js")));
+        assertEquals(List.of(3L), ids(search("백엔드 NOT python")));
+        assertEquals(List.of(2L), ids(search("NOT 백엔드")));
+        assertEquals(List.of(3L, 1L), ids(search("(python OR django) AND 개발자")));
+    }
+
+    @Test
+    @DisplayName("따옴표 구문: 공백을 포함한 구문 그대로 포함된 공고만 반환")
+    void search_WithPhrase_ShouldMatchExactSequence() {
+        assertEquals(List.of(1L), ids(search("\"백엔드 주니어\"")));
+        assertTrue(search("\"주니어 백엔드\"").isEmpty());
+    }
+
+    @Test
+    @DisplayName("보상금 비교: 후보를 추릴 수 없는 조건만 있어도 전체 문서에서 검색")
+    void search_WithRewardComparison_ShouldFilterAllDocuments() {
+        searchIndex.index(new JobPostDocument(4L, 1L, NOW.plusMinutes(3), 1500000,
+                "백엔드", "", "", "카카오", "한국", "판교"));
+
+        assertEquals(List.of(4L), ids(search("reward>=1000000")));
+        assertEquals(List.of(3L, 1L), ids(search("백엔드 reward<1000000")));
+    }
+
+    @Test
+    @DisplayName("태그: 부분 문자열이 아닌 태그 단위로 일치")
+    void search_WithTag_ShouldMatchWholeTag() {
+        searchIndex.index(document(4L, 3, "풀스택 개발자", "Java, Spring", "", "카카오", "판교"));
+        searchIndex.markReady();
+
+        assertEquals(List.of(4L), ids(search("tag:java")));
+        assertEquals(List.of(2L), ids(search("tag:javascript")));
+        assertEquals(List.of(2L), ids(search("tag:vue"))); // Vue.js -> vue
+    }
+
+    @Test
+    @DisplayName("태그: AND/OR/NOT 조합을 비트맵 연산으로 계산")
+    void search_WithTagBooleanOperators_ShouldCombineBitmaps() {
+        searchIndex.index(document(4L, 3, "풀스택 개발자", "Java/Spring, PHP", "", "카카오", "판교"));
+        searchIndex.index(document(5L, 4, "백엔드 개발자", "Java, Spring", "", "카카오", "판교"));
+        searchIndex.markReady();
+
+        assertEquals(List.of(5L, 4L), ids(search("tag:java tag:spring")));
+        assertEquals(List.of(5L), ids(search("tag:java AND tag:spring NOT tag:php")));
+        assertEquals(List.of(5L, 4L, 3L), ids(search("tag:django OR tag:java")));
+        assertEquals(List.of(5L), ids(search("백엔드 tag:java")));
+    }
+
+    @Test
+    @DisplayName("태그: 색인 완료 후 수정/삭제된 공고의 태그 반영")
+    void index_AfterReady_ShouldUpdateTagBitmaps() {
+        searchIndex.markReady();
+
+        searchIndex.index(document(1L, 0, "백엔드 주니어 개발자", "Java", "원티드랩에서 백엔드와 함께", "원티드랩", "서울"));
+        assertEquals(List.of(1L), ids(search("tag:java")));
+        assertTrue(search("tag:python").isEmpty());
+
+        searchIndex.remove(1L);
+        assertTrue(search("tag:java").isEmpty());
+    }
+
+    @Test
+    @DisplayName("태그: 전체 색인 완료 전에도 문서에서 직접 확인하여 검색")
+    void search_WithTagBeforeReady_ShouldScanDocuments() {
+        assertEquals(List.of(3L), ids(search("tag:django")));
+        assertEquals(List.of(2L), ids(search("NOT tag:django NOT tag:python")));
+    }
+
+    @Test
+    @DisplayName("집계: 검색된 공고의 국가/지역/태그/보상금 구간별 건수")
+    void facets_ShouldCountMatchedDocuments() {
+        searchIndex.index(new JobPostDocument(4L, 1L, NOW.plusMinutes(3), 1500000,
+                "백엔드 개발자", "Java, Spring", "", "카카오", "한국", "판교"));
+
+        SearchFacets facets = searchIndex.facets(search("개발자"));
+
+        assertEquals("판교:3, 서울:1", counts(facets.getRegions()));
+        assertEquals("한국:4", counts(facets.getNations()));
+        assertEquals("django:1, java:1, javascript:1, python:1, spring:1, vue:1", counts(facets.getTags()));
+        assertEquals(3, facets.getRewards().get(RewardBand.FROM_500K_TO_1M.ordinal()).getCount());
+        assertEquals(1, facets.getRewards().get(RewardBand.FROM_1M_TO_2M.ordinal()).getCount());
+        assertEquals(0, facets.getRewards().get(RewardBand.NONE.ordinal()).getCount());
+    }
+
+    @Test
+    @DisplayName("집계: 수정/삭제된 공고는 현재 값으로 집계")
+    void facets_AfterUpdateAndRemove_ShouldReflectCurrentDocuments() {
+        searchIndex.index(document(1L, 0, "백엔드 주니어 개발자", "Python", "", "원티드랩", "부산"));
+        searchIndex.remove(2L);
+
+        SearchFacets facets = searchIndex.facets(search("개발자"));
+
+        assertEquals("부산:1, 판교:1", counts(facets.getRegions()));
+    }
+
+    private static String counts(List<FacetCount> facetCounts) {
+        return facetCounts.stream()
+                .map(facetCount -> facetCount.getValue() + ":" + facetCount.getCount())
+                .collect(Collectors.joining(", "));
+    }
+
+    private List<JobPostDocument> search(String query) {
+        return searchIndex.search(SearchQuery.parse(query), Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("회사별 채용 공고 id: 전체 색인 후 생성, 이후 저장/회사 변경/삭제 반영")
+    void jobPostIdsOfCompany_ShouldFollowIndexChanges() {
+        JobPostSearchIndex index = new JobPostSearchIndex();
+        index.load(companyDocument(5L, 10L));
+        index.load(companyDocument(2L, 10L));
+        index.load(companyDocument(3L, 20L));
+        assertArrayEquals(new long[0], index.jobPostIdsOfCompany(10L)); // 전체 색인 완료 전
+
+        index.markReady();
+        assertArrayEquals(new long[]{2L, 5L}, index.jobPostIdsOfCompany(10L));
+
+        index.index(companyDocument(4L, 10L));
+        index.index(companyDocument(3L, 10L)); // 회사 변경
+        index.remove(5L);
+
+        assertArrayEquals(new long[]{2L, 3L, 4L}, index.jobPostIdsOfCompany(10L));
+        assertArrayEquals(new long[0], index.jobPostIdsOfCompany(20L));
+    }
+
+    @Test
+    @DisplayName("회사별 채용 공고 id: id가 아닌 (생성일, id) 순서, 생성일이 바뀌면 위치도 이동")
+    void jobPostIdsOfCompany_ShouldOrderByCreatedDate() {
+        JobPostSearchIndex index = new JobPostSearchIndex();
+        index.load(createdDocument(1L, NOW.plusMinutes(3)));
+        index.load(createdDocument(2L, NOW.plusMinutes(1)));
+        index.markReady();
+        assertArrayEquals(new long[]{2L, 1L}, index.jobPostIdsOfCompany(10L));
+
+        // 다른 인스턴스의 id 블록: id는 작지만 가장 최신
+        index.index(createdDocument(0L, NOW.plusMinutes(5)));
+        index.index(createdDocument(3L, NOW.plusMinutes(1)));
+        assertArrayEquals(new long[]{2L, 3L, 1L, 0L}, index.jobPostIdsOfCompany(10L));
+
+        index.index(createdDocument(1L, NOW));
+        index.remove(3L);
+        assertArrayEquals(new long[]{1L, 2L, 0L}, index.jobPostIdsOfCompany(10L));
+    }
+
+    private static JobPostDocument document(long id, int minutes, String position, String techStack,
+                                            String content, String companyName, String region) {
+        return new JobPostDocument(id, 1L, NOW.plusMinutes(minutes), 500000,
+                position, techStack, content, companyName, "한국", region);
+    }
+
+    private static JobPostDocument versionedDocument(long id, String position, LocalDateTime updatedDate) {
+        return new JobPostDocument(id, 1L, NOW, 500000, position, "", "", "원티드랩", "한국", "서울",
+                updatedDate, NOW);
+    }
+
+    private static JobPostDocument createdDocument(long id, LocalDateTime createdDate) {
+        return new JobPostDocument(id, 10L, createdDate, 500000,
+                "백엔드 개발자", "Java", "", "회사10", "한국", "서울");
+    }
+
+    private static JobPostDocument companyDocument(long id, long companyId) {
+        return new JobPostDocument(id, companyId, NOW.plusMinutes(id), 500000,
+                "백엔드 개발자", "Java", "", "회사" + companyId, "한국", "서울");
+    }
+
+    private static List<Long> rankedIds(List<ScoredDocument> ranked) {
+        return ranked.stream().map(scored -> scored.getDocument().getId()).collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<JobPostDocument> documents) {
+        return documents.stream().map(JobPostDocument::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobPostSuggester 테스트")
+class JobPostSuggesterTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+    private JobPostSearchIndex searchIndex;
+    private JobPostSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new JobPostSearchIndex();
+
+        searchIndex.index(document(1L, "백엔드 개발자", "Java, Spring", "원티드랩"));
+        searchIndex.index(document(2L, "백엔드 개발자", "Python, Django", "네이버"));
+        searchIndex.index(document(3L, "Django 백엔드 엔지니어", "Python", "네이버"));
+        searchIndex.index(document(4L, "프론트엔드 개발자", "JavaScript", "배달의민족"));
+        searchIndex.markReady();
+
+        suggester = new JobPostSuggester(searchIndex);
+        suggester.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        suggester.shutdown();
+    }
+
+    @Test
+    @DisplayName("자모 접두사: 입력 중인 글자로도 후보 반환, 인기도순")
+    void suggest_WithJamoPrefix_ShouldMatchSyllables() {
+        List<Suggestion> suggestions = suggester.suggest("백ㅇ", 10);
+
+        assertEquals("백엔드:3", text(suggestions.get(0))); // 포지션 단어, 공고 3건
+        assertEquals("백엔드 개발자:2", text(suggestions.get(1)));
+        assertTrue(texts(suggester.suggest("배", 10)).contains("배달의민족:1"));
+    }
+
+    @Test
+    @DisplayName("단어 접두사: 포지션 중간 단어로도 찾음")
+    void suggest_ShouldMatchWordInsidePosition() {
+        assertTrue(texts(suggester.suggest("엔지", 10)).contains("Django 백엔드 엔지니어:1"));
+    }
+
+    @Test
+    @DisplayName("종류: 같은 텍스트는 태그로 한 번만, 공고 하나는 한 번만 셈")
+    void suggest_ShouldMergeSameText() {
+        List<Suggestion> suggestions = suggester.suggest("dj", 10);
+
+        assertEquals(List.of("django:2", "Django 백엔드 엔지니어:1"), texts(suggestions));
+        assertEquals(SuggestionType.TAG, suggestions.get(0).getType()); // 3번 공고는 태그와 포지션 단어 모두 있지만 한 번
+    }
+
+    @Test
+    @DisplayName("limit: 인기도 상위 limit개, 빈 접두사나 없는 접두사는 빈 목록")
+    void suggest_ShouldRespectLimit() {
+        assertEquals(1, suggester.suggest("ja", 1).size());
+        assertEquals(List.of("java:1"), texts(suggester.suggest("java", 1)));
+        assertTrue(suggester.suggest("  ", 10).isEmpty());
+        assertTrue(suggester.suggest("kotlin", 10).isEmpty());
+    }
+
+    private static JobPostDocument document(long id, String position, String techStack, String companyName) {
+        return new JobPostDocument(id, 1L, NOW.plusMinutes(id), 500000,
+                position, techStack, "", companyName, "한국", "서울");
+    }
+
+    private static String text(Suggestion suggestion) {
+        return suggestion.getText() + ":" + suggestion.getCount();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(JobPostSuggesterTest::text).collect(Collectors.toList());
+    }
+}
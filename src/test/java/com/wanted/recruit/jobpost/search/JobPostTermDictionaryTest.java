@@ -0,0 +1,92 @@
+package com.wanted.recruit.jobpost.search;
+
+import com.wanted.recruit.jobpost.search.query.AndQuery;
+import com.wanted.recruit.jobpost.search.query.NotQuery;
+import com.wanted.recruit.jobpost.search.query.OrQuery;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
+import com.wanted.recruit.jobpost.search.query.TermQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobPostTermDictionary 테스트")
+class JobPostTermDictionaryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+    private JobPostSearchIndex searchIndex;
+    private JobPostTermDictionary termDictionary;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new JobPostSearchIndex();
+
+        searchIndex.index(document(1L, "백엔드 개발자", "Java, Spring", "원티드랩"));
+        searchIndex.index(document(2L, "프론트엔드 개발자", "React", "네이버"));
+        searchIndex.index(document(3L, "Android 개발자", "Kotlin", "카카오"));
+        searchIndex.markReady();
+
+        termDictionary = new JobPostTermDictionary(searchIndex);
+        termDictionary.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        termDictionary.shutdown();
+    }
+
+    @Test
+    @DisplayName("오타 허용: 자모 단위 편집 거리 안의 단어로 검색")
+    void expand_ShouldFindMisspelledWords() {
+        assertEquals(List.of(1L), ids("백엔듣"));   // 받침 추가
+        assertEquals(List.of(1L), ids("sprng"));   // 글자 누락
+        assertEquals(List.of(3L), ids("andriod")); // 자리 바뀜
+        assertEquals(List.of(2L), ids("프론트앤드")); // 모음 하나 다름
+    }
+
+    @Test
+    @DisplayName("오타 허용: 원래 검색어 조건은 유지하고, 확장 없이 찾을 수 있는 단어는 추가하지 않음")
+    void expand_ShouldKeepOriginalTerm() {
+        OrQuery or = assertInstanceOf(OrQuery.class, termDictionary.expand(SearchQuery.parse("sprng")).getRoot());
+
+        assertEquals("sprng", ((TermQuery) or.getChildren().get(0)).getText());
+        assertEquals("spring", ((TermQuery) or.getChildren().get(1)).getText());
+        assertInstanceOf(TermQuery.class, termDictionary.expand(SearchQuery.parse("spring")).getRoot());
+    }
+
+    @Test
+    @DisplayName("오타 허용 제외: 짧은 검색어, 구문, NOT 안의 검색어")
+    void expand_ShouldSkipShortPhraseAndNegatedTerms() {
+        assertInstanceOf(TermQuery.class, termDictionary.expand(SearchQuery.parse("jav")).getRoot());
+        assertInstanceOf(TermQuery.class, termDictionary.expand(SearchQuery.parse("\"백엔듣 개발\"")).getRoot());
+
+        AndQuery and = (AndQuery) termDictionary.expand(SearchQuery.parse("개발자 NOT 백엔듣")).getRoot();
+        assertInstanceOf(TermQuery.class, ((NotQuery) and.getChildren().get(1)).getChild());
+    }
+
+    @Test
+    @DisplayName("색인 변경 후 다시 만들면 새 단어 반영")
+    void rebuild_ShouldReflectIndexChanges() {
+        searchIndex.index(document(4L, "데이터 엔지니어", "Python", "토스"));
+        termDictionary.rebuild();
+
+        assertEquals(List.of(4L), ids("pyhton"));
+    }
+
+    private List<Long> ids(String query) {
+        return searchIndex.search(termDictionary.expand(SearchQuery.parse(query)), Integer.MAX_VALUE).stream()
+                .map(JobPostDocument::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static JobPostDocument document(long id, String position, String techStack, String companyName) {
+        return new JobPostDocument(id, 1L, NOW.plusMinutes(id), 500000,
+                position, techStack, "", companyName, "한국", "서울");
+    }
+}
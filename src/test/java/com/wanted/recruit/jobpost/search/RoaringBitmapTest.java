@@ -0,0 +1,94 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RoaringBitmap 테스트")
+class RoaringBitmapTest {
+
+    @Test
+    @DisplayName("생성: 정렬/중복 제거된 id를 구간에 관계없이 보관")
+    void of_ShouldKeepSortedUniqueIds() {
+        RoaringBitmap bitmap = RoaringBitmap.of(new long[]{70000, 3, 3, 1, 65536});
+
+        assertArrayEquals(new long[]{1, 3, 65536, 70000}, bitmap.toArray());
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.contains(65536));
+        assertFalse(bitmap.contains(2));
+    }
+
+    @Test
+    @DisplayName("추가/제거: 새 비트맵을 반환하고 기존 비트맵은 그대로")
+    void withAndWithout_ShouldNotModifyOriginal() {
+        RoaringBitmap original = RoaringBitmap.of(new long[]{1, 2});
+        RoaringBitmap added = original.with(100000);
+        RoaringBitmap removed = added.without(1).without(100000);
+
+        assertArrayEquals(new long[]{1, 2}, original.toArray());
+        assertArrayEquals(new long[]{1, 2, 100000}, added.toArray());
+        assertArrayEquals(new long[]{2}, removed.toArray());
+        assertSame(original, original.with(1));
+        assertTrue(RoaringBitmap.of(new long[]{5}).without(5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("밀집 구간: 비트셋 구간으로 바뀌어도 같은 집합")
+    void dense_ShouldBehaveLikeSparse() {
+        RoaringBitmap evens = RoaringBitmap.of(LongStream.range(0, 20000).map(i -> i * 2).toArray()); // 비트셋
+        RoaringBitmap small = RoaringBitmap.of(new long[]{0, 1, 2, 3, 39998, 39999});
+
+        assertEquals(20000, evens.cardinality());
+        assertArrayEquals(new long[]{0, 2, 39998}, evens.and(small).toArray());
+        assertEquals(20003, evens.or(small).cardinality());
+        assertArrayEquals(new long[]{1, 3, 39999}, small.andNot(evens).toArray());
+        assertEquals(19997, evens.andNot(small).cardinality());
+
+        // 제거로 원소가 줄면 다시 배열 구간으로
+        RoaringBitmap shrunk = evens;
+
+        for (long id = 0; id < 32000; id += 2) {
+            shrunk = shrunk.without(id);
+        }
+
+        assertArrayEquals(LongStream.range(16000, 20000).map(i -> i * 2).toArray(), shrunk.toArray());
+    }
+
+    @Test
+    @DisplayName("집합 연산: TreeSet으로 계산한 결과와 일치")
+    void setOperations_ShouldMatchReference() {
+        Random random = new Random(42);
+        long[] a = random.longs(8000, 0, 300000).toArray();
+        long[] b = random.longs(5000, 0, 300000).toArray();
+
+        RoaringBitmap left = RoaringBitmap.of(a);
+        RoaringBitmap right = RoaringBitmap.of(b);
+
+        TreeSet<Long> and = set(a);
+        and.retainAll(set(b));
+        TreeSet<Long> or = set(a);
+        or.addAll(set(b));
+        TreeSet<Long> andNot = set(a);
+        andNot.removeAll(set(b));
+
+        assertArrayEquals(toArray(and), left.and(right).toArray());
+        assertArrayEquals(toArray(or), left.or(right).toArray());
+        assertArrayEquals(toArray(andNot), left.andNot(right).toArray());
+    }
+
+    private static TreeSet<Long> set(long[] ids) {
+        TreeSet<Long> set = new TreeSet<>();
+        Arrays.stream(ids).forEach(set::add);
+        return set;
+    }
+
+    private static long[] toArray(TreeSet<Long> set) {
+        return set.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,106 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchResultCache 테스트")
+class SearchResultCacheTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+    private long now;
+    private AtomicInteger loads;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        loads = new AtomicInteger();
+        cache = new SearchResultCache(3, 100, 1_000, () -> now);
+    }
+
+    @Test
+    @DisplayName("같은 검색어, 같은 색인 버전이면 캐시된 결과 사용")
+    void get_WhenSameVersion_ShouldHit() {
+        SearchResult first = cache.get("java", 1, loader(2));
+        SearchResult second = cache.get("java", 1, loader(2));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        SearchCacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(3, stats.getWeight()); // 문서 2건 + 1
+    }
+
+    @Test
+    @DisplayName("색인 버전이 바뀌면(채용 공고 저장/수정/삭제) 다시 계산")
+    void get_WhenVersionChanged_ShouldInvalidate() {
+        cache.get("java", 1, loader(1));
+        cache.get("java", 2, loader(1));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getInvalidations());
+        assertEquals(1, cache.stats().getSize());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 계산")
+    void get_WhenExpired_ShouldReload() {
+        cache.get("java", 1, loader(1));
+        now = 1_000;
+        cache.get("java", 1, loader(1));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getExpirations());
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 가장 오래 사용되지 않은 결과부터 제거")
+    void get_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        cache.get("a", 1, loader(1));
+        cache.get("b", 1, loader(1));
+        cache.get("c", 1, loader(1));
+        cache.get("a", 1, loader(1)); // a 사용 -> b가 가장 오래됨
+        cache.get("d", 1, loader(1));
+
+        assertEquals(1, cache.stats().getEvictions());
+        cache.get("a", 1, loader(1));
+        assertEquals(4, loads.get()); // a는 남아 있음
+        cache.get("b", 1, loader(1));
+        assertEquals(5, loads.get()); // b는 제거됨
+    }
+
+    @Test
+    @DisplayName("결과 하나가 용량(문서 수 합)의 1/10을 넘으면 캐시하지 않음")
+    void get_WhenResultTooLarge_ShouldNotCache() {
+        cache.get("big", 1, loader(10)); // 11 > 100 / 10
+        cache.get("big", 1, loader(10));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    private Supplier<SearchResult> loader(int size) {
+        return () -> {
+            loads.incrementAndGet();
+            List<JobPostDocument> matched = new ArrayList<>();
+
+            for (long id = 1; id <= size; id++) {
+                matched.add(new JobPostDocument(id, 1L, NOW, 0, "백엔드", "Java", "", "원티드", "한국", "서울"));
+            }
+
+            return new SearchResult(matched, List.of(), null, false);
+        };
+    }
+}
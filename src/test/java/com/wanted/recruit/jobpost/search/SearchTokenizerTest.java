@@ -0,0 +1,39 @@
+package com.wanted.recruit.jobpost.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchTokenizer 테스트")
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("정규화: 소문자 변환, 연속 공백은 하나로, 앞뒤 공백 제거")
+    void normalize_ShouldLowerCaseAndCollapseWhitespace() {
+        assertEquals("java 백엔드 개발자", SearchTokenizer.normalize("  Java\t백엔드 \n\u3000개발자 "));
+        assertEquals("vue.js", SearchTokenizer.normalize("Vue.JS"));
+        assertEquals("", SearchTokenizer.normalize(" \n "));
+        assertEquals("", SearchTokenizer.normalize(null));
+    }
+
+    @Test
+    @DisplayName("정규화: 조합형 한글은 완성형으로 합치고 폭 없는 문자(zero-width space, BOM)는 제거")
+    void normalize_ShouldComposeAndStripInvisibleCharacters() {
+        String decomposed = Normalizer.normalize("백엔드", Normalizer.Form.NFD);
+
+        assertEquals("백엔드", SearchTokenizer.normalize(decomposed));
+        assertEquals("백엔드", SearchTokenizer.normalize("백\u200B엔드\uFEFF"));
+        assertEquals("café", SearchTokenizer.normalize("CAFÉ"));
+    }
+
+    @Test
+    @DisplayName("정규화: 이미 정규화된 텍스트는 같은 인스턴스 반환")
+    void normalize_WhenAlreadyNormalized_ShouldReturnSameInstance() {
+        String text = "신입 백엔드 개발자 (java/spring)";
+
+        assertSame(text, SearchTokenizer.normalize(text));
+    }
+}
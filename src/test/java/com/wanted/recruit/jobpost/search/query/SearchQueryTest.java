@@ -0,0 +1,98 @@
+package com.wanted.recruit.jobpost.search.query;
+
+import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
+import com.wanted.recruit.jobpost.search.SearchField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchQuery 파싱 테스트")
+class SearchQueryTest {
+
+    @Test
+    @DisplayName("공백으로 나열한 검색어는 AND, 소문자로 정규화")
+    void parse_WhenWordsSeparatedBySpace_ShouldBeAnd() {
+        SearchQuery query = SearchQuery.parse("백엔드 Java");
+
+        AndQuery and = assertInstanceOf(AndQuery.class, query.getRoot());
+        assertEquals(2, and.getChildren().size());
+        assertEquals("java", ((TermQuery) and.getChildren().get(1)).getText());
+        assertEquals(List.of("백엔드", "java"), query.getScoringTerms());
+    }
+
+    @Test
+    @DisplayName("필드 지정과 보상금 비교")
+    void parse_WhenFieldScoped_ShouldCreateFieldQueries() {
+        AndQuery and = (AndQuery) SearchQuery.parse("techStack:Java region:판교 reward>=1,000,000").getRoot();
+
+        TermQuery techStack = (TermQuery) and.getChildren().get(0);
+        assertEquals(SearchField.TECH_STACK, techStack.getField());
+        assertEquals("java", techStack.getText());
+
+        TermQuery region = (TermQuery) and.getChildren().get(1);
+        assertEquals(SearchField.REGION, region.getField());
+
+        RewardQuery reward = (RewardQuery) and.getChildren().get(2);
+        assertEquals(ComparisonOperator.GOE, reward.getOperator());
+        assertEquals(1000000, reward.getValue());
+    }
+
+    @Test
+    @DisplayName("태그 조건: 태그 규칙으로 정규화, 관련도 점수 검색어에는 포함되지 않음")
+    void parse_WhenTagField_ShouldCreateTagQuery() {
+        SearchQuery query = SearchQuery.parse("tag:React.js NOT tag:PHP");
+        AndQuery and = (AndQuery) query.getRoot();
+
+        assertEquals("react", ((TagQuery) and.getChildren().get(0)).getTag());
+        NotQuery not = (NotQuery) and.getChildren().get(1);
+        assertEquals("php", ((TagQuery) not.getChild()).getTag());
+        assertTrue(query.getScoringTerms().isEmpty());
+    }
+
+    @Test
+    @DisplayName("우선순위: NOT > AND > OR")
+    void parse_ShouldApplyOperatorPrecedence() {
+        OrQuery or = (OrQuery) SearchQuery.parse("java spring OR NOT kotlin").getRoot();
+
+        assertInstanceOf(AndQuery.class, or.getChildren().get(0));
+        assertInstanceOf(NotQuery.class, or.getChildren().get(1));
+    }
+
+    @Test
+    @DisplayName("괄호와 따옴표 구문")
+    void parse_WithParenthesesAndPhrase() {
+        AndQuery and = (AndQuery) SearchQuery.parse("(java OR kotlin) position:\"백엔드 개발자\"").getRoot();
+
+        assertInstanceOf(OrQuery.class, and.getChildren().get(0));
+        TermQuery phrase = (TermQuery) and.getChildren().get(1);
+        assertEquals(SearchField.POSITION, phrase.getField());
+        assertEquals("백엔드 개발자", phrase.getText());
+    }
+
+    @Test
+    @DisplayName("소문자 and/or/not은 일반 검색어, NOT 안의 검색어는 점수 계산에서 제외")
+    void parse_LowercaseKeywordsAreTerms() {
+        SearchQuery query = SearchQuery.parse("rock and roll NOT jazz");
+
+        assertEquals(List.of("rock", "and", "roll"), query.getScoringTerms());
+    }
+
+    @Test
+    @DisplayName("문법 오류: InvalidSearchQueryException")
+    void parse_WhenInvalid_ShouldThrowInvalidSearchQueryException() {
+        for (String invalid : List.of("", "   ", "java AND", "OR java", "(java", "java)", "\"java",
+                "salary:1000", "reward>=many", "region>판교", "region:", "()", "NOT", "tag>java")) {
+            assertThrows(InvalidSearchQueryException.class, () -> SearchQuery.parse(invalid), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("검색 비용 제한: 괄호 깊이, 조건 수 상한")
+    void parse_WhenTooComplex_ShouldThrowInvalidSearchQueryException() {
+        assertThrows(InvalidSearchQueryException.class, () -> SearchQuery.parse("((((((((((java))))))))))"));
+        assertThrows(InvalidSearchQueryException.class, () -> SearchQuery.parse("a ".repeat(21)));
+    }
+}
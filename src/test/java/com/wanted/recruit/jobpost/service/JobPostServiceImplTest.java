@@ -1,5 +1,8 @@
 package com.wanted.recruit.jobpost.service;
 
+import com.wanted.recruit.common.dto.Cursor;
+import com.wanted.recruit.common.dto.CursorPage;
+import com.wanted.recruit.common.exception.exception.InvalidCursorException;
 import com.wanted.recruit.common.exception.exception.InvalidSearchQueryException;
 import com.wanted.recruit.company.entity.Company;
 import com.wanted.recruit.company.repository.CompanyRepository;
@@ -7,21 +10,43 @@ import com.wanted.recruit.common.exception.exception.CompanyNotFoundException;
 import com.wanted.recruit.common.exception.exception.JobPostNotFoundException;
 import com.wanted.recruit.jobpost.entity.JobPost;
 import com.wanted.recruit.jobpost.dto.*;
+import com.wanted.recruit.jobpost.event.JobPostChangedEvent;
+import com.wanted.recruit.jobpost.event.JobPostDeletedEvent;
 import com.wanted.recruit.jobpost.repository.JobPostRepository;
+import com.wanted.recruit.jobpost.search.CompanyJobPosts;
+import com.wanted.recruit.jobpost.search.JobPostDocument;
+import com.wanted.recruit.jobpost.search.JobPostSearchIndex;
+import com.wanted.recruit.jobpost.search.JobPostSuggester;
+import com.wanted.recruit.jobpost.search.JobPostTermDictionary;
+import com.wanted.recruit.jobpost.search.SearchResultCache;
+import com.wanted.recruit.jobpost.search.ScoredDocument;
+import com.wanted.recruit.jobpost.search.query.SearchQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +58,24 @@ class JobPostServiceImplTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private TechTagService techTagService;
+
+    @Mock
+    private JobPostSearchIndex searchIndex; // isReady() 기본값 false -> DB 검색
+
+    @Mock
+    private JobPostSuggester suggester;
+
+    @Mock
+    private JobPostTermDictionary termDictionary;
+
+    @Spy
+    private SearchResultCache resultCache = new SearchResultCache();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private JobPostServiceImpl jobPostService;
 
@@ -85,6 +128,8 @@ class JobPostServiceImplTest {
         // 메소드 호출 횟수
         verify(companyRepository, times(1)).findById(1L);
         verify(jobPostRepository, times(1)).save(any(JobPost.class));
+        verify(techTagService, times(1)).replaceTags(jobPost);
+        verify(eventPublisher, times(1)).publishEvent(any(JobPostChangedEvent.class));
     }
 
     @Test
@@ -96,6 +141,8 @@ class JobPostServiceImplTest {
         assertThrows(CompanyNotFoundException.class, () -> jobPostService.save(jobPostRequest));
         verify(companyRepository, times(1)).findById(1L);
         verify(jobPostRepository, times(0)).save(any(JobPost.class));
+        verify(techTagService, never()).replaceTags(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -114,6 +161,8 @@ class JobPostServiceImplTest {
         assertEquals(jobPostUpdateRequest.getContent(), response.getContent());
 
         verify(jobPostRepository, times(1)).findById(1L);
+        verify(techTagService, times(1)).replaceTags(jobPost);
+        verify(eventPublisher, times(1)).publishEvent(any(JobPostChangedEvent.class));
     }
 
     @Test
@@ -137,6 +186,7 @@ class JobPostServiceImplTest {
 
         verify(jobPostRepository, times(1)).existsById(1L);
         verify(jobPostRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(JobPostDeletedEvent.class));
     }
 
     @Test
@@ -151,16 +201,65 @@ class JobPostServiceImplTest {
     }
 
     @Test
-    @DisplayName("채용 공고 목록: 검색어가 없는 경우, 전체 공고 리스트 반환")
-    void getList_WhenNoSearchQuery_ShouldReturnEntireList() {
-        String searchQuery = null; // 검색어 없음
-        when(jobPostRepository.findAll()).thenReturn(Arrays.asList(jobPost));
+    @DisplayName("채용 공고 목록: 검색어가 없는 경우, 첫 페이지 반환")
+    void getList_WhenNoSearchQuery_ShouldReturnFirstPage() {
+        JobPostResponse response = new JobPostResponse(jobPost);
+
+        // 페이지 크기(20) + 1건 조회
+        when(jobPostRepository.findPage(null, 21)).thenReturn(Arrays.asList(response));
+
+        CursorPage<JobPostResponse> page = jobPostService.getAll(null, 20);
+
+        assertNotNull(page);
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor()); // 다음 페이지 없음
+        verify(jobPostRepository, times(1)).findPage(null, 21);
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 다음 페이지가 있는 경우, 마지막 항목의 커서 반환")
+    void getList_WhenHasNextPage_ShouldReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        JobPostResponse first = JobPostResponse.builder().jobPostId(3L).createDate(now).build();
+        JobPostResponse second = JobPostResponse.builder().jobPostId(2L).createDate(now).build();
+        JobPostResponse third = JobPostResponse.builder().jobPostId(1L).createDate(now.minusDays(1)).build();
+
+        // 페이지 크기(2) + 1건 조회 -> 3건이면 다음 페이지 존재
+        when(jobPostRepository.findPage(null, 3)).thenReturn(Arrays.asList(first, second, third));
+
+        CursorPage<JobPostResponse> page = jobPostService.getAll(null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(new Cursor(now, 2L), Cursor.decode(page.getNextCursor())); // 현재 페이지 마지막 항목
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 커서가 있는 경우, 커서 이후의 페이지 조회")
+    void getList_WhenHasCursor_ShouldSeekAfterCursor() {
+        Cursor cursor = new Cursor(LocalDateTime.now(), 10L);
+        when(jobPostRepository.findPage(cursor, 21)).thenReturn(List.of());
 
-        List<JobPostResponse> responses = jobPostService.getAll();
+        CursorPage<JobPostResponse> page = jobPostService.getAll(cursor.encode(), 20);
 
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
-        verify(jobPostRepository, times(1)).findAll();
+        assertTrue(page.getContent().isEmpty());
+        verify(jobPostRepository, times(1)).findPage(cursor, 21);
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 페이지 크기가 최대값을 넘는 경우, 최대값으로 보정")
+    void getList_WhenLimitTooLarge_ShouldClampLimit() {
+        when(jobPostRepository.findPage(null, 101)).thenReturn(List.of());
+
+        jobPostService.getAll(null, 10000);
+
+        verify(jobPostRepository, times(1)).findPage(null, 101);
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 커서가 올바르지 않은 경우, InvalidCursorException")
+    void getList_WhenInvalidCursor_ShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> jobPostService.getAll("not-a-cursor", 20));
+        verify(jobPostRepository, times(0)).findPage(any(), anyInt());
     }
 
     @Test
@@ -170,57 +269,473 @@ class JobPostServiceImplTest {
 
         JobPostResponse searchedJob = new JobPostResponse(jobPost); // 응답 객체
 
-        when(jobPostRepository.search(searchQuery)).thenReturn(Arrays.asList(searchedJob));
+        when(jobPostRepository.search(any(SearchQuery.class), isNull(), eq(21))).thenReturn(Arrays.asList(searchedJob));
+
+        CursorPage<JobPostResponse> page = jobPostService.search(searchQuery, null, 20, false);
+
+        assertNotNull(page);
+        assertEquals(1, page.getContent().size());
+        verify(jobPostRepository, times(1)).search(any(SearchQuery.class), isNull(), eq(21));
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: 인덱스 로딩 완료 시 인덱스 검색 결과 순서대로 해당 페이지만 DB에서 조회")
+    void search_WhenIndexReady_ShouldLoadOnlyPageIdsInIndexOrder() {
+        String searchQuery = "백엔드";
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+        JobPostDocument newer = new JobPostDocument(2L, 1L, now, 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+        JobPostDocument older = new JobPostDocument(1L, 1L, now.minusDays(1), 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(any(SearchQuery.class), anyInt())).thenReturn(List.of(newer, older));
+
+        // DB 조회 결과 순서는 보장되지 않음
+        when(jobPostRepository.findByIds(List.of(2L, 1L))).thenReturn(List.of(
+                JobPostResponse.builder().jobPostId(1L).build(),
+                JobPostResponse.builder().jobPostId(2L).build()));
+
+        CursorPage<JobPostResponse> page = jobPostService.search(searchQuery, null, 20, false);
+
+        assertEquals(2L, page.getContent().get(0).getJobPostId());
+        assertEquals(1L, page.getContent().get(1).getJobPostId());
+        assertNull(page.getNextCursor());
+        verify(searchIndex, times(1)).facets(List.of(newer, older)); // 페이지가 아닌 검색 결과 전체로 집계
+        verify(jobPostRepository, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: 인덱스 검색 결과에 커서 적용")
+    void search_WhenIndexReadyWithCursor_ShouldSkipDocumentsBeforeCursor() {
+        String searchQuery = "백엔드";
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+        JobPostDocument newer = new JobPostDocument(2L, 1L, now, 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+        JobPostDocument older = new JobPostDocument(1L, 1L, now.minusDays(1), 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(any(SearchQuery.class), anyInt())).thenReturn(List.of(newer, older));
+        when(jobPostRepository.findByIds(List.of(1L))).thenReturn(List.of(JobPostResponse.builder().jobPostId(1L).build()));
+
+        String cursor = new Cursor(now, 2L).encode();
+        CursorPage<JobPostResponse> page = jobPostService.search(searchQuery, cursor, 20, false);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(1L, page.getContent().get(0).getJobPostId());
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: 페이지의 공고가 그 사이 DB에서 삭제되어도 인덱스 기준으로 다음 페이지 커서 반환")
+    void search_WhenPageJobPostDeleted_ShouldKeepNextCursor() {
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+        JobPostDocument newest = new JobPostDocument(3L, 1L, now, 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+        JobPostDocument deleted = new JobPostDocument(2L, 1L, now.minusDays(1), 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+        JobPostDocument oldest = new JobPostDocument(1L, 1L, now.minusDays(2), 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(any(SearchQuery.class), anyInt())).thenReturn(List.of(newest, deleted, oldest));
+        // 인덱스 검색 후 2번 공고가 삭제됨, 다음 페이지 확인용 1건은 DB에서 조회하지 않음
+        when(jobPostRepository.findByIds(List.of(3L, 2L))).thenReturn(List.of(JobPostResponse.builder().jobPostId(3L).build()));
+        when(jobPostRepository.findByIds(List.of(1L))).thenReturn(List.of(JobPostResponse.builder().jobPostId(1L).build()));
+
+        CursorPage<JobPostResponse> first = jobPostService.search("백엔드", null, 2, false);
+
+        assertEquals(1, first.getContent().size());
+        assertEquals(3L, first.getContent().get(0).getJobPostId());
+        assertEquals(new Cursor(deleted.getCreatedDate(), 2L), Cursor.decode(first.getNextCursor()));
+
+        CursorPage<JobPostResponse> second = jobPostService.search("백엔드", first.getNextCursor(), 2, false);
+
+        assertEquals(1L, second.getContent().get(0).getJobPostId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: 같은 검색어는 색인이 바뀌기 전까지 캐시된 결과 사용")
+    void search_WhenSameQueryRepeated_ShouldUseCachedResult() {
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+        JobPostDocument document = new JobPostDocument(1L, 1L, now, 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.version()).thenReturn(1L);
+        when(searchIndex.search(any(SearchQuery.class), anyInt())).thenReturn(List.of(document));
+        when(jobPostRepository.findByIds(List.of(1L))).thenReturn(List.of(JobPostResponse.builder().jobPostId(1L).build()));
+
+        jobPostService.search("Java", null, 20, false);
+        jobPostService.search(" java ", null, 20, false); // 정규화 후 같은 검색어
+        verify(searchIndex, times(1)).search(any(SearchQuery.class), anyInt());
+
+        // 채용 공고 변경이 색인에 반영되면 다시 검색
+        when(searchIndex.version()).thenReturn(2L);
+        jobPostService.search("java", null, 20, false);
+        verify(searchIndex, times(2)).search(any(SearchQuery.class), anyInt());
+        verify(searchIndex, times(2)).facets(List.of(document));
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색: 사전으로 확장한 검색어로 인덱스 검색")
+    void search_WhenFuzzy_ShouldSearchWithExpandedQuery() {
+        SearchQuery expanded = SearchQuery.parse("sprng OR spring");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(termDictionary.expand(any(SearchQuery.class))).thenReturn(expanded);
+        when(searchIndex.search(eq(expanded), anyInt())).thenReturn(List.of());
+
+        CursorPage<JobPostResponse> page = jobPostService.search("sprng", null, 20, true);
+
+        assertTrue(page.getContent().isEmpty());
+        verify(searchIndex, times(1)).search(eq(expanded), anyInt());
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색: 인덱스 로딩 전에는 확장하지 않고 DB 검색")
+    void search_WhenFuzzyAndIndexNotReady_ShouldNotExpand() {
+        when(jobPostRepository.search(any(SearchQuery.class), isNull(), eq(21))).thenReturn(List.of());
+
+        jobPostService.search("sprng", null, 20, true);
+
+        verify(termDictionary, never()).expand(any());
+    }
+
+    @Test
+    @DisplayName("관련도순 검색: 인덱스의 점수 순서대로 점수를 포함해 반환")
+    void searchByRelevance_WhenIndexReady_ShouldReturnHitsInScoreOrder() {
+        String searchQuery = "백엔드";
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+
+        JobPostDocument best = new JobPostDocument(1L, 1L, now, 500000, "백엔드", "Java", "", "원티드", "한국", "서울");
+        JobPostDocument second = new JobPostDocument(2L, 1L, now, 500000, "프론트엔드", "React", "백엔드", "원티드", "한국", "서울");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.rank(any(SearchQuery.class), eq(JobPostServiceImpl.MAX_SEARCH_RESULTS + 1)))
+                .thenReturn(List.of(new ScoredDocument(best, 2.0), new ScoredDocument(second, 1.0)));
+        when(jobPostRepository.findByIds(List.of(1L, 2L))).thenReturn(List.of(
+                JobPostResponse.builder().jobPostId(2L).build(),
+                JobPostResponse.builder().jobPostId(1L).build()));
+
+        CursorPage<JobPostResponse> page = jobPostService.searchByRelevance(searchQuery, 20, false);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(1L, page.getContent().get(0).getJobPostId());
+        assertEquals(2.0, ((JobPostSearchHit) page.getContent().get(0)).getScore());
+        assertEquals(2L, page.getContent().get(1).getJobPostId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("관련도순 검색: 인덱스 로딩 전에는 DB 검색 결과 반환")
+    void searchByRelevance_WhenIndexNotReady_ShouldFallBackToDatabase() {
+        String searchQuery = "백엔드";
+
+        when(jobPostRepository.search(any(SearchQuery.class), isNull(), eq(20))).thenReturn(List.of(new JobPostResponse(jobPost)));
+
+        JobPostSearchPage page = jobPostService.searchByRelevance(searchQuery, 20, false);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getFacets()); // DB 검색 시 집계 생략
+        verify(searchIndex, never()).rank(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: DB 검색이 실행 시간 제한을 넘으면 빈 결과를 truncated로 반환")
+    void search_WhenDatabaseQueryTimesOut_ShouldReturnTruncatedEmptyPage() {
+        when(jobPostRepository.search(any(SearchQuery.class), isNull(), eq(21)))
+                .thenThrow(new QueryTimeoutException("Query execution was interrupted"));
+
+        JobPostSearchPage page = jobPostService.search("백", null, 20, false);
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        assertTrue(page.isTruncated());
+    }
+
+    @Test
+    @DisplayName("채용 공고 검색: 인덱스 검색 결과가 상한을 넘으면 최신 공고만으로 페이지/집계 계산")
+    void search_WhenTooManyMatches_ShouldTruncateToNewest() {
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+        List<JobPostDocument> matched = new ArrayList<>();
+
+        for (long id = JobPostServiceImpl.MAX_SEARCH_RESULTS + 1; id > 0; id--) {
+            matched.add(new JobPostDocument(id, 1L, now.plusSeconds(id), 0, "백엔드", "Java", "", "원티드", "한국", "서울"));
+        }
 
-        List<JobPostResponse> responses = jobPostService.search(searchQuery);
+        // 인덱스에는 상한보다 한 건 더 요청 (검색된 공고 전체를 받지 않음)
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(any(SearchQuery.class), eq(JobPostServiceImpl.MAX_SEARCH_RESULTS + 1))).thenReturn(matched);
+        when(jobPostRepository.findByIds(anyList())).thenReturn(List.of());
 
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
-        verify(jobPostRepository, times(1)).search(searchQuery);
+        JobPostSearchPage page = jobPostService.search("백", null, 20, false);
+
+        assertTrue(page.isTruncated());
+        verify(searchIndex, times(1)).facets(matched.subList(0, JobPostServiceImpl.MAX_SEARCH_RESULTS));
     }
 
     @Test
-    @DisplayName("채용 공고 목록: 검색어 유효성 검사 통과 못하는 경우, InvalidSearchQueryException")
+    @DisplayName("관련도순 검색: 검색 결과가 상한을 넘으면 최신이 아닌 관련도 상위 공고로 순위/집계 계산")
+    void searchByRelevance_WhenTooManyMatches_ShouldKeepBestScored() {
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+        List<ScoredDocument> ranked = new ArrayList<>();
+
+        // 오래된 공고일수록 점수가 높음
+        for (long id = 1; id <= JobPostServiceImpl.MAX_SEARCH_RESULTS + 1; id++) {
+            JobPostDocument document = new JobPostDocument(id, 1L, now.plusSeconds(id), 0, "백엔드", "Java", "", "원티드", "한국", "서울");
+            ranked.add(new ScoredDocument(document, 1.0 / id));
+        }
+
+        List<JobPostDocument> best = ranked.subList(0, JobPostServiceImpl.MAX_SEARCH_RESULTS).stream()
+                .map(ScoredDocument::getDocument)
+                .collect(Collectors.toList());
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.rank(any(SearchQuery.class), eq(JobPostServiceImpl.MAX_SEARCH_RESULTS + 1))).thenReturn(ranked);
+        when(jobPostRepository.findByIds(anyList())).thenReturn(List.of(JobPostResponse.builder().jobPostId(1L).build()));
+
+        JobPostSearchPage page = jobPostService.searchByRelevance("백", 20, false);
+
+        assertTrue(page.isTruncated());
+        assertEquals(1L, page.getContent().get(0).getJobPostId());
+        verify(searchIndex, times(1)).facets(best);
+        verify(searchIndex, never()).search(any(), anyInt());
+        // 캐시된 관련도 순서에서 페이지를 자르므로 점수 계산은 한 번만
+        verify(searchIndex, times(1)).rank(any(), anyInt());
+        verify(jobPostRepository).findByIds(LongStream.rangeClosed(1, 20).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("채용 공고 목록: 검색어가 문법에 맞지 않는 경우, InvalidSearchQueryException")
     void getList_WhenInvalidSearchQuery_ShouldThrowInvalidSearchQueryException() {
-        String searchQuery = "$원티드"; // 검색어 유효성 검사 통과 X
-        assertThrows(InvalidSearchQueryException.class, () -> jobPostService.search(searchQuery));
-        verify(jobPostRepository, times(0)).search(searchQuery);
+        String searchQuery = "region:판교 AND"; // AND 뒤에 조건 없음
+        assertThrows(InvalidSearchQueryException.class, () -> jobPostService.search(searchQuery, null, 20, false));
+        verify(jobPostRepository, times(0)).search(any(), any(), anyInt());
+        verify(searchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("채용 공고 내보내기: 스트림의 모든 공고를 순서대로 전달하고 스트림을 닫음")
+    void exportAll_ShouldPassEveryJobPostAndCloseStream() {
+        JobPostResponse first = JobPostResponse.builder().jobPostId(1L).build();
+        JobPostResponse second = JobPostResponse.builder().jobPostId(2L).build();
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(jobPostRepository.streamAll()).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+
+        List<JobPostResponse> exported = new ArrayList<>();
+        jobPostService.exportAll(exported::add);
+
+        assertEquals(List.of(first, second), exported);
+        assertTrue(closed.get()); // DB 커서 반환 여부
     }
 
     @Test
     @DisplayName("공고 상세: 성공 시나리오")
     void getDetail_WhenAllValid_ShouldReturnJobPostDetail() {
-        Long companyId = 1L;
         Long jobPostId = 2L;
+        JobPostResponse response = JobPostResponse.builder().jobPostId(jobPostId).build();
 
-        // id 필드도 모킹한 Company 엔티티
-        Company company = mock(Company.class);
-        when(company.getId()).thenReturn(companyId);
-
-        // id 필드도 모킹한 JobPost 엔티티
-        JobPost jobPost = mock(JobPost.class);
-        when(jobPost.getId()).thenReturn(jobPostId);
-        when(jobPost.getCompany()).thenReturn(company);
-
-        when(jobPostRepository.findById(jobPostId)).thenReturn(Optional.of(jobPost));
-        when(jobPostRepository.getOtherJobPost(companyId, jobPostId)).thenReturn(Arrays.asList(3L, 4L));
+        when(jobPostRepository.findDetail(jobPostId, null, 20))
+                .thenReturn(Optional.of(new JobPostDetail(response, Arrays.asList(3L, 4L))));
 
         // when
-        JobPostDetail detail = jobPostService.getDetail(jobPostId);
+        JobPostDetail detail = jobPostService.getDetail(jobPostId, null, 20, false);
 
         // then
         assertNotNull(detail);
         assertEquals(jobPostId, detail.getJobPostId());
-        verify(jobPostRepository, times(1)).findById(jobPostId);
-        verify(jobPostRepository, times(1)).getOtherJobPost(companyId, jobPostId);
+        assertArrayEquals(new long[]{4L, 3L}, detail.getOtherJotPostByCompany().toArray()); // 최신순
+        verify(jobPostRepository, times(1)).findDetail(jobPostId, null, 20);
+        verify(jobPostRepository, never()).findById(jobPostId);
+    }
+
+    @Test
+    @DisplayName("공고 상세: 검색 인덱스가 준비되었으면 회사의 다른 채용 공고 id를 인덱스에서 조회")
+    void getDetail_WhenIndexReady_ShouldUseCompanyJobPostIdsFromIndex() {
+        Long jobPostId = 2L;
+        JobPostResponse response = JobPostResponse.builder()
+                .jobPostId(jobPostId)
+                .company(CompanyResponse.builder().companyId(1L).name("원티드").build())
+                .build();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(jobPostId))).thenReturn(List.of(response));
+        when(searchIndex.jobPostsOfCompany(1L)).thenReturn(createdInIdOrder(1L, 2L, 5L));
+
+        JobPostDetail detail = jobPostService.getDetail(jobPostId, null, 20, false);
+
+        // 상세 조회한 공고는 제외, 최신순
+        assertArrayEquals(new long[]{5L, 1L}, detail.getOtherJotPostByCompany().toArray());
+        assertNull(detail.getOtherJobPostNextCursor());
+        verify(jobPostRepository, never()).findDetail(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("공고 상세: 회사의 다른 채용 공고 id는 othersLimit개씩, 커서 이후부터 조회")
+    void getDetail_WhenManyOtherJobPosts_ShouldReturnBoundedPageWithCursor() {
+        Long jobPostId = 3L;
+        JobPostResponse response = JobPostResponse.builder()
+                .jobPostId(jobPostId)
+                .company(CompanyResponse.builder().companyId(1L).name("원티드").build())
+                .build();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(jobPostId))).thenReturn(List.of(response));
+        when(searchIndex.jobPostsOfCompany(1L)).thenReturn(createdInIdOrder(1L, 2L, 3L, 4L, 5L));
+
+        JobPostDetail first = jobPostService.getDetail(jobPostId, null, 2, false);
+        assertArrayEquals(new long[]{5L, 4L}, first.getOtherJotPostByCompany().toArray());
+        assertEquals(4L, Cursor.decode(first.getOtherJobPostNextCursor()).getId()); // 페이지의 마지막 공고 위치
+
+        // 상세 조회한 공고(3)는 건너뛰고 이어서 조회, 마지막 페이지면 커서 없음
+        JobPostDetail second = jobPostService.getDetail(jobPostId, first.getOtherJobPostNextCursor(), 2, false);
+        assertArrayEquals(new long[]{2L, 1L}, second.getOtherJotPostByCompany().toArray());
+        assertNull(second.getOtherJobPostNextCursor());
+    }
+
+    @Test
+    @DisplayName("공고 상세: 다른 채용 공고는 id가 아닌 생성일 최신순, 커서도 같은 순서로 이어서 조회")
+    void getDetail_WhenIdOrderDiffersFromCreation_ShouldFollowCreatedDate() {
+        Long jobPostId = 3L;
+        JobPostResponse response = JobPostResponse.builder()
+                .jobPostId(jobPostId)
+                .company(CompanyResponse.builder().companyId(1L).name("원티드").build())
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(jobPostId))).thenReturn(List.of(response));
+        // 생성일 오름차순: 다른 인스턴스의 id 블록으로 저장된 공고(1, 2)가 더 최신
+        when(searchIndex.jobPostsOfCompany(1L)).thenReturn(CompanyJobPosts.of(
+                new long[]{5L, 3L, 4L, 1L, 2L},
+                new LocalDateTime[]{now, now.plusMinutes(1), now.plusMinutes(2), now.plusMinutes(3), now.plusMinutes(3)}));
+
+        JobPostDetail first = jobPostService.getDetail(jobPostId, null, 2, false);
+        assertArrayEquals(new long[]{2L, 1L}, first.getOtherJotPostByCompany().toArray());
+
+        JobPostDetail second = jobPostService.getDetail(jobPostId, first.getOtherJobPostNextCursor(), 2, false);
+        assertArrayEquals(new long[]{4L, 5L}, second.getOtherJotPostByCompany().toArray());
+        assertNull(second.getOtherJobPostNextCursor());
+    }
+
+    @Test
+    @DisplayName("공고 상세: 커서의 공고가 그 사이 삭제되어도 같은 위치부터 이어서 조회")
+    void getDetail_WhenCursorJobPostDeleted_ShouldContinueFromCursorPosition() {
+        Long jobPostId = 9L;
+        JobPostResponse response = JobPostResponse.builder()
+                .jobPostId(jobPostId)
+                .company(CompanyResponse.builder().companyId(1L).name("원티드").build())
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(jobPostId))).thenReturn(List.of(response));
+        // 이전 페이지의 마지막 공고(4, now + 3분)는 삭제됨
+        when(searchIndex.jobPostsOfCompany(1L)).thenReturn(CompanyJobPosts.of(
+                new long[]{1L, 2L, 3L, 5L},
+                new LocalDateTime[]{now, now.plusMinutes(1), now.plusMinutes(2), now.plusMinutes(4)}));
+
+        JobPostDetail detail = jobPostService.getDetail(jobPostId, new Cursor(now.plusMinutes(3), 4L).encode(), 2, false);
+
+        assertArrayEquals(new long[]{3L, 2L}, detail.getOtherJotPostByCompany().toArray());
+        assertEquals(new Cursor(now.plusMinutes(1), 2L), Cursor.decode(detail.getOtherJobPostNextCursor()));
+    }
+
+    @Test
+    @DisplayName("공고 상세: 다른 채용 공고 커서가 올바르지 않은 경우, InvalidCursorException")
+    void getDetail_WhenInvalidOthersCursor_ThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> jobPostService.getDetail(1L, "invalid", 20, false));
+        verifyNoInteractions(jobPostRepository);
+    }
+
+    @Test
+    @DisplayName("공고 상세: expand=others면 다른 채용 공고 요약을 한 번에 조회해 id 순서대로 포함")
+    void getDetail_WhenExpandOthers_ShouldIncludeSummariesInIdOrder() {
+        Long jobPostId = 2L;
+        JobPostResponse response = JobPostResponse.builder()
+                .jobPostId(jobPostId)
+                .company(CompanyResponse.builder().companyId(1L).name("원티드").build())
+                .build();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(jobPostId))).thenReturn(List.of(response));
+        when(searchIndex.jobPostsOfCompany(1L)).thenReturn(createdInIdOrder(1L, 2L, 5L, 7L));
+        // DB 조회 결과는 순서 보장 X, 그 사이 삭제된 공고(1)는 없음
+        when(jobPostRepository.findSummariesByIds(List.of(7L, 5L, 1L))).thenReturn(List.of(
+                new JobPostSummary(5L, "프론트엔드 개발자", 300000),
+                new JobPostSummary(7L, "백엔드 개발자", 500000)));
+
+        JobPostDetail detail = jobPostService.getDetail(jobPostId, null, 20, true);
+
+        assertEquals(List.of(7L, 5L), detail.getOtherJobPosts().stream().map(JobPostSummary::getJobPostId).collect(Collectors.toList()));
+        verify(jobPostRepository, times(1)).findSummariesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("공고 상세: expand 없이 조회하면 다른 채용 공고 요약을 조회하지 않음")
+    void getDetail_WhenNotExpanded_ShouldNotLoadSummaries() {
+        JobPostResponse response = JobPostResponse.builder().jobPostId(2L).build();
+        when(jobPostRepository.findDetail(2L, null, 20))
+                .thenReturn(Optional.of(new JobPostDetail(response, Arrays.asList(3L, 4L))));
+
+        JobPostDetail detail = jobPostService.getDetail(2L, null, 20, false);
+
+        assertNull(detail.getOtherJobPosts());
+        verify(jobPostRepository, never()).findSummariesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("공고 상세: 검색 인덱스가 준비되었고 공고가 없는 경우, JobPostNotFoundException")
+    void getDetail_WhenIndexReadyAndJobPostNotFound_ThrowJobPostNotFoundException() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(jobPostRepository.findByIds(List.of(1L))).thenReturn(List.of());
+
+        assertThrows(JobPostNotFoundException.class, () -> jobPostService.getDetail(1L, null, 20, false));
+        verify(searchIndex, never()).jobPostsOfCompany(anyLong());
     }
 
     @Test
     @DisplayName("공고 상세: 공고 정보를 찾을 수 없는 경우, JobPostNotFoundException")
     void getDetail_WhenJobPostNotFound_ThrowJobPostNotFoundException() {
-        when(jobPostRepository.findById(1L)).thenReturn(Optional.empty());
+        when(jobPostRepository.findDetail(1L, null, 20)).thenReturn(Optional.empty());
 
-        assertThrows(JobPostNotFoundException.class, () -> jobPostService.getDetail(1L));
-        verify(jobPostRepository, times(1)).findById(1L);
+        assertThrows(JobPostNotFoundException.class, () -> jobPostService.getDetail(1L, null, 20, false));
+        verify(jobPostRepository, times(1)).findDetail(1L, null, 20);
+    }
+
+    @Test
+    @DisplayName("회사의 채용 공고 목록: 다음 페이지가 있는 경우, 마지막 항목의 커서 반환")
+    void getByCompany_WhenHasNextPage_ShouldReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        JobPostResponse first = JobPostResponse.builder().jobPostId(3L).createDate(now).build();
+        JobPostResponse second = JobPostResponse.builder().jobPostId(2L).createDate(now.minusDays(1)).build();
+
+        // 페이지 크기(1) + 1건 조회 -> 2건이면 다음 페이지 존재
+        when(jobPostRepository.findPageByCompanyId(1L, null, 2)).thenReturn(Arrays.asList(first, second));
+
+        CursorPage<JobPostResponse> page = jobPostService.getByCompany(1L, null, 1);
+
+        assertEquals(List.of(first), page.getContent());
+        assertEquals(new Cursor(now, 3L), Cursor.decode(page.getNextCursor()));
+        verify(companyRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("회사의 채용 공고 목록: 회사가 존재하지 않는 경우, CompanyNotFoundException")
+    void getByCompany_WhenCompanyNotFound_ThrowCompanyNotFoundException() {
+        when(jobPostRepository.findPageByCompanyId(1L, null, 21)).thenReturn(List.of());
+        when(companyRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(CompanyNotFoundException.class, () -> jobPostService.getByCompany(1L, null, 20));
+    }
+
+    // id 순서대로 생성된 회사 채용 공고 목록
+    private static CompanyJobPosts createdInIdOrder(long... ids) {
+        LocalDateTime[] createdDates = new LocalDateTime[ids.length];
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < ids.length; i++) {
+            createdDates[i] = now.plusMinutes(i);
+        }
+
+        return CompanyJobPosts.of(ids, createdDates);
     }
-}
\ No newline at end of file
+}